@@ -0,0 +1,382 @@
+package com.event_management_system.audit;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileAttribute;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipException;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.event_management_system.service.ApplicationLoggerService;
+import com.event_management_system.util.HistoryCursor;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * File store for history rows past the retention window, partitioned by table
+ * and day: {@code <directory>/<table>/<yyyy-MM-dd>.ndjson.gz}, one row per
+ * line as a JSON object of its raw column values (foreign key ids, password
+ * hashes and all), so an archived row can be restored as it was. The file name
+ * is the index, so a range read opens only the days it covers. Each archival
+ * run appends a new gzip member to the day file, which readers see as one
+ * continuous stream.
+ * <p>
+ * The rows carry password hashes and bearer tokens, so directories and files
+ * are owner-only, like the audit spill files. Day files older than
+ * {@code app.audit.archive.max-age-days} are deleted by
+ * {@link #purgeOlderThan}.
+ */
+@Component
+public class AuditArchive {
+
+    public enum Table {
+        ACTIVITY("user_activity_history", "activity_date"),
+        LOGIN("user_login_logout_history", "login_time"),
+        PASSWORD("user_password_history", "change_date");
+
+        private final String tableName;
+
+        private final String timestampColumn;
+
+        Table(String tableName, String timestampColumn) {
+            this.tableName = tableName;
+            this.timestampColumn = timestampColumn;
+        }
+
+        public String getTableName() {
+            return tableName;
+        }
+
+        /** The column a row is partitioned and paged by. */
+        public String getTimestampColumn() {
+            return timestampColumn;
+        }
+    }
+
+    /**
+     * One archived row, keyed by column name. Timestamps are kept as ISO-8601
+     * strings so the JSON does not depend on the ObjectMapper's date settings.
+     */
+    public record Row(Map<String, Object> columns) {
+
+        /**
+         * Copies a JDBC row ({@code queryForList}), converting SQL temporal
+         * values to ISO strings.
+         */
+        public static Row of(Map<String, Object> jdbcRow) {
+            Map<String, Object> columns = new LinkedHashMap<>();
+            jdbcRow.forEach((column, value) -> {
+                if (value instanceof Timestamp timestamp) {
+                    value = timestamp.toLocalDateTime().toString();
+                } else if (value instanceof java.sql.Date date) {
+                    value = date.toLocalDate().toString();
+                } else if (value instanceof TemporalAccessor) {
+                    value = value.toString();
+                }
+                columns.put(column.toLowerCase(), value);
+            });
+            return new Row(columns);
+        }
+
+        public Long id() {
+            return getLong("id");
+        }
+
+        public Long getLong(String column) {
+            Object value = columns.get(column);
+            return value == null ? null : ((Number) value).longValue();
+        }
+
+        public String getString(String column) {
+            Object value = columns.get(column);
+            return value == null ? null : value.toString();
+        }
+
+        public LocalDateTime getTime(String column) {
+            Object value = columns.get(column);
+            return value == null ? null : LocalDateTime.parse(value.toString());
+        }
+    }
+
+    private static final String SUFFIX = ".ndjson.gz";
+
+    private static final Set<PosixFilePermission> DIRECTORY_PERMISSIONS = PosixFilePermissions.fromString("rwx------");
+
+    private static final Set<PosixFilePermission> FILE_PERMISSIONS = PosixFilePermissions.fromString("rw-------");
+
+    private static final TypeReference<LinkedHashMap<String, Object>> COLUMNS = new TypeReference<>() {
+    };
+
+    @Autowired
+    private ApplicationLoggerService log;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${app.audit.archive.directory:data/audit-archive}")
+    private String archiveDirectory;
+
+    /** Keeps readers from seeing a gzip member that is still being written. */
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Path root;
+
+    @PostConstruct
+    public void init() throws IOException {
+        root = Paths.get(archiveDirectory);
+        createOwnerOnlyDirectory(root);
+        for (Table table : Table.values()) {
+            createOwnerOnlyDirectory(root.resolve(table.tableName));
+        }
+    }
+
+    /**
+     * Appends rows to the day files of their timestamps.
+     */
+    public void append(Table table, List<Row> rows) {
+        Map<LocalDate, List<Row>> byDay = new LinkedHashMap<>();
+        for (Row row : rows) {
+            byDay.computeIfAbsent(row.getTime(table.timestampColumn).toLocalDate(), day -> new ArrayList<>()).add(row);
+        }
+        lock.writeLock().lock();
+        try {
+            for (Map.Entry<LocalDate, List<Row>> day : byDay.entrySet()) {
+                Path file = dayFile(table, day.getKey());
+                if (!Files.exists(file)) {
+                    Files.createFile(file, ownerOnly(FILE_PERMISSIONS));
+                }
+                try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(new GZIPOutputStream(
+                        Files.newOutputStream(file, StandardOpenOption.CREATE, StandardOpenOption.APPEND)),
+                        StandardCharsets.UTF_8))) {
+                    for (Row row : day.getValue()) {
+                        writer.write(objectMapper.writeValueAsString(row.columns()));
+                        writer.newLine();
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not append to the " + table + " archive", e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Deletes the day files of every table dated before {@code cutoff}.
+     *
+     * @return number of day files deleted
+     */
+    public int purgeOlderThan(LocalDate cutoff) {
+        int deleted = 0;
+        lock.writeLock().lock();
+        try {
+            for (Table table : Table.values()) {
+                for (LocalDate day : daysBetween(table, LocalDate.MIN, cutoff.minusDays(1))) {
+                    Files.deleteIfExists(dayFile(table, day));
+                    deleted++;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not purge the archive", e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return deleted;
+    }
+
+    /**
+     * Rewrites the day files of {@code table} without the rows matching
+     * {@code filter}. Reads the whole table, so it is meant for rare jobs such
+     * as deleting a user.
+     *
+     * @return number of rows removed
+     */
+    public int removeRows(Table table, Predicate<Row> filter) {
+        int removed = 0;
+        lock.writeLock().lock();
+        try {
+            for (LocalDate day : daysBetween(table, LocalDate.MIN, LocalDate.MAX)) {
+                removed += removeRows(table, day, filter);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not remove rows from the " + table + " archive", e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return removed;
+    }
+
+    /**
+     * Reads up to {@code limit} archived rows with timestamps in
+     * {@code [from, to]} that sort before {@code before}, newest first. Day
+     * files are streamed newest day first, keeping only the newest
+     * {@code limit} matches, and no older day is opened once the page is
+     * full. Rows archived twice (a run that stopped between writing and
+     * deleting) are returned once.
+     */
+    public List<Row> readNewestFirst(Table table, LocalDateTime from, LocalDateTime to, HistoryCursor before,
+            Predicate<Row> filter, int limit) {
+        LocalDateTime upTo = to.isBefore(before.at()) ? to : before.at();
+        TreeMap<HistoryCursor, Row> newest = new TreeMap<>();
+        for (LocalDate day : daysBetween(table, from.toLocalDate(), upTo.toLocalDate())) {
+            readDay(table, day, row -> {
+                LocalDateTime at = row.getTime(table.timestampColumn);
+                if (at == null || row.id() == null) {
+                    return;
+                }
+                HistoryCursor key = new HistoryCursor(at, row.id());
+                if (!key.at().isBefore(from) && !key.at().isAfter(to) && key.compareTo(before) < 0 && filter.test(row)) {
+                    newest.put(key, row);
+                    if (newest.size() > limit) {
+                        newest.pollFirstEntry();
+                    }
+                }
+            });
+            if (newest.size() >= limit) {
+                break;
+            }
+        }
+        return new ArrayList<>(newest.descendingMap().values());
+    }
+
+    /**
+     * Archived days of {@code table} within {@code [from, to]}, newest first.
+     */
+    private List<LocalDate> daysBetween(Table table, LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(root.resolve(table.tableName))) {
+            return files
+                    .map(file -> file.getFileName().toString())
+                    .filter(name -> name.endsWith(SUFFIX))
+                    .map(name -> parseDay(name.substring(0, name.length() - SUFFIX.length())))
+                    .filter(day -> day != null && !day.isBefore(from) && !day.isAfter(to))
+                    .sorted(Comparator.reverseOrder())
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not list the " + table + " archive", e);
+        }
+    }
+
+    /**
+     * Streams one day file line by line into {@code consumer}.
+     */
+    private void readDay(Table table, LocalDate day, Consumer<Row> consumer) {
+        Path file = dayFile(table, day);
+        lock.readLock().lock();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                consumer.accept(new Row(objectMapper.readValue(line, COLUMNS)));
+            }
+        } catch (EOFException | ZipException e) {
+            // A run killed mid-write leaves a truncated last member; the rows before it are intact.
+            log.warn("[AuditArchive] WARN - readDay() - Truncated archive file {}: {}", file, e.getMessage());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read archive file " + file, e);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Copies one day file without the matching rows and swaps the copy in;
+     * caller holds the write lock.
+     */
+    private int removeRows(Table table, LocalDate day, Predicate<Row> filter) throws IOException {
+        Path file = dayFile(table, day);
+        Path rewritten = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.deleteIfExists(rewritten);
+        Files.createFile(rewritten, ownerOnly(FILE_PERMISSIONS));
+        int[] removed = new int[1];
+        try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(new GZIPOutputStream(
+                Files.newOutputStream(rewritten)), StandardCharsets.UTF_8))) {
+            readDay(table, day, row -> {
+                if (filter.test(row)) {
+                    removed[0]++;
+                    return;
+                }
+                try {
+                    writer.write(objectMapper.writeValueAsString(row.columns()));
+                    writer.newLine();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(rewritten);
+            throw e;
+        }
+        if (removed[0] == 0) {
+            Files.delete(rewritten);
+        } else {
+            Files.move(rewritten, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        return removed[0];
+    }
+
+    private void createOwnerOnlyDirectory(Path directory) throws IOException {
+        Files.createDirectories(directory, ownerOnly(DIRECTORY_PERMISSIONS));
+        if (isPosix()) {
+            // createDirectories leaves an existing directory's permissions as they were.
+            Files.setPosixFilePermissions(directory, DIRECTORY_PERMISSIONS);
+        }
+    }
+
+    private FileAttribute<?>[] ownerOnly(Set<PosixFilePermission> permissions) {
+        return isPosix() ? new FileAttribute<?>[] { PosixFilePermissions.asFileAttribute(permissions) } : new FileAttribute<?>[0];
+    }
+
+    private boolean isPosix() {
+        return root.getFileSystem().supportedFileAttributeViews().contains("posix");
+    }
+
+    private Path dayFile(Table table, LocalDate day) {
+        return root.resolve(table.tableName).resolve(day + SUFFIX);
+    }
+
+    private static LocalDate parseDay(String value) {
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
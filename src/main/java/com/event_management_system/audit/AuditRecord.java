@@ -0,0 +1,140 @@
+package com.event_management_system.audit;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+/**
+ * One buffered history row. Records carry only ids and values captured on the
+ * calling thread, so they can be spilled to disk as JSON and inserted later
+ * without an entity manager.
+ */
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "type")
+@JsonSubTypes({
+        @JsonSubTypes.Type(value = AuditRecord.Activity.class, name = "activity"),
+        @JsonSubTypes.Type(value = AuditRecord.Login.class, name = "login"),
+        @JsonSubTypes.Type(value = AuditRecord.Logout.class, name = "logout"),
+        @JsonSubTypes.Type(value = AuditRecord.PasswordChange.class, name = "password")
+})
+public sealed interface AuditRecord {
+
+    String insertSql();
+
+    void bind(PreparedStatement ps) throws SQLException;
+
+    record Activity(Long userId, String userGroup, String activityTypeCode, String activityTypeName,
+            String description, String deviceId, String username, Long createdBy, LocalDateTime activityDate,
+            String ip, String sessionId) implements AuditRecord {
+
+        private static final String INSERT_SQL = "INSERT INTO user_activity_history "
+                + "(user_id, user_group, activity_type_code, activity_type_name, description, device_id, username, "
+                + "created_by, activity_date, created_date, updated_date, ip, session_id) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+        @Override
+        public String insertSql() {
+            return INSERT_SQL;
+        }
+
+        @Override
+        public void bind(PreparedStatement ps) throws SQLException {
+            Timestamp at = Timestamp.valueOf(activityDate);
+            ps.setLong(1, userId);
+            ps.setString(2, userGroup);
+            ps.setString(3, activityTypeCode);
+            ps.setString(4, activityTypeName);
+            ps.setString(5, description);
+            ps.setString(6, deviceId);
+            ps.setString(7, username);
+            ps.setObject(8, createdBy);
+            ps.setTimestamp(9, at);
+            ps.setTimestamp(10, at);
+            ps.setTimestamp(11, at);
+            ps.setString(12, ip);
+            ps.setString(13, sessionId);
+        }
+    }
+
+    record Login(Long userId, String userToken, String userType, String requestIp, String deviceInfo,
+            String loginStatus, LocalDateTime loginTime) implements AuditRecord {
+
+        private static final String INSERT_SQL = "INSERT INTO user_login_logout_history "
+                + "(user_id, user_token, user_type, request_ip, device_info, login_status, login_time, created_at, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+        @Override
+        public String insertSql() {
+            return INSERT_SQL;
+        }
+
+        @Override
+        public void bind(PreparedStatement ps) throws SQLException {
+            Timestamp at = Timestamp.valueOf(loginTime);
+            ps.setLong(1, userId);
+            ps.setString(2, userToken);
+            ps.setString(3, userType);
+            ps.setString(4, requestIp);
+            ps.setString(5, deviceInfo);
+            ps.setString(6, loginStatus);
+            ps.setTimestamp(7, at);
+            ps.setTimestamp(8, at);
+            ps.setTimestamp(9, at);
+        }
+    }
+
+    /**
+     * Closes the login row of {@code userToken}. An update rather than an
+     * insert: the sink applies it after the inserts of the same flush, so a
+     * login and its logout may be buffered together. A null loginStatus keeps
+     * the row's status.
+     */
+    record Logout(String userToken, String loginStatus, LocalDateTime logoutTime) implements AuditRecord {
+
+        private static final String UPDATE_SQL = "UPDATE user_login_logout_history "
+                + "SET logout_time = ?, updated_at = ?, login_status = COALESCE(?, login_status) WHERE user_token = ?";
+
+        @Override
+        public String insertSql() {
+            return UPDATE_SQL;
+        }
+
+        @Override
+        public void bind(PreparedStatement ps) throws SQLException {
+            Timestamp at = Timestamp.valueOf(logoutTime);
+            ps.setTimestamp(1, at);
+            ps.setTimestamp(2, at);
+            ps.setString(3, loginStatus);
+            ps.setString(4, userToken);
+        }
+    }
+
+    record PasswordChange(Long userId, Long changedBy, String oldPassword, String newPassword,
+            LocalDateTime changeDate) implements AuditRecord {
+
+        private static final String INSERT_SQL = "INSERT INTO user_password_history "
+                + "(user_id, password_change_by, old_password, new_password, change_date, created_by, created_at, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+        @Override
+        public String insertSql() {
+            return INSERT_SQL;
+        }
+
+        @Override
+        public void bind(PreparedStatement ps) throws SQLException {
+            Timestamp at = Timestamp.valueOf(changeDate);
+            ps.setLong(1, userId);
+            ps.setLong(2, changedBy);
+            ps.setString(3, oldPassword);
+            ps.setString(4, newPassword);
+            ps.setTimestamp(5, at);
+            ps.setLong(6, changedBy);
+            ps.setTimestamp(7, at);
+            ps.setTimestamp(8, at);
+        }
+    }
+}
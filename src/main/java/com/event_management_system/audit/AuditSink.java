@@ -0,0 +1,470 @@
+package com.event_management_system.audit;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.event_management_system.service.ApplicationLoggerService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Buffers history rows in memory and writes them with JDBC batch inserts every
+ * {@code app.audit.batch-size} records or {@code app.audit.flush-interval-millis},
+ * whichever comes first, in a transaction of their own.
+ * <p>
+ * Each record is appended to a spill file (owner read/write only, as records
+ * carry tokens and password hashes) before it is buffered. A flush rotates to
+ * a new spill file and deletes the old one once its records are in the
+ * database; spill files left behind by a crash are replayed on startup, so
+ * delivery is at-least-once. Rows that violate a constraint (for example a
+ * user deleted before the flush) are dropped one by one instead of failing
+ * the whole batch.
+ * <p>
+ * Spill files are forced to disk only when rotated, so they survive a JVM
+ * crash but an OS crash or power loss can take the last second of records.
+ * <p>
+ * While the database is down, unwritten records are held in memory up to
+ * {@code app.audit.max-pending}. Past that the sink switches to spill-only:
+ * records go to the spill files alone, and once the database is back the
+ * files are replayed one at a time before buffering resumes.
+ */
+@Component
+public class AuditSink {
+
+    private static final String SPILL_PREFIX = "audit-";
+
+    private static final String SPILL_SUFFIX = ".ndjson";
+
+    @Autowired
+    private ApplicationLoggerService log;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    @Qualifier("auditExecutor")
+    private TaskExecutor auditExecutor;
+
+    @Value("${app.audit.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.audit.spill-directory:data/audit-spill}")
+    private String spillDirectory;
+
+    @Value("${app.audit.max-pending:20000}")
+    private int maxPending;
+
+    private final ConcurrentLinkedQueue<AuditRecord> buffer = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger buffered = new AtomicInteger();
+
+    private final AtomicBoolean flushQueued = new AtomicBoolean();
+
+    /** Submitters share the read lock; rotating the spill file takes the write lock. */
+    private final ReentrantReadWriteLock spillLock = new ReentrantReadWriteLock();
+
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private final AtomicLong spillSequence = new AtomicLong();
+
+    private final AtomicLong written = new AtomicLong();
+
+    private final AtomicLong dropped = new AtomicLong();
+
+    private final AtomicLong failedFlushes = new AtomicLong();
+
+    private final AtomicLong spillErrors = new AtomicLong();
+
+    private Path directory;
+
+    private Path spillPath;
+
+    private FileChannel spill;
+
+    /** Records drained from the buffer but not yet written; guarded by flushLock. */
+    private final List<AuditRecord> pending = new ArrayList<>();
+
+    /**
+     * Spill files not yet written to the database; guarded by flushLock. Their
+     * records are all in {@link #pending} unless {@link #spillOnly} is set.
+     */
+    private final List<Path> pendingSpills = new ArrayList<>();
+
+    /** Records go to the spill file only; switched under the spill write lock. */
+    private volatile boolean spillOnly;
+
+    private TransactionTemplate ownTransaction;
+
+    @PostConstruct
+    public void init() throws IOException {
+        ownTransaction = new TransactionTemplate(transactionManager);
+        ownTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        directory = Paths.get(spillDirectory);
+        if (isPosix()) {
+            Files.createDirectories(directory, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwx------")));
+        } else {
+            Files.createDirectories(directory);
+        }
+        List<Path> leftovers;
+        try (Stream<Path> files = Files.list(directory)) {
+            leftovers = files
+                    .filter(file -> {
+                        String name = file.getFileName().toString();
+                        return name.startsWith(SPILL_PREFIX) && name.endsWith(SPILL_SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        }
+        pendingSpills.addAll(leftovers);
+        openSpill();
+        if (!leftovers.isEmpty()) {
+            // Replayed file by file on the first flush, however many a long outage left behind.
+            spillOnly = true;
+            log.info("[AuditSink] INFO - init() - Replaying {} spill files", leftovers.size());
+        }
+    }
+
+    /**
+     * Queues a record for the next flush. Never touches the database on the
+     * calling thread.
+     */
+    public void submit(AuditRecord record) {
+        byte[] line = toLine(record);
+        int size;
+        spillLock.readLock().lock();
+        try {
+            appendToSpill(line);
+            if (spillOnly) {
+                return;
+            }
+            buffer.offer(record);
+            size = buffered.incrementAndGet();
+        } finally {
+            spillLock.readLock().unlock();
+        }
+        if (size >= batchSize && flushQueued.compareAndSet(false, true)) {
+            try {
+                auditExecutor.execute(this::scheduledFlush);
+            } catch (RejectedExecutionException e) {
+                flushQueued.set(false);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.audit.flush-interval-millis:1000}")
+    public void scheduledFlush() {
+        if (flushLock.tryLock()) {
+            try {
+                flushLocked();
+            } finally {
+                flushLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Writes everything submitted so far before returning. Used before reads
+     * or deletes that must see the history rows.
+     */
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushLocked();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+        try {
+            spill.close();
+            if (buffered.get() == 0 && !spillOnly) {
+                Files.deleteIfExists(spillPath);
+            }
+        } catch (IOException e) {
+            log.warn("[AuditSink] WARN - shutdown() - Could not close spill file {}: {}", spillPath, e.getMessage());
+        }
+    }
+
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("buffered", buffered.get());
+        metrics.put("spillOnly", spillOnly);
+        metrics.put("written", written.get());
+        metrics.put("dropped", dropped.get());
+        metrics.put("failedFlushes", failedFlushes.get());
+        metrics.put("spillErrors", spillErrors.get());
+        return metrics;
+    }
+
+    private void flushLocked() {
+        flushQueued.set(false);
+        drain();
+        if (spillOnly) {
+            // Anything buffered just before the switch is in pendingSpills too.
+            pending.clear();
+            replaySpills();
+            return;
+        }
+        if (pending.isEmpty()) {
+            return;
+        }
+        try {
+            write(pending);
+        } catch (RuntimeException e) {
+            failedFlushes.incrementAndGet();
+            if (pending.size() >= maxPending) {
+                // The records stay in pendingSpills; stop holding them in memory.
+                spillLock.writeLock().lock();
+                try {
+                    spillOnly = true;
+                } finally {
+                    spillLock.writeLock().unlock();
+                }
+                log.error("[AuditSink] ERROR - flush() - {} audit records unwritten, switching to spill-only: {}",
+                        pending.size(), e.getMessage());
+                pending.clear();
+                return;
+            }
+            log.warn("[AuditSink] WARN - flush() - Could not write {} audit records, keeping them for the next flush: {}",
+                    pending.size(), e.getMessage());
+            return;
+        }
+        deleteSpills();
+    }
+
+    /**
+     * Writes the spill files oldest first, deleting each once its records are
+     * in the database, and leaves spill-only mode when the current file is
+     * empty too. Stops at the first failure; the next flush carries on.
+     */
+    private void replaySpills() {
+        while (true) {
+            Iterator<Path> files = pendingSpills.iterator();
+            while (files.hasNext()) {
+                Path file = files.next();
+                try {
+                    List<AuditRecord> records = readSpill(file);
+                    write(records);
+                    Files.deleteIfExists(file);
+                } catch (IOException | RuntimeException e) {
+                    failedFlushes.incrementAndGet();
+                    log.warn("[AuditSink] WARN - flush() - Could not replay spill file {}, retrying on the next flush: {}",
+                            file, e.getMessage());
+                    return;
+                }
+                files.remove();
+            }
+            spillLock.writeLock().lock();
+            try {
+                if (spill.size() == 0) {
+                    spillOnly = false;
+                    log.info("[AuditSink] INFO - flush() - Spill files replayed, buffering again");
+                    return;
+                }
+                rotateSpill();
+            } catch (IOException e) {
+                spillErrors.incrementAndGet();
+                log.error("[AuditSink] ERROR - flush() - Could not rotate spill file {}: {}", spillPath, e.getMessage());
+                return;
+            } finally {
+                spillLock.writeLock().unlock();
+            }
+        }
+    }
+
+    private void write(List<AuditRecord> records) {
+        try {
+            insertBatch(records);
+            written.addAndGet(records.size());
+            records.clear();
+        } catch (DataIntegrityViolationException e) {
+            insertOneByOne(records);
+        }
+    }
+
+    /**
+     * Moves the buffered records into {@link #pending} and rotates the spill
+     * file. Under the write lock no submit is half done, so the closed file
+     * holds exactly the records drained here (plus those already pending).
+     */
+    private void drain() {
+        spillLock.writeLock().lock();
+        try {
+            int count = buffered.get();
+            if (count == 0) {
+                return;
+            }
+            for (int i = 0; i < count; i++) {
+                pending.add(buffer.poll());
+            }
+            buffered.addAndGet(-count);
+            rotateSpill();
+        } catch (IOException e) {
+            spillErrors.incrementAndGet();
+            log.error("[AuditSink] ERROR - drain() - Could not rotate spill file {}: {}", spillPath, e.getMessage());
+        } finally {
+            spillLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Groups the records by statement; logouts go last so they find the login
+     * rows inserted in the same batch.
+     */
+    private void insertBatch(List<AuditRecord> records) {
+        Map<String, List<AuditRecord>> bySql = new LinkedHashMap<>();
+        List<AuditRecord> logouts = new ArrayList<>();
+        for (AuditRecord record : records) {
+            if (record instanceof AuditRecord.Logout) {
+                logouts.add(record);
+            } else {
+                bySql.computeIfAbsent(record.insertSql(), sql -> new ArrayList<>()).add(record);
+            }
+        }
+        if (!logouts.isEmpty()) {
+            bySql.put(logouts.get(0).insertSql(), logouts);
+        }
+        ownTransaction.executeWithoutResult(status -> bySql.forEach((sql, rows) ->
+                jdbcTemplate.batchUpdate(sql, rows, batchSize, (ps, record) -> record.bind(ps))));
+    }
+
+    private void insertOneByOne(List<AuditRecord> records) {
+        Iterator<AuditRecord> iterator = records.iterator();
+        while (iterator.hasNext()) {
+            AuditRecord record = iterator.next();
+            try {
+                ownTransaction.executeWithoutResult(status ->
+                        jdbcTemplate.update(record.insertSql(), ps -> record.bind(ps)));
+                written.incrementAndGet();
+            } catch (DataIntegrityViolationException e) {
+                dropped.incrementAndGet();
+                log.error("[AuditSink] ERROR - flush() - Dropping {} audit record: {}", record.getClass().getSimpleName(),
+                        e.getMessage());
+            }
+            iterator.remove();
+        }
+    }
+
+    private void deleteSpills() {
+        for (Path file : pendingSpills) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("[AuditSink] WARN - flush() - Could not delete spill file {}: {}", file, e.getMessage());
+            }
+        }
+        pendingSpills.clear();
+    }
+
+    /** Closes the current spill file into {@link #pendingSpills}; caller holds the write lock. */
+    private void rotateSpill() throws IOException {
+        spill.force(false);
+        spill.close();
+        pendingSpills.add(spillPath);
+        openSpill();
+    }
+
+    private void openSpill() throws IOException {
+        spillPath = directory.resolve(String.format("%s%d-%06d%s", SPILL_PREFIX, System.currentTimeMillis(),
+                spillSequence.incrementAndGet(), SPILL_SUFFIX));
+        Set<StandardOpenOption> options = EnumSet.of(StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        spill = isPosix()
+                ? FileChannel.open(spillPath, options, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------")))
+                : FileChannel.open(spillPath, options);
+    }
+
+    private boolean isPosix() {
+        return directory.getFileSystem().supportedFileAttributeViews().contains("posix");
+    }
+
+    private void appendToSpill(byte[] line) {
+        try {
+            ByteBuffer bytes = ByteBuffer.wrap(line);
+            while (bytes.hasRemaining()) {
+                spill.write(bytes);
+            }
+        } catch (IOException e) {
+            spillErrors.incrementAndGet();
+            log.error("[AuditSink] ERROR - submit() - Could not spill audit record to {}: {}", spillPath, e.getMessage());
+        }
+    }
+
+    private byte[] toLine(AuditRecord record) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(record);
+            byte[] line = new byte[json.length + 1];
+            System.arraycopy(json, 0, line, 0, json.length);
+            line[json.length] = '\n';
+            return line;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not serialize audit record", e);
+        }
+    }
+
+    private List<AuditRecord> readSpill(Path file) throws IOException {
+        List<AuditRecord> records = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    records.add(objectMapper.readValue(line, AuditRecord.class));
+                } catch (IOException e) {
+                    // A crash mid-append leaves a partial last line.
+                    log.warn("[AuditSink] WARN - init() - Skipping unreadable line in {}: {}", file, e.getMessage());
+                }
+            }
+        }
+        return records;
+    }
+}
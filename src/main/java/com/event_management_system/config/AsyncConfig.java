@@ -1,26 +1,104 @@
 package com.event_management_system.config;
 
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.core.task.TaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import com.event_management_system.util.BulkheadTaskExecutor;
+import com.event_management_system.util.BulkheadTaskExecutor.Backpressure;
 
+/**
+ * One bounded pool per workload (bulkheads) so that, for example, a large
+ * invitation import cannot take the threads that send emails or render
+ * reports. Sizes live under {@code app.executors.<name>.*}. With virtual
+ * threads enabled, taskExecutor and emailExecutor come from
+ * VirtualThreadConfig instead.
+ */
 @Configuration
 @EnableAsync
 public class AsyncConfig {
 
+    /**
+     * Default executor for {@code @Async} listeners.
+     */
     @Bean(name = "taskExecutor")
-    public TaskExecutor taskExecutor() {
+    @ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "false", matchIfMissing = true)
+    public ThreadPoolTaskExecutor taskExecutor(
+            @Value("${app.executors.async.threads:8}") int threads,
+            @Value("${app.executors.async.queue-capacity:1000}") int queueCapacity) {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(50); // Increased for higher concurrency
-        executor.setMaxPoolSize(100); // Increased for burst loads
-        executor.setQueueCapacity(5000); // Increased to buffer more tasks
-        executor.setThreadNamePrefix("invitation-processor-");
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadNamePrefix("async-");
         executor.setWaitForTasksToCompleteOnShutdown(true);
         executor.setAwaitTerminationSeconds(120);
         executor.initialize();
         return executor;
     }
+
+    /**
+     * Bulk invitation ingestion jobs. Uploads wait for a free slot rather than
+     * running a whole import on the request thread.
+     */
+    @Bean(name = "ingestionExecutor")
+    public BulkheadTaskExecutor ingestionExecutor(
+            @Value("${app.executors.ingestion.threads:2}") int threads,
+            @Value("${app.executors.ingestion.queue-capacity:20}") int queueCapacity,
+            @Value("${app.executors.ingestion.block-timeout-millis:5000}") long blockTimeoutMillis) {
+        return new BulkheadTaskExecutor("ingestion", threads, queueCapacity, Backpressure.BLOCK, blockTimeoutMillis);
+    }
+
+    /**
+     * SMTP sends and their retries.
+     */
+    @Bean(name = "emailExecutor")
+    @ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "false", matchIfMissing = true)
+    public BulkheadTaskExecutor emailExecutor(
+            @Value("${app.executors.email.threads:10}") int threads,
+            @Value("${app.executors.email.queue-capacity:2000}") int queueCapacity,
+            @Value("${app.executors.email.block-timeout-millis:10000}") long blockTimeoutMillis) {
+        return new BulkheadTaskExecutor("email", threads, queueCapacity, Backpressure.BLOCK, blockTimeoutMillis);
+    }
+
+    /**
+     * PDF report rendering; bounds how many Jasper fills hold memory at once.
+     */
+    @Bean(name = "reportExecutor")
+    public BulkheadTaskExecutor reportExecutor(
+            @Value("${app.executors.report.threads:4}") int threads,
+            @Value("${app.executors.report.queue-capacity:20}") int queueCapacity,
+            @Value("${app.executors.report.block-timeout-millis:10000}") long blockTimeoutMillis) {
+        return new BulkheadTaskExecutor("report", threads, queueCapacity, Backpressure.BLOCK, blockTimeoutMillis);
+    }
+
+    /**
+     * Background user deletions. One worker keeps the chunked deletes of
+     * different users from competing for the same history indexes.
+     */
+    @Bean(name = "deletionExecutor")
+    public BulkheadTaskExecutor deletionExecutor(
+            @Value("${app.executors.deletion.threads:1}") int threads,
+            @Value("${app.executors.deletion.queue-capacity:50}") int queueCapacity,
+            @Value("${app.executors.deletion.block-timeout-millis:5000}") long blockTimeoutMillis) {
+        return new BulkheadTaskExecutor("deletion", threads, queueCapacity, Backpressure.BLOCK, blockTimeoutMillis);
+    }
+
+    /**
+     * Audit history flushes. A full queue rejects at once instead of running
+     * the flush on the caller; the records are already spilled and the
+     * scheduled flush picks them up.
+     */
+    @Bean(name = "auditExecutor")
+    public BulkheadTaskExecutor auditExecutor(
+            @Value("${app.executors.audit.threads:2}") int threads,
+            @Value("${app.executors.audit.queue-capacity:1000}") int queueCapacity) {
+        return new BulkheadTaskExecutor("audit", threads, queueCapacity, Backpressure.BLOCK, 0);
+    }
 }
@@ -0,0 +1,57 @@
+package com.event_management_system.config;
+
+import java.util.Properties;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import com.event_management_system.mail.PooledMailTransport;
+import com.event_management_system.mail.SmtpCircuitBreaker;
+
+import jakarta.mail.Session;
+
+/**
+ * Builds the SMTP connection pool from the auto-configured
+ * {@code spring.mail.*} sender, so host, credentials and STARTTLS settings stay
+ * in one place; {@code app.mail.pool.*} sizes the pool and sets the socket
+ * timeouts. JavaMail waits forever by default, and a hung send would hold a
+ * pool permit without ever counting as a failure for the circuit breaker.
+ */
+@Configuration
+public class MailTransportConfig {
+
+    @Bean(destroyMethod = "close")
+    public PooledMailTransport pooledMailTransport(JavaMailSenderImpl mailSender,
+            @Value("${app.mail.pool.max-size:10}") int maxSize,
+            @Value("${app.mail.pool.max-messages-per-connection:100}") int maxMessagesPerConnection,
+            @Value("${app.mail.pool.max-idle-millis:30000}") long maxIdleMillis,
+            @Value("${app.mail.pool.borrow-timeout-millis:30000}") long borrowTimeoutMillis,
+            @Value("${app.mail.pool.connect-timeout-millis:10000}") long connectTimeoutMillis,
+            @Value("${app.mail.pool.read-timeout-millis:30000}") long readTimeoutMillis,
+            @Value("${app.mail.pool.write-timeout-millis:30000}") long writeTimeoutMillis,
+            @Value("${app.mail.circuit.failure-threshold:5}") int failureThreshold,
+            @Value("${app.mail.circuit.open-millis:30000}") long openMillis,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        if (virtualThreads) {
+            // SMTP sends hold a JavaMail monitor across socket I/O and pin their carrier thread;
+            // keep at least one carrier free for everything else.
+            maxSize = Math.max(1, Math.min(maxSize, carrierParallelism() - 1));
+        }
+        String protocol = mailSender.getProtocol() == null ? "smtp" : mailSender.getProtocol();
+        Properties properties = new Properties();
+        properties.putAll(mailSender.getJavaMailProperties());
+        properties.setProperty("mail." + protocol + ".connectiontimeout", Long.toString(connectTimeoutMillis));
+        properties.setProperty("mail." + protocol + ".timeout", Long.toString(readTimeoutMillis));
+        properties.setProperty("mail." + protocol + ".writetimeout", Long.toString(writeTimeoutMillis));
+        return new PooledMailTransport(Session.getInstance(properties), protocol, mailSender.getHost(),
+                mailSender.getPort(), mailSender.getUsername(), mailSender.getPassword(),
+                maxSize, maxMessagesPerConnection, maxIdleMillis, borrowTimeoutMillis,
+                new SmtpCircuitBreaker(failureThreshold, openMillis));
+    }
+
+    private static int carrierParallelism() {
+        return Integer.getInteger("jdk.virtualThreadScheduler.parallelism", Runtime.getRuntime().availableProcessors());
+    }
+}
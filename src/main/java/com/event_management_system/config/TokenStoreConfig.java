@@ -0,0 +1,50 @@
+package com.event_management_system.config;
+
+import java.nio.file.Paths;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.event_management_system.security.tokenstore.FileTokenStore;
+import com.event_management_system.security.tokenstore.InMemoryTokenStore;
+import com.event_management_system.security.tokenstore.JdbcTokenStore;
+import com.event_management_system.security.tokenstore.TokenStore;
+import com.event_management_system.service.ApplicationLoggerService;
+
+/**
+ * Selects the token store with {@code app.token-store.type}: memory (default),
+ * jdbc or file.
+ */
+@Configuration
+public class TokenStoreConfig {
+
+    @Value("${app.token-cache.max-size:100000}")
+    private int maxSize;
+
+    @Value("${app.token-cache.bucket-millis:60000}")
+    private long bucketMillis;
+
+    @Bean
+    @ConditionalOnProperty(name = "app.token-store.type", havingValue = "memory", matchIfMissing = true)
+    public TokenStore inMemoryTokenStore() {
+        return new InMemoryTokenStore(maxSize, bucketMillis);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.token-store.type", havingValue = "jdbc")
+    public JdbcTokenStore jdbcTokenStore(JdbcTemplate jdbcTemplate,
+            @Value("${app.token-store.jdbc.purge-batch-size:1000}") int purgeBatchSize) {
+        return new JdbcTokenStore(jdbcTemplate, purgeBatchSize);
+    }
+
+    @Bean(initMethod = "initialize", destroyMethod = "close")
+    @ConditionalOnProperty(name = "app.token-store.type", havingValue = "file")
+    public FileTokenStore fileTokenStore(ApplicationLoggerService log,
+            @Value("${app.token-store.file.directory:./data/tokens}") String directory,
+            @Value("${app.token-store.file.compact-threshold:10000}") int compactThreshold) {
+        return new FileTokenStore(log, Paths.get(directory), maxSize, bucketMillis, compactThreshold);
+    }
+}
@@ -0,0 +1,54 @@
+package com.event_management_system.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+/**
+ * Virtual-thread mode, enabled with {@code spring.threads.virtual.enabled=true}
+ * (Java 21, build with {@code -Pjava21}); Spring Boot then also runs Tomcat
+ * requests on virtual threads. The blocking I/O executors below start one
+ * virtual thread per task instead of sizing a platform pool, replacing the
+ * same-named beans in AsyncConfig and SchedulerConfig.
+ * <p>
+ * A virtual thread that blocks while holding a monitor pins its carrier, so
+ * every limit here stays bounded: JavaMail's SMTP transport synchronizes
+ * around socket I/O, which is why MailTransportConfig caps the connection
+ * semaphore at one less than the carrier count in this mode, leaving a
+ * carrier free for everything else; JDBC work waits on Hikari,
+ * which parks rather than pins, but is still throttled so a burst cannot
+ * queue thousands of connection requests. Pinning can be checked with
+ * {@code -Djdk.tracePinnedThreads=short}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    @Bean(name = "taskExecutor")
+    public SimpleAsyncTaskExecutor taskExecutor(
+            @Value("${app.virtual-threads.async-concurrency:64}") int concurrencyLimit) {
+        return virtualExecutor("async-vt-", concurrencyLimit);
+    }
+
+    @Bean(name = "emailExecutor")
+    public SimpleAsyncTaskExecutor emailExecutor(
+            @Value("${app.virtual-threads.email-concurrency:500}") int concurrencyLimit) {
+        // Sends beyond the SMTP pool size park on its semaphore, which costs a few hundred bytes each.
+        return virtualExecutor("email-vt-", concurrencyLimit);
+    }
+
+    @Bean(name = "invitationExecutor")
+    public SimpleAsyncTaskExecutor invitationExecutor(@Value("${app.invitations.window:10}") int window) {
+        return virtualExecutor("invitation-sender-vt-", window);
+    }
+
+    private static SimpleAsyncTaskExecutor virtualExecutor(String threadNamePrefix, int concurrencyLimit) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(concurrencyLimit);
+        executor.setTaskTerminationTimeout(60_000);
+        return executor;
+    }
+}
@@ -2,10 +2,13 @@
 package com.event_management_system.controller;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -17,31 +20,36 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.event_management_system.dto.EventCursorPageDTO;
 import com.event_management_system.dto.EventRequestDTO;
 import com.event_management_system.dto.EventResponseDTO;
+import com.event_management_system.dto.InvitationIngestionJobDTO;
 import com.event_management_system.entity.User;
 import com.event_management_system.exception.GlobalExceptionHandler.BadRequestException;
 import com.event_management_system.exception.GlobalExceptionHandler.ResourceNotFoundException;
 import com.event_management_system.repository.UserRepository;
 import com.event_management_system.service.ApplicationLoggerService;
 import com.event_management_system.service.EventService;
+import com.event_management_system.service.PublicEventCacheService;
 import com.event_management_system.service.ReportService;
+import com.event_management_system.util.BulkheadTaskExecutor;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
-import net.sf.jasperreports.engine.JRException;
     
 @RestController
 @RequestMapping("/api/events")
@@ -52,6 +60,9 @@ public class EventController {
         @Autowired
         private EventService eventService;
 
+        @Autowired
+        private PublicEventCacheService publicEventCache;
+
         @Autowired
         private UserRepository userRepository;
 
@@ -61,6 +72,10 @@ public class EventController {
         @Autowired
         private ReportService reportService;
 
+        @Autowired
+        @Qualifier("reportExecutor")
+        private BulkheadTaskExecutor reportExecutor;
+
 
         @PostMapping
         @Operation(summary = "Create a new event", description = "Creates a new event with provided details. The start time must be before end time.")
@@ -131,25 +146,10 @@ public class EventController {
 
                         log.debug("User authenticated: userId={}, email={}", currentUser.getId(), email);
 
-                        List<EventResponseDTO> allVisibleEvents = eventService.getEventsForUser(currentUser.getId());
-
-                        int startIndex = page * size;
-                        int endIndex = Math.min(startIndex + size, allVisibleEvents.size());
-
-                        List<EventResponseDTO> paginatedEvents;
-                        if (startIndex >= allVisibleEvents.size()) {
-                                paginatedEvents = java.util.Collections.emptyList();
-                        } else {
-                                paginatedEvents = allVisibleEvents.subList(startIndex, endIndex);
-                        }
-
-                        Page<EventResponseDTO> eventPage = new org.springframework.data.domain.PageImpl<>(
-                                        paginatedEvents,
-                                        PageRequest.of(page, size),
-                                        allVisibleEvents.size());
+                        Page<EventResponseDTO> eventPage = eventService.getEventsForUser(currentUser.getId(), page, size);
 
                         log.info("Events retrieved successfully: totalEvents={}, page={}, size={}, userId={}",
-                                        allVisibleEvents.size(), page, size, currentUser.getId());
+                                        eventPage.getTotalElements(), page, size, currentUser.getId());
 
                         return ResponseEntity.ok(eventPage);
                 } catch (Exception e) {
@@ -159,10 +159,52 @@ public class EventController {
         }
 
 
+        @GetMapping("/cursor")
+        @Operation(summary = "Scroll events", description = "Retrieves visible events ordered by id using keyset pagination. Pass the returned nextCursor as 'after' to fetch the following page.")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Events retrieved successfully", content = @Content(schema = @Schema(implementation = EventCursorPageDTO.class))),
+                        @ApiResponse(responseCode = "400", description = "Invalid page size"),
+                        @ApiResponse(responseCode = "500", description = "Internal server error")
+        })
+        public ResponseEntity<EventCursorPageDTO> scrollEvents(
+                        @Parameter(description = "Id of the last event from the previous page") @RequestParam(required = false) Long after,
+                        @Parameter(description = "Number of items per page", example = "10") @RequestParam(defaultValue = "10") int size,
+                        Authentication authentication) {
+
+                if (size < 1 || size > 100) {
+                        throw new BadRequestException("Page size must be between 1 and 100");
+                }
+
+                String email = authentication.getName();
+                User currentUser = userRepository.findByEmail(email)
+                                .orElseThrow(() -> new ResourceNotFoundException(
+                                                "User not found with email: " + email));
+
+                log.debug("GET /api/events/cursor - Fetching events: after={}, size={}, userId={}", after, size, currentUser.getId());
+
+                return ResponseEntity.ok(eventService.getEventsForUserAfter(currentUser.getId(), after, size));
+        }
+
          @GetMapping("/public")
-        public ResponseEntity<List<EventResponseDTO>> getPublicUpcomingEvents() {
-                List<EventResponseDTO> events = eventService.findPublicUpcomingEvents();
-                return ResponseEntity.ok(events);
+        @Operation(summary = "List public upcoming events", description = "Served from an in-memory snapshot. Send the returned ETag as If-None-Match to get 304 Not Modified while the list is unchanged.")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Public upcoming events", content = @Content(array = @ArraySchema(schema = @Schema(implementation = EventResponseDTO.class)))),
+                        @ApiResponse(responseCode = "304", description = "List unchanged since the ETag in If-None-Match")
+        })
+        public ResponseEntity<byte[]> getPublicUpcomingEvents(
+                        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+                PublicEventCacheService.Snapshot snapshot = publicEventCache.get();
+                if (snapshot.matches(ifNoneMatch)) {
+                        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                                        .eTag(snapshot.etag())
+                                        .cacheControl(CacheControl.noCache())
+                                        .build();
+                }
+                return ResponseEntity.ok()
+                                .eTag(snapshot.etag())
+                                .cacheControl(CacheControl.noCache())
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .body(snapshot.json());
         }
 
         @GetMapping("/{id}")
@@ -343,6 +385,24 @@ public class EventController {
                 }
         }
 
+        @GetMapping("/invite/jobs/{jobId}")
+        @Operation(summary = "Get invitation job status", description = "Returns the progress of a bulk invitation job started by the invite endpoint.")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Job status", content = @Content(schema = @Schema(implementation = InvitationIngestionJobDTO.class))),
+                        @ApiResponse(responseCode = "403", description = "Job belongs to another organizer"),
+                        @ApiResponse(responseCode = "404", description = "Unknown or expired job")
+        })
+        public ResponseEntity<InvitationIngestionJobDTO> getInvitationJob(
+                        @Parameter(description = "Job id returned by the invite endpoint", required = true) @PathVariable @NonNull String jobId,
+                        Authentication authentication) {
+
+                String email = authentication.getName();
+                User user = userRepository.findByEmail(email)
+                                .orElseThrow(() -> new ResourceNotFoundException("User not found: " + email));
+
+                return ResponseEntity.ok(eventService.getInvitationJob(jobId, user.getId()));
+        }
+
         @PostMapping("/{eventId}/action")
         @Operation(summary = "Perform action approval/rejection on an event", description = "Approve or Reject an event. Action logic is unified. Requires event.approve permission. Remarks mandatory for Rejection.")
         @ApiResponses(value = {
@@ -479,34 +539,35 @@ public class EventController {
         }
         @GetMapping(value = "/download/pdf", produces = MediaType.APPLICATION_PDF_VALUE)
         @Operation(summary = "Download events as PDF", description = "Downloads a PDF of all events visible to the current user, filtered by role.")
-        public ResponseEntity<byte[]> downloadEventsPdf(Authentication authentication) {
-                try {
-                        log.info("PDF export endpoint called. Authentication: {}", authentication);
-                        if (authentication == null) {
-                                log.warn("No authentication provided to /api/events/download/pdf");
-                        } else {
-                                log.info("Authenticated principal: {} (authorities: {})", authentication.getName(), authentication.getAuthorities());
-                        }
-
-                        String email = authentication.getName();
-                        User currentUser = userRepository.findByEmail(email)
-                                        .orElseThrow(() -> new ResourceNotFoundException("User not found with email: " + email));
+        public CompletableFuture<ResponseEntity<byte[]>> downloadEventsPdf(Authentication authentication) {
+                log.info("PDF export endpoint called. Authentication: {}", authentication);
+                if (authentication == null) {
+                        log.warn("No authentication provided to /api/events/download/pdf");
+                } else {
+                        log.info("Authenticated principal: {} (authorities: {})", authentication.getName(), authentication.getAuthorities());
+                }
 
-                        List<EventResponseDTO> visibleEvents = eventService.getEventsForUser(currentUser.getId());
+                String email = authentication.getName();
+                User currentUser = userRepository.findByEmail(email)
+                                .orElseThrow(() -> new ResourceNotFoundException("User not found with email: " + email));
 
-                        java.util.Map<String, Object> parameters = new java.util.HashMap<>();
-                        parameters.put("generatedBy", currentUser.getFullName());
-                        parameters.put("generatedAt", java.time.LocalDateTime.now().toString());
+                List<EventResponseDTO> visibleEvents = eventService.getEventsForUser(currentUser.getId());
 
-                        byte[] pdfBytes = reportService.generateEventsPdf(visibleEvents, parameters);
+                java.util.Map<String, Object> parameters = new java.util.HashMap<>();
+                parameters.put("generatedBy", currentUser.getFullName());
+                parameters.put("generatedAt", java.time.LocalDateTime.now().toString());
 
-                        return ResponseEntity.ok()
-                                        .header("Content-Disposition", "attachment; filename=events_list.pdf")
-                                        .contentType(MediaType.APPLICATION_PDF)
-                                        .body(pdfBytes);
-                } catch (JRException e) {
-                        log.error("Failed to generate PDF report", e);
-                        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
-                }
+                // Rendered on the report bulkhead; the request thread is released meanwhile.
+                return reportExecutor.submitCompletable(() -> reportService.generateEventsPdf(visibleEvents, parameters))
+                                .handle((pdfBytes, error) -> {
+                                        if (error != null) {
+                                                log.error("Failed to generate PDF report", error);
+                                                return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).<byte[]>build();
+                                        }
+                                        return ResponseEntity.ok()
+                                                        .header("Content-Disposition", "attachment; filename=events_list.pdf")
+                                                        .contentType(MediaType.APPLICATION_PDF)
+                                                        .body(pdfBytes);
+                                });
         }
 }
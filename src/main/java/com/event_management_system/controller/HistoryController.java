@@ -1,5 +1,6 @@
 package com.event_management_system.controller;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Objects;
@@ -17,24 +18,29 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.event_management_system.dto.AllHistoryResponseDTO;
+import com.event_management_system.dto.HistoryPageDTO;
 import com.event_management_system.dto.UserActivityHistoryResponseDTO;
 import com.event_management_system.dto.UserLoginLogoutHistoryResponseDTO;
 import com.event_management_system.dto.UserPasswordHistoryResponseDTO;
+import com.event_management_system.exception.GlobalExceptionHandler.BadRequestException;
 import com.event_management_system.service.ApplicationLoggerService;
+import com.event_management_system.service.HistoryExportService;
 import com.event_management_system.service.UserActivityHistoryService;
 import com.event_management_system.service.UserLoginLogoutHistoryService;
 import com.event_management_system.service.UserPasswordHistoryService;
+import com.event_management_system.util.HistoryCursor;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 
 @RestController
 @RequestMapping("/api/history")
 @Tag(name = "History", description = "APIs for retrieving user history and activities")
 public class HistoryController {
         @Autowired
-        private com.event_management_system.service.ReportService reportService;
+        private HistoryExportService historyExportService;
     
     @Autowired
     private UserLoginLogoutHistoryService loginHistoryService;
@@ -63,6 +69,32 @@ public class HistoryController {
         return userService.getUserIdByEmail(userDetails.getUsername());
     }
     
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private static final int MAX_PAGE_SIZE = 500;
+
+    private static HistoryCursor parseCursor(String after, HistoryCursor start) {
+        try {
+            return HistoryCursor.decode(after, start);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+
+    private static void checkPageSize(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new BadRequestException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+    }
+
+    private static <T> ResponseEntity<List<T>> pageResponse(HistoryPageDTO<T> page) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getContent());
+    }
+    
     private boolean canViewUserHistory(Long targetUserId) {
         Long currentUserId = getCurrentUserId();
         Objects.requireNonNull(currentUserId, "Current user ID should not be null");
@@ -89,21 +121,25 @@ public class HistoryController {
             @Parameter(description = "Target user ID (SuperAdmin only)")
             @RequestParam(required = false) Long userId,
             @Parameter(description = "All users (SuperAdmin only)")
-            @RequestParam(required = false, defaultValue = "false") boolean all) {
+            @RequestParam(required = false, defaultValue = "false") boolean all,
+            @Parameter(description = "Cursor from the X-Next-Cursor header of the previous page")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "Number of items per page", example = "50")
+            @RequestParam(defaultValue = "50") int size) {
+        HistoryCursor cursor = parseCursor(after, HistoryCursor.NEWEST);
+        checkPageSize(size);
         try {
             Long currentUserId = getCurrentUserId();
             boolean isSuperAdmin = userService.hasPermission(currentUserId, "history.view.all");
             if (all && isSuperAdmin) {
                 log.info("[HistoryController] INFO - getLoginHistory() - Fetching ALL login/logout history (SuperAdmin)");
-                List<UserLoginLogoutHistoryResponseDTO> history = loginHistoryService.getAllLoginHistory();
-                return new ResponseEntity<>(history, HttpStatus.OK);
+                return pageResponse(loginHistoryService.getAllLoginHistory(cursor, size));
             }
             Long targetUserId = (userId != null) ? userId : currentUserId;
             Objects.requireNonNull(targetUserId, "Target user ID should not be null");
             canViewUserHistory(targetUserId);
             log.info("[HistoryController] INFO - getLoginHistory() - Fetching login history for user: {}", targetUserId);
-            List<UserLoginLogoutHistoryResponseDTO> history = loginHistoryService.getLoginHistory(targetUserId);
-            return new ResponseEntity<>(history, HttpStatus.OK);
+            return pageResponse(loginHistoryService.getLoginHistory(targetUserId, cursor, size));
         } catch (RuntimeException e) {
             log.error("[HistoryController] ERROR - getLoginHistory() - Failed to fetch login history: {}", e.getMessage());
             return new ResponseEntity<>(HttpStatus.FORBIDDEN);
@@ -122,8 +158,14 @@ public class HistoryController {
             @Parameter(description = "Start date (yyyy-MM-dd'T'HH:mm:ss)")
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
             @Parameter(description = "End date (yyyy-MM-dd'T'HH:mm:ss)")
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate) {
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @Parameter(description = "Cursor from the X-Next-Cursor header of the previous page")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "Number of items per page", example = "50")
+            @RequestParam(defaultValue = "50") int size) {
         
+        HistoryCursor cursor = parseCursor(after, HistoryCursor.NEWEST);
+        checkPageSize(size);
         try {
             Long userId = getCurrentUserId();
             Objects.requireNonNull(userId, "User ID should not be null");
@@ -132,10 +174,7 @@ public class HistoryController {
             
             log.info("[HistoryController] INFO - getLoginHistoryByDateRange() - Fetching login history for user {} from {} to {}", userId, startDate, endDate);
             
-            List<UserLoginLogoutHistoryResponseDTO> history = 
-                loginHistoryService.getLoginHistoryByDateRange(userId, startDate, endDate);
-            
-            return new ResponseEntity<>(history, HttpStatus.OK);
+            return pageResponse(loginHistoryService.getLoginHistoryByDateRange(userId, startDate, endDate, cursor, size));
         } catch (Exception e) {
             log.error("[HistoryController] ERROR - getLoginHistoryByDateRange() - Failed to fetch login history by date range: {}", e.getMessage());
             return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
@@ -147,17 +186,20 @@ public class HistoryController {
         summary = "Get failed login attempts",
         description = "Retrieves all failed login attempts for security monitoring"
     )
-    public ResponseEntity<List<UserLoginLogoutHistoryResponseDTO>> getFailedLogins() {
+    public ResponseEntity<List<UserLoginLogoutHistoryResponseDTO>> getFailedLogins(
+            @Parameter(description = "Cursor from the X-Next-Cursor header of the previous page")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "Number of items per page", example = "50")
+            @RequestParam(defaultValue = "50") int size) {
+        HistoryCursor cursor = parseCursor(after, HistoryCursor.NEWEST);
+        checkPageSize(size);
         try {
             Long userId = getCurrentUserId();
             Objects.requireNonNull(userId, "User ID should not be null");
             
             log.info("[HistoryController] INFO - getFailedLogins() - Fetching failed login attempts for user: {}", userId);
             
-            List<UserLoginLogoutHistoryResponseDTO> failedLogins = 
-                loginHistoryService.getLoginHistoryByStatus(userId, "FAILED");
-            
-            return new ResponseEntity<>(failedLogins, HttpStatus.OK);
+            return pageResponse(loginHistoryService.getLoginHistoryByStatus(userId, "FAILED", cursor, size));
         } catch (Exception e) {
             log.error("[HistoryController] ERROR - getFailedLogins() - Failed to fetch failed login attempts: {}", e.getMessage());
             return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
@@ -175,21 +217,25 @@ public class HistoryController {
             @Parameter(description = "Target user ID (SuperAdmin only)")
             @RequestParam(required = false) Long userId,
             @Parameter(description = "All users (SuperAdmin only)")
-            @RequestParam(required = false, defaultValue = "false") boolean all) {
+            @RequestParam(required = false, defaultValue = "false") boolean all,
+            @Parameter(description = "Cursor from the X-Next-Cursor header of the previous page")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "Number of items per page", example = "50")
+            @RequestParam(defaultValue = "50") int size) {
+        HistoryCursor cursor = parseCursor(after, HistoryCursor.NEWEST);
+        checkPageSize(size);
         try {
             Long currentUserId = getCurrentUserId();
             boolean isSuperAdmin = userService.hasPermission(currentUserId, "history.view.all");
             if (all && isSuperAdmin) {
                 log.info("[HistoryController] INFO - getPasswordHistory() - Fetching ALL password change history (SuperAdmin)");
-                List<UserPasswordHistoryResponseDTO> history = passwordHistoryService.getAllPasswordHistory();
-                return new ResponseEntity<>(history, HttpStatus.OK);
+                return pageResponse(passwordHistoryService.getAllPasswordHistory(cursor, size));
             }
             Long targetUserId = (userId != null) ? userId : currentUserId;
             Objects.requireNonNull(targetUserId, "Target user ID should not be null");
             canViewUserHistory(targetUserId);
             log.info("[HistoryController] INFO - getPasswordHistory() - Fetching password history for user: {}", targetUserId);
-            List<UserPasswordHistoryResponseDTO> history = passwordHistoryService.getPasswordHistory(targetUserId);
-            return new ResponseEntity<>(history, HttpStatus.OK);
+            return pageResponse(passwordHistoryService.getPasswordHistory(targetUserId, cursor, size));
         } catch (RuntimeException e) {
             log.error("[HistoryController] ERROR - getPasswordHistory() - Failed to fetch password history: {}", e.getMessage());
             return new ResponseEntity<>(HttpStatus.FORBIDDEN);
@@ -210,15 +256,20 @@ public class HistoryController {
             @Parameter(description = "Target user ID (SuperAdmin only)")
             @RequestParam(required = false) Long userId,
             @Parameter(description = "All users (SuperAdmin only)")
-            @RequestParam(required = false, defaultValue = "false") boolean all) {
+            @RequestParam(required = false, defaultValue = "false") boolean all,
+            @Parameter(description = "Cursor from the X-Next-Cursor header of the previous page")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "Number of items per page", example = "50")
+            @RequestParam(defaultValue = "50") int size) {
+        HistoryCursor cursor = parseCursor(after, HistoryCursor.NEWEST);
+        checkPageSize(size);
         try {
             Long currentUserId = getCurrentUserId();
             boolean isSuperAdmin = userService.hasPermission(currentUserId, "history.view.all");
 
             if (all && isSuperAdmin) {
                 log.info("[HistoryController] INFO - getActivityHistory() - Fetching ALL activity history (SuperAdmin)");
-                List<UserActivityHistoryResponseDTO> activities = activityHistoryService.getAllActivityHistory();
-                return new ResponseEntity<>(activities, HttpStatus.OK);
+                return pageResponse(activityHistoryService.getAllActivityHistory(cursor, size));
             }
 
             Long targetUserId = (userId != null) ? userId : currentUserId;
@@ -226,8 +277,7 @@ public class HistoryController {
             canViewUserHistory(targetUserId);
 
             log.info("[HistoryController] INFO - getActivityHistory() - Fetching activity history for user: {}", targetUserId);
-            List<UserActivityHistoryResponseDTO> activities = activityHistoryService.getActivityHistory(targetUserId);
-            return new ResponseEntity<>(activities, HttpStatus.OK);
+            return pageResponse(activityHistoryService.getActivityHistory(targetUserId, cursor, size));
         } catch (RuntimeException e) {
             log.error("[HistoryController] ERROR - getActivityHistory() - Failed to fetch activity history: {}", e.getMessage());
             return new ResponseEntity<>(HttpStatus.FORBIDDEN);
@@ -244,18 +294,21 @@ public class HistoryController {
     )
     public ResponseEntity<List<UserActivityHistoryResponseDTO>> getRecentActivities(
             @Parameter(description = "Number of days to look back")
-            @RequestParam(defaultValue = "7") int days) {
+            @RequestParam(defaultValue = "7") int days,
+            @Parameter(description = "Cursor from the X-Next-Cursor header of the previous page")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "Number of items per page", example = "50")
+            @RequestParam(defaultValue = "50") int size) {
         
+        HistoryCursor cursor = parseCursor(after, HistoryCursor.NEWEST);
+        checkPageSize(size);
         try {
             Long userId = getCurrentUserId();
             Objects.requireNonNull(userId, "User ID should not be null");
             
             log.info("[HistoryController] INFO - getRecentActivities() - Fetching recent activities for user {} in last {} days", userId, days);
             
-            List<UserActivityHistoryResponseDTO> activities = 
-                activityHistoryService.getRecentActivities(userId, days);
-            
-            return new ResponseEntity<>(activities, HttpStatus.OK);
+            return pageResponse(activityHistoryService.getRecentActivities(userId, days, cursor, size));
         } catch (Exception e) {
             log.error("[HistoryController] ERROR - getRecentActivities() - Failed to fetch recent activities: {}", e.getMessage());
             return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
@@ -269,17 +322,20 @@ public class HistoryController {
     )
     public ResponseEntity<List<UserActivityHistoryResponseDTO>> getActivitiesByType(
             @Parameter(description = "Activity type code")
-            @PathVariable String type) {
+            @PathVariable String type,
+            @Parameter(description = "Cursor from the X-Next-Cursor header of the previous page")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "Number of items per page", example = "50")
+            @RequestParam(defaultValue = "50") int size) {
         
+        HistoryCursor cursor = parseCursor(after, HistoryCursor.NEWEST);
+        checkPageSize(size);
         try {
             Objects.requireNonNull(type, "Activity type should not be null");
             
             log.info("[HistoryController] INFO - getActivitiesByType() - Fetching activities of type: {}", type);
             
-            List<UserActivityHistoryResponseDTO> activities = 
-                activityHistoryService.getActivitiesByType(type);
-            
-            return new ResponseEntity<>(activities, HttpStatus.OK);
+            return pageResponse(activityHistoryService.getActivitiesByType(type, cursor, size));
         } catch (Exception e) {
             log.error("[HistoryController] ERROR - getActivitiesByType() - Failed to fetch activities by type: {}", e.getMessage());
             return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
@@ -295,8 +351,14 @@ public class HistoryController {
             @Parameter(description = "Start date (yyyy-MM-dd'T'HH:mm:ss)")
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
             @Parameter(description = "End date (yyyy-MM-dd'T'HH:mm:ss)")
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate) {
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @Parameter(description = "Cursor from the X-Next-Cursor header of the previous page")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "Number of items per page", example = "50")
+            @RequestParam(defaultValue = "50") int size) {
         
+        HistoryCursor cursor = parseCursor(after, HistoryCursor.NEWEST);
+        checkPageSize(size);
         try {
             Long userId = getCurrentUserId();
             Objects.requireNonNull(userId, "User ID should not be null");
@@ -305,10 +367,7 @@ public class HistoryController {
             
             log.info("[HistoryController] INFO - getActivitiesByDateRange() - Fetching activities for user {} from {} to {}", userId, startDate, endDate);
             
-            List<UserActivityHistoryResponseDTO> activities = 
-                activityHistoryService.getActivitiesByDateRange(userId, startDate, endDate);
-            
-            return new ResponseEntity<>(activities, HttpStatus.OK);
+            return pageResponse(activityHistoryService.getActivitiesByDateRange(userId, startDate, endDate, cursor, size));
         } catch (Exception e) {
             log.error("[HistoryController] ERROR - getActivitiesByDateRange() - Failed to fetch activities by date range: {}", e.getMessage());
             return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
@@ -322,17 +381,20 @@ public class HistoryController {
     )
     public ResponseEntity<List<UserActivityHistoryResponseDTO>> getActivitiesBySession(
             @Parameter(description = "Session ID (token UUID)")
-            @PathVariable String sessionId) {
+            @PathVariable String sessionId,
+            @Parameter(description = "Cursor from the X-Next-Cursor header of the previous page")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "Number of items per page", example = "50")
+            @RequestParam(defaultValue = "50") int size) {
         
+        HistoryCursor cursor = parseCursor(after, HistoryCursor.OLDEST);
+        checkPageSize(size);
         try {
             Objects.requireNonNull(sessionId, "Session ID should not be null");
             
             log.info("[HistoryController] INFO - getActivitiesBySession() - Fetching activities for session: {}", sessionId);
             
-            List<UserActivityHistoryResponseDTO> activities = 
-                activityHistoryService.getActivitiesBySession(sessionId);
-            
-            return new ResponseEntity<>(activities, HttpStatus.OK);
+            return pageResponse(activityHistoryService.getActivitiesBySession(sessionId, cursor, size));
         } catch (Exception e) {
             log.error("[HistoryController] ERROR - getActivitiesBySession() - Failed to fetch activities by session: {}", e.getMessage());
             return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
@@ -349,7 +411,19 @@ public class HistoryController {
             @Parameter(description = "Target user ID (SuperAdmin only)")
             @RequestParam(required = false) Long userId,
             @Parameter(description = "All users (SuperAdmin only)")
-            @RequestParam(required = false, defaultValue = "false") boolean all) {
+            @RequestParam(required = false, defaultValue = "false") boolean all,
+            @Parameter(description = "nextActivityCursor from the previous response")
+            @RequestParam(required = false) String activityAfter,
+            @Parameter(description = "nextLoginCursor from the previous response")
+            @RequestParam(required = false) String loginAfter,
+            @Parameter(description = "nextPasswordCursor from the previous response")
+            @RequestParam(required = false) String passwordAfter,
+            @Parameter(description = "Number of items per page of each history type", example = "50")
+            @RequestParam(defaultValue = "50") int size) {
+        HistoryCursor activityCursor = parseCursor(activityAfter, HistoryCursor.NEWEST);
+        HistoryCursor loginCursor = parseCursor(loginAfter, HistoryCursor.NEWEST);
+        HistoryCursor passwordCursor = parseCursor(passwordAfter, HistoryCursor.NEWEST);
+        checkPageSize(size);
         try {
             Long currentUserId = getCurrentUserId();
             boolean isSuperAdmin = userService.hasPermission(currentUserId, "history.view.all");
@@ -358,19 +432,23 @@ public class HistoryController {
                 return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
             }
 
-            List<UserActivityHistoryResponseDTO> activities = isSuperAdmin && all
-                ? activityHistoryService.getAllActivityHistory()
-                : activityHistoryService.getActivityHistory(targetUserId);
+            HistoryPageDTO<UserActivityHistoryResponseDTO> activities = isSuperAdmin && all
+                ? activityHistoryService.getAllActivityHistory(activityCursor, size)
+                : activityHistoryService.getActivityHistory(targetUserId, activityCursor, size);
 
-            List<UserLoginLogoutHistoryResponseDTO> logins = isSuperAdmin && all
-                ? loginHistoryService.getAllLoginHistory()
-                : loginHistoryService.getLoginHistory(targetUserId);
+            HistoryPageDTO<UserLoginLogoutHistoryResponseDTO> logins = isSuperAdmin && all
+                ? loginHistoryService.getAllLoginHistory(loginCursor, size)
+                : loginHistoryService.getLoginHistory(targetUserId, loginCursor, size);
 
-            List<UserPasswordHistoryResponseDTO> passwords = isSuperAdmin && all
-                ? passwordHistoryService.getAllPasswordHistory()
-                : passwordHistoryService.getPasswordHistory(targetUserId);
+            HistoryPageDTO<UserPasswordHistoryResponseDTO> passwords = isSuperAdmin && all
+                ? passwordHistoryService.getAllPasswordHistory(passwordCursor, size)
+                : passwordHistoryService.getPasswordHistory(targetUserId, passwordCursor, size);
 
-            AllHistoryResponseDTO response = new AllHistoryResponseDTO(activities, logins, passwords);
+            AllHistoryResponseDTO response = new AllHistoryResponseDTO(activities.getContent(), logins.getContent(),
+                    passwords.getContent());
+            response.setNextActivityCursor(activities.getNextCursor());
+            response.setNextLoginCursor(logins.getNextCursor());
+            response.setNextPasswordCursor(passwords.getNextCursor());
             return ResponseEntity.ok(response);
         } catch (RuntimeException e) {
             log.error("[HistoryController] ERROR - getAllHistory() - {}", e.getMessage());
@@ -383,23 +461,24 @@ public class HistoryController {
 
     
         @GetMapping(value = "/download/pdf", produces = org.springframework.http.MediaType.APPLICATION_PDF_VALUE)
-        @Operation(summary = "Download history as PDF", description = "Downloads a PDF of user activity, login/logout, or password history, filtered by type and role/permission.")
-        public ResponseEntity<byte[]> downloadHistoryPdf(
+        @Operation(summary = "Download history as PDF", description = "Streams a PDF of user activity, login/logout, or password history, filtered by type and role/permission.")
+        public void downloadHistoryPdf(
                 Authentication authentication,
-                @RequestParam(name = "type", defaultValue = "activity") String type) {
+                @RequestParam(name = "type", defaultValue = "activity") String type,
+                HttpServletResponse response) throws IOException {
             log.info("PDF history export endpoint called. Authentication: {}, type: {}", authentication, type);
             if (authentication == null) {
                 log.warn("No authentication provided to /api/history/download/pdf");
-                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+                response.setStatus(HttpStatus.UNAUTHORIZED.value());
+                return;
             }
 
             String email = authentication.getName();
             Long currentUserId = userService.getUserIdByEmail(email);
 
-            // Permission logic: .view.all, .view.own, .export for each type
-            String permAll, permOwn, permExport;
-            java.util.List<?> allData;
-            java.util.List<?> filteredData;
+            // Permission logic: .view.all exports every row, .view.own only the caller's
+            String permAll, permOwn;
+            HistoryExportService.HistoryType historyType;
             String filename;
             switch (type.toLowerCase()) {
                 case "login":
@@ -407,78 +486,50 @@ public class HistoryController {
                 case "login-logout":
                     permAll = "loginhistory.view.all";
                     permOwn = "loginhistory.view.own";
-                    permExport = "loginhistory.export";
-                    allData = loginHistoryService.getAllLoginHistory();
+                    historyType = HistoryExportService.HistoryType.LOGIN_LOGOUT;
                     filename = "login_logout_history.pdf";
                     break;
                 case "password":
                 case "passwordhistory":
                     permAll = "passwordhistory.view.all";
                     permOwn = "passwordhistory.view.own";
-                    permExport = "passwordhistory.export";
-                    allData = passwordHistoryService.getAllPasswordHistory();
+                    historyType = HistoryExportService.HistoryType.PASSWORD;
                     filename = "password_history.pdf";
                     break;
                 case "activity":
                 default:
                     permAll = "history.view.all";
                     permOwn = "history.view.own";
-                    permExport = "history.export";
-                    allData = activityHistoryService.getAllActivityHistory();
+                    historyType = HistoryExportService.HistoryType.ACTIVITY;
                     filename = "activity_history.pdf";
                     break;
             }
 
             boolean canExportAll = userService.hasPermission(currentUserId, permAll);
             boolean canExportOwn = userService.hasPermission(currentUserId, permOwn);
-            boolean canExport = userService.hasPermission(currentUserId, permExport) || canExportAll || canExportOwn;
-            if (!canExport) {
+            // An export permission without a matching view permission leaves no rows to export.
+            if (!canExportAll && !canExportOwn) {
                 log.warn("User {} does not have permission to export {} history", currentUserId, type);
-                return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
-            }
-
-            if (canExportAll) {
-                filteredData = allData;
-            } else if (canExportOwn) {
-                @SuppressWarnings("unchecked")
-                java.util.List<Object> allDataObj = (java.util.List<Object>) allData;
-                filteredData = allDataObj.stream()
-                    .filter(obj -> {
-                        try {
-                            java.lang.reflect.Method getUserId = obj.getClass().getMethod("getUserId");
-                            Object uid = getUserId.invoke(obj);
-                            return uid != null && uid.equals(currentUserId);
-                        } catch (ReflectiveOperationException e) {
-                            return false;
-                        }
-                    })
-                    .collect(java.util.stream.Collectors.toList());
-            } else {
-                filteredData = java.util.Collections.emptyList();
+                response.setStatus(HttpStatus.FORBIDDEN.value());
+                return;
             }
 
             java.util.Map<String, Object> parameters = new java.util.HashMap<>();
             parameters.put("generatedBy", email);
             parameters.put("generatedAt", java.time.LocalDateTime.now().toString());
 
+            response.setContentType(org.springframework.http.MediaType.APPLICATION_PDF_VALUE);
+            response.setHeader("Content-Disposition", "attachment; filename=" + filename);
             try {
-                byte[] pdfBytes;
-                if ("activity".equalsIgnoreCase(type)) {
-                    pdfBytes = reportService.generateActivityPdf(filteredData, parameters);
-                } else if ("login".equalsIgnoreCase(type) || "loginlogout".equalsIgnoreCase(type) || "login-logout".equalsIgnoreCase(type)) {
-                    pdfBytes = reportService.generateEventsPdf(filteredData, parameters); // fallback for login/logout, or implement a specific method if needed
-                } else if ("password".equalsIgnoreCase(type) || "passwordhistory".equalsIgnoreCase(type)) {
-                    pdfBytes = reportService.generateEventsPdf(filteredData, parameters); // fallback for password, or implement a specific method if needed
-                } else {
-                    pdfBytes = reportService.generateActivityPdf(filteredData, parameters);
-                }
-                return ResponseEntity.ok()
-                    .header("Content-Disposition", "attachment; filename=" + filename)
-                    .contentType(org.springframework.http.MediaType.APPLICATION_PDF)
-                    .body(pdfBytes);
-            } catch (net.sf.jasperreports.engine.JRException | IllegalArgumentException e) {
+                historyExportService.exportPdf(historyType, canExportAll ? null : currentUserId,
+                        parameters, response.getOutputStream());
+                response.flushBuffer();
+            } catch (net.sf.jasperreports.engine.JRException | org.springframework.dao.DataAccessException e) {
                 log.error("Failed to generate PDF report", e);
-                return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+                if (!response.isCommitted()) {
+                    response.reset();
+                    response.setStatus(HttpStatus.INTERNAL_SERVER_ERROR.value());
+                }
             }
         }
     
@@ -0,0 +1,45 @@
+package com.event_management_system.controller;
+
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.event_management_system.exception.GlobalExceptionHandler.ForbiddenException;
+import com.event_management_system.service.ApplicationLoggerService;
+import com.event_management_system.service.SystemMetricsService;
+import com.event_management_system.service.UserService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@RestController
+@RequestMapping("/api/system")
+@Tag(name = "System", description = "Operational metrics (SuperAdmin only)")
+public class SystemController {
+
+    @Autowired
+    private SystemMetricsService systemMetricsService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ApplicationLoggerService log;
+
+    @GetMapping("/metrics")
+    @Operation(summary = "Get runtime metrics",
+            description = "Executor queue depth, active and rejected counts, token cache, SMTP pool and invitation outbox metrics")
+    public ResponseEntity<Map<String, Object>> getMetrics(Authentication authentication) {
+        Long userId = userService.getUserIdByEmail(authentication.getName());
+        if (!userService.hasRole(userId, "SuperAdmin")) {
+            log.warn("[SystemController] WARN - getMetrics() - Access denied for {}", authentication.getName());
+            throw new ForbiddenException("Only SuperAdmin can view system metrics");
+        }
+        return ResponseEntity.ok(systemMetricsService.getMetrics());
+    }
+}
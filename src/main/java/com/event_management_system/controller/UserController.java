@@ -1,8 +1,11 @@
 package com.event_management_system.controller;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.lang.NonNull;
@@ -16,12 +19,15 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.event_management_system.dto.UserDeletionJobDTO;
 import com.event_management_system.dto.UserRequestDTO;
 import com.event_management_system.dto.UserResponseDTO;
 import com.event_management_system.dto.UserUpdateRequestDTO;
 import com.event_management_system.entity.User;
+import com.event_management_system.exception.GlobalExceptionHandler.ResourceNotFoundException;
 import com.event_management_system.service.ApplicationLoggerService;
 import com.event_management_system.service.UserService;
+import com.event_management_system.util.BulkheadTaskExecutor;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -42,6 +48,10 @@ public class UserController {
     @Autowired
     private com.event_management_system.service.ReportService reportService;
 
+    @Autowired
+    @Qualifier("reportExecutor")
+    private BulkheadTaskExecutor reportExecutor;
+
     @PostMapping
     @Operation(summary = "Create a new user", description = "Creates a new user with provided details")
     public ResponseEntity<UserResponseDTO> createUser(
@@ -120,8 +130,8 @@ public class UserController {
     }
 
     @DeleteMapping("/{userId}")
-    @Operation(summary = "Delete a user", description = "Permanently deletes a user by their ID")
-    public ResponseEntity<Void> deleteUser(
+    @Operation(summary = "Delete a user", description = "Permanently deletes a user by their ID. The user's history and attendee rows are removed in the background; poll the returned job for progress.")
+    public ResponseEntity<UserDeletionJobDTO> deleteUser(
             @Parameter(description = "ID of user to delete") @PathVariable @NonNull Long userId,
             Authentication authentication) {
         
@@ -133,11 +143,11 @@ public class UserController {
             User currentUser = userService.getUserEntityByEmail(email)
                 .orElseThrow(() -> new RuntimeException("Current user not found: " + email));
             log.debug("[UserController] DEBUG - deleteUser() - User authenticated: userId=" + currentUser.getId() + ", role=" + (currentUser.getRole() != null ? currentUser.getRole().getName() : "null"));
-            boolean deleted = userService.deleteUser(currentUser.getId(), userId);
+            Optional<UserDeletionJobDTO> job = userService.deleteUser(currentUser.getId(), userId);
            
-            if (deleted) {
-                log.info("[UserController] INFO - deleteUser() - User deleted successfully: userId=" + userId + ", deletedBy=" + currentUser.getId());
-                return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+            if (job.isPresent()) {
+                log.info("[UserController] INFO - deleteUser() - User deletion accepted: userId=" + userId + ", jobId=" + job.get().getJobId() + ", deletedBy=" + currentUser.getId());
+                return new ResponseEntity<>(job.get(), HttpStatus.ACCEPTED);
             } else {
                 log.warn("[UserController] WARN - deleteUser() - User not found for deletion: userId=" + userId + ", deletedBy=" + currentUser.getId());
                 return new ResponseEntity<>(HttpStatus.NOT_FOUND);
@@ -150,6 +160,18 @@ public class UserController {
             throw e;
         }
     }
+
+    @GetMapping("/deletions/{jobId}")
+    @Operation(summary = "Get user deletion status", description = "Returns the progress of a deletion started by the delete endpoint")
+    public ResponseEntity<UserDeletionJobDTO> getDeletionJob(
+            @Parameter(description = "Job id returned by the delete endpoint") @PathVariable @NonNull String jobId,
+            Authentication authentication) {
+
+        String email = authentication.getName();
+        User currentUser = userService.getUserEntityByEmail(email)
+            .orElseThrow(() -> new ResourceNotFoundException("Current user not found: " + email));
+        return ResponseEntity.ok(userService.getDeletionJob(jobId, currentUser.getId()));
+    }
     
     @PostMapping("/{userId}/roles/{roleId}")
     @Operation(summary = "Add role to user", description = "Assigns a role to a user")
@@ -189,11 +211,11 @@ public class UserController {
     
     @GetMapping(value = "/download/pdf", produces = org.springframework.http.MediaType.APPLICATION_PDF_VALUE)
     @Operation(summary = "Download users as PDF", description = "Downloads a PDF of all users visible to the current user, filtered by role/permission.")
-    public ResponseEntity<byte[]> downloadUsersPdf(Authentication authentication) {
+    public CompletableFuture<ResponseEntity<byte[]>> downloadUsersPdf(Authentication authentication) {
     log.info("PDF user export endpoint called. Authentication: {}", authentication != null ? authentication.toString() : "null");
         if (authentication == null) {
             log.warn("No authentication provided to /api/users/download/pdf");
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.UNAUTHORIZED).build());
         } else {
             log.info("Authenticated principal: {} (authorities: {})", authentication.getName(), authentication.getAuthorities().toString());
         }
@@ -206,7 +228,7 @@ public class UserController {
         boolean canExport = userService.hasPermission(currentUser.getId(), "user.export") || canExportAll || canExportOwn;
         if (!canExport) {
             log.warn("User {} does not have permission to export user list", currentUser.getId());
-            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.FORBIDDEN).build());
         }
 
         java.util.List<UserResponseDTO> allUsers = userService.getAllUsers();
@@ -225,16 +247,17 @@ public class UserController {
         parameters.put("generatedBy", currentUser.getFullName());
         parameters.put("generatedAt", java.time.LocalDateTime.now().toString());
 
-        try {
-            // Use the new generateUsersPdf for users
-            byte[] pdfBytes = reportService.generateUsersPdf(filteredUsers, parameters);
-            return ResponseEntity.ok()
-                .header("Content-Disposition", "attachment; filename=users_list.pdf")
-                .contentType(org.springframework.http.MediaType.APPLICATION_PDF)
-                .body(pdfBytes);
-        } catch (net.sf.jasperreports.engine.JRException | IllegalArgumentException e) { // multicatch is correct for these exceptions
-            log.error("Failed to generate PDF report", e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
-        }
+        // Rendered on the report bulkhead; the request thread is released meanwhile.
+        return reportExecutor.submitCompletable(() -> reportService.generateUsersPdf(filteredUsers, parameters))
+            .handle((pdfBytes, error) -> {
+                if (error != null) {
+                    log.error("Failed to generate PDF report", error);
+                    return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).<byte[]>build();
+                }
+                return ResponseEntity.ok()
+                    .header("Content-Disposition", "attachment; filename=users_list.pdf")
+                    .contentType(org.springframework.http.MediaType.APPLICATION_PDF)
+                    .body(pdfBytes);
+            });
     }
 }
@@ -7,6 +7,9 @@ public class AllHistoryResponseDTO {
     private List<UserActivityHistoryResponseDTO> activities;
     private List<UserLoginLogoutHistoryResponseDTO> logins;
     private List<UserPasswordHistoryResponseDTO> passwords;
+    private String nextActivityCursor;
+    private String nextLoginCursor;
+    private String nextPasswordCursor;
 
     public AllHistoryResponseDTO() {}
 
@@ -36,4 +39,22 @@ public class AllHistoryResponseDTO {
     public void setPasswords(List<UserPasswordHistoryResponseDTO> passwords) {
         this.passwords = passwords;
     }
+    public String getNextActivityCursor() {
+        return nextActivityCursor;
+    }
+    public void setNextActivityCursor(String nextActivityCursor) {
+        this.nextActivityCursor = nextActivityCursor;
+    }
+    public String getNextLoginCursor() {
+        return nextLoginCursor;
+    }
+    public void setNextLoginCursor(String nextLoginCursor) {
+        this.nextLoginCursor = nextLoginCursor;
+    }
+    public String getNextPasswordCursor() {
+        return nextPasswordCursor;
+    }
+    public void setNextPasswordCursor(String nextPasswordCursor) {
+        this.nextPasswordCursor = nextPasswordCursor;
+    }
 }
@@ -0,0 +1,21 @@
+package com.event_management_system.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventCursorPageDTO {
+
+    private List<EventResponseDTO> content;
+
+    @Schema(example = "1042", description = "Pass as 'after' to fetch the next page; null when there are no more events")
+    private Long nextCursor;
+
+    private boolean hasNext;
+}
@@ -0,0 +1,59 @@
+package com.event_management_system.dto;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import com.event_management_system.util.HistoryCursor;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class HistoryPageDTO<T> {
+
+    private List<T> content;
+
+    @Schema(description = "Pass as 'after' to fetch the next page; null when there are no more rows")
+    private String nextCursor;
+
+    private boolean hasNext;
+
+    /**
+     * Builds a page from a query that fetched up to {@code size + 1} rows; the
+     * extra row only signals that another page exists.
+     */
+    public static <E, T> HistoryPageDTO<T> of(List<E> rows, int size, Function<E, T> mapper,
+            Function<E, HistoryCursor> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<E> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(page.get(page.size() - 1)).encode() : null;
+        return new HistoryPageDTO<>(page.stream().map(mapper).toList(), nextCursor, hasNext);
+    }
+
+    /**
+     * Builds a newest-first page from live rows and archived rows, each fetched
+     * with up to {@code size + 1} rows after the same cursor. A row present in
+     * both (archived but not yet deleted) is kept once.
+     */
+    public static <T> HistoryPageDTO<T> merged(List<T> live, List<T> archived, int size,
+            Function<T, HistoryCursor> cursorOf) {
+        Map<Long, T> byId = new LinkedHashMap<>();
+        for (T row : live) {
+            byId.put(cursorOf.apply(row).id(), row);
+        }
+        for (T row : archived) {
+            byId.putIfAbsent(cursorOf.apply(row).id(), row);
+        }
+        List<T> rows = byId.values().stream()
+                .sorted(Comparator.comparing(cursorOf).reversed())
+                .toList();
+        return of(rows, size, Function.identity(), cursorOf);
+    }
+}
@@ -0,0 +1,39 @@
+package com.event_management_system.dto;
+
+import java.time.LocalDateTime;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Progress of a bulk invitation ingestion job")
+public class InvitationIngestionJobDTO {
+
+    private String jobId;
+
+    private Long eventId;
+
+    @Schema(example = "RUNNING", description = "QUEUED, RUNNING, COMPLETED or FAILED")
+    private String status;
+
+    @Schema(description = "CSV records, temp_email rows and registered users read so far")
+    private long recordsRead;
+
+    private long invalid;
+
+    @Schema(description = "Emails seen earlier in the same job")
+    private long duplicates;
+
+    @Schema(description = "New invitations created (already-invited emails are not counted)")
+    private long invited;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+
+    private String error;
+}
@@ -0,0 +1,35 @@
+package com.event_management_system.dto;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Progress of a background user deletion")
+public class UserDeletionJobDTO {
+
+    private String jobId;
+
+    private Long userId;
+
+    @Schema(example = "RUNNING", description = "QUEUED, RUNNING, COMPLETED or FAILED")
+    private String status;
+
+    @Schema(example = "user_activity_history", description = "Table currently being cleared")
+    private String currentTable;
+
+    @Schema(description = "Rows deleted so far, by table")
+    private Map<String, Long> rowsDeleted;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+
+    private String error;
+}
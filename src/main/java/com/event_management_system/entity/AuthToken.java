@@ -0,0 +1,38 @@
+package com.event_management_system.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Schema of the {@code auth_tokens} table used by JdbcTokenStore. The store
+ * reads and writes it with plain SQL; the entity exists so the table comes from
+ * ddl-auto like every other table. No foreign key to event_users, so logging a
+ * user out never locks the user row.
+ */
+@Entity
+@Table(name = "auth_tokens", indexes = {
+        @Index(name = "idx_auth_tokens_expires_at", columnList = "expires_at"),
+        @Index(name = "idx_auth_tokens_user_id", columnList = "user_id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuthToken {
+
+    @Id
+    @Column(name = "token_uuid", length = 36, nullable = false)
+    private String tokenUuid;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    /** Epoch millis. */
+    @Column(name = "expires_at", nullable = false)
+    private Long expiresAt;
+}
@@ -6,6 +6,7 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
@@ -20,7 +21,12 @@ import lombok.Setter;
 
 
 @Entity
-@Table(name = "event_attendees")
+@Table(name = "event_attendees", indexes = {
+        @Index(name = "idx_event_attendees_user_event", columnList = "user_id, event_id"),
+        @Index(name = "idx_event_attendees_reminder",
+                columnList = "event_id, invitation_status, advance_reminder_sent, last_minute_reminder_sent"),
+        @Index(name = "idx_event_attendees_response_follow_up", columnList = "response_next_notify_at")
+})
 @Getter
 @Setter
 @EqualsAndHashCode(callSuper = false)
@@ -73,6 +79,21 @@ public class EventAttendees extends BaseEntity {
     @Column(name = "response_at")
     private LocalDateTime responseAt;
 
+    /** Set once the response's confirmation email has gone out. */
+    @Column(name = "response_notified_at")
+    private LocalDateTime responseNotifiedAt;
+
+    /**
+     * When the sweep should retry the response's follow-up; null once it was
+     * sent or the sweep gave up.
+     */
+    @Column(name = "response_next_notify_at")
+    private LocalDateTime responseNextNotifyAt;
+
+    @Column(name = "response_notify_attempts", nullable = false)
+    @Builder.Default
+    private Integer responseNotifyAttempts = 0;
+
     @Column(name = "advance_reminder_sent", nullable = false)
     @Builder.Default
     private Boolean advanceReminderSent = false;
@@ -8,6 +8,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
@@ -19,7 +20,12 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "user_activity_history")
+@Table(name = "user_activity_history", indexes = {
+        @Index(name = "idx_activity_history_date", columnList = "activity_date, id"),
+        @Index(name = "idx_activity_history_user_date", columnList = "user_id, activity_date, id"),
+        @Index(name = "idx_activity_history_type_date", columnList = "activity_type_code, activity_date, id"),
+        @Index(name = "idx_activity_history_session_date", columnList = "session_id, activity_date, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -109,7 +115,7 @@ public class UserActivityHistory {
     @Column(name = "username", length = 255)
     private String username;
     
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "created_by")
     private User createdBy;
     
@@ -119,7 +125,7 @@ public class UserActivityHistory {
     @Column(name = "created_date", nullable = false, updatable = false)
     private LocalDateTime createdDate;
     
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "updated_by")
     private User updatedBy;
     
@@ -8,6 +8,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
@@ -19,7 +20,12 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "user_login_logout_history")
+@Table(name = "user_login_logout_history", indexes = {
+        @Index(name = "idx_login_history_time", columnList = "login_time, id"),
+        @Index(name = "idx_login_history_user_time", columnList = "user_id, login_time, id"),
+        @Index(name = "idx_login_history_user_status_time", columnList = "user_id, login_status, login_time, id"),
+        @Index(name = "idx_login_history_token", columnList = "user_token")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
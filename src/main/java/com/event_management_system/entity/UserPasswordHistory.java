@@ -8,6 +8,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
@@ -19,7 +20,10 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "user_password_history")
+@Table(name = "user_password_history", indexes = {
+        @Index(name = "idx_password_history_date", columnList = "change_date, id"),
+        @Index(name = "idx_password_history_user_date", columnList = "user_id, change_date, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,241 @@
+package com.event_management_system.mail;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * HTML email template compiled once into UTF-8 byte segments and slots.
+ * <p>
+ * Syntax: {@code {{name}}} is replaced with the HTML-escaped value of
+ * {@code name}; {@code {{#name}}...{{/name}}} is kept only when {@code name} has a
+ * non-empty value. {@link #bind(Map)} fills some of the slots and returns a new
+ * template with the filled parts merged into the surrounding static bytes, so
+ * per-event data can be rendered once and only the per-recipient slots are
+ * left for {@link #render(Map)}.
+ */
+public final class EmailTemplate {
+
+    private final List<Node> nodes;
+
+    private final int staticLength;
+
+    private EmailTemplate(List<Node> nodes) {
+        this.nodes = nodes;
+        this.staticLength = staticLength(nodes);
+    }
+
+    public static EmailTemplate compile(String source) {
+        Parser parser = new Parser(source);
+        List<Node> nodes = parser.parse(null);
+        return new EmailTemplate(merge(nodes));
+    }
+
+    public static EmailTemplate load(String classpathLocation) {
+        try (InputStream in = EmailTemplate.class.getClassLoader().getResourceAsStream(classpathLocation)) {
+            if (in == null) {
+                throw new IllegalStateException("Email template not found on classpath: " + classpathLocation);
+            }
+            return compile(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read email template " + classpathLocation, e);
+        }
+    }
+
+    /**
+     * Returns a template with every slot and section named in {@code values}
+     * resolved; slots not named stay open.
+     */
+    public EmailTemplate bind(Map<String, String> values) {
+        List<Node> bound = new ArrayList<>(nodes.size());
+        bindInto(nodes, values, bound);
+        return new EmailTemplate(merge(bound));
+    }
+
+    /**
+     * Renders the template, treating slots missing from {@code values} as empty.
+     */
+    public byte[] render(Map<String, String> values) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(staticLength + 256);
+        renderInto(nodes, values, out);
+        return out.toByteArray();
+    }
+
+    private static void renderInto(List<Node> source, Map<String, String> values, ByteArrayOutputStream out) {
+        for (Node node : source) {
+            if (node instanceof Static text) {
+                out.writeBytes(text.bytes);
+            } else if (node instanceof Slot slot) {
+                out.writeBytes(escape(values.get(slot.name)).getBytes(StandardCharsets.UTF_8));
+            } else {
+                Section section = (Section) node;
+                if (isPresent(values.get(section.name))) {
+                    renderInto(section.children, values, out);
+                }
+            }
+        }
+    }
+
+    private static void bindInto(List<Node> source, Map<String, String> values, List<Node> target) {
+        for (Node node : source) {
+            if (node instanceof Static) {
+                target.add(node);
+            } else if (node instanceof Slot slot) {
+                String value = values.get(slot.name);
+                if (value != null) {
+                    target.add(new Static(escape(value).getBytes(StandardCharsets.UTF_8)));
+                } else {
+                    target.add(node);
+                }
+            } else {
+                Section section = (Section) node;
+                if (!values.containsKey(section.name)) {
+                    List<Node> children = new ArrayList<>();
+                    bindInto(section.children, values, children);
+                    target.add(new Section(section.name, merge(children)));
+                } else if (isPresent(values.get(section.name))) {
+                    bindInto(section.children, values, target);
+                }
+            }
+        }
+    }
+
+    private static boolean isPresent(String value) {
+        return value != null && !value.isEmpty();
+    }
+
+    private static List<Node> merge(List<Node> nodes) {
+        List<Node> merged = new ArrayList<>(nodes.size());
+        ByteArrayOutputStream pending = null;
+        for (Node node : nodes) {
+            if (node instanceof Static text) {
+                if (pending == null) {
+                    pending = new ByteArrayOutputStream();
+                }
+                pending.writeBytes(text.bytes);
+            } else {
+                if (pending != null) {
+                    merged.add(new Static(pending.toByteArray()));
+                    pending = null;
+                }
+                merged.add(node);
+            }
+        }
+        if (pending != null) {
+            merged.add(new Static(pending.toByteArray()));
+        }
+        return Collections.unmodifiableList(merged);
+    }
+
+    private static int staticLength(List<Node> nodes) {
+        int length = 0;
+        for (Node node : nodes) {
+            if (node instanceof Static text) {
+                length += text.bytes.length;
+            } else if (node instanceof Section section) {
+                length += staticLength(section.children);
+            }
+        }
+        return length;
+    }
+
+    static String escape(String value) {
+        if (value == null || value.isEmpty()) {
+            return "";
+        }
+        StringBuilder escaped = null;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            String replacement = switch (c) {
+                case '&' -> "&amp;";
+                case '<' -> "&lt;";
+                case '>' -> "&gt;";
+                case '"' -> "&quot;";
+                case '\'' -> "&#39;";
+                default -> null;
+            };
+            if (replacement != null && escaped == null) {
+                escaped = new StringBuilder(value.length() + 16).append(value, 0, i);
+            }
+            if (escaped != null) {
+                if (replacement != null) {
+                    escaped.append(replacement);
+                } else {
+                    escaped.append(c);
+                }
+            }
+        }
+        return escaped == null ? value : escaped.toString();
+    }
+
+    private interface Node {
+    }
+
+    private record Static(byte[] bytes) implements Node {
+    }
+
+    private record Slot(String name) implements Node {
+    }
+
+    private record Section(String name, List<Node> children) implements Node {
+    }
+
+    private static final class Parser {
+
+        private final String source;
+
+        private int position;
+
+        private Parser(String source) {
+            this.source = source;
+        }
+
+        private List<Node> parse(String openSection) {
+            List<Node> nodes = new ArrayList<>();
+            while (position < source.length()) {
+                int open = source.indexOf("{{", position);
+                if (open < 0) {
+                    nodes.add(text(source.substring(position)));
+                    position = source.length();
+                    break;
+                }
+                int close = source.indexOf("}}", open + 2);
+                if (close < 0) {
+                    throw new IllegalArgumentException("Unclosed tag at offset " + open);
+                }
+                if (open > position) {
+                    nodes.add(text(source.substring(position, open)));
+                }
+                String tag = source.substring(open + 2, close).trim();
+                position = close + 2;
+
+                if (tag.startsWith("#")) {
+                    String name = tag.substring(1).trim();
+                    nodes.add(new Section(name, parse(name)));
+                } else if (tag.startsWith("/")) {
+                    String name = tag.substring(1).trim();
+                    if (!name.equals(openSection)) {
+                        throw new IllegalArgumentException("Unexpected {{/" + name + "}} at offset " + open);
+                    }
+                    return merge(nodes);
+                } else {
+                    nodes.add(new Slot(tag));
+                }
+            }
+            if (openSection != null) {
+                throw new IllegalArgumentException("Section {{#" + openSection + "}} is never closed");
+            }
+            return nodes;
+        }
+
+        private static Static text(String text) {
+            return new Static(text.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
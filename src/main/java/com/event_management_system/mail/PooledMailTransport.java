@@ -0,0 +1,280 @@
+package com.event_management_system.mail;
+
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.Session;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+
+/**
+ * Pool of connected, authenticated SMTP transports. A send borrows a
+ * connection, issues MAIL/RCPT/DATA on it and hands it back, so the TCP
+ * connect, STARTTLS handshake and AUTH are paid once per connection instead of
+ * once per email. Connections are closed after {@code maxMessagesPerConnection}
+ * sends, after {@code maxIdleMillis} without use, and on any send error; an
+ * idle connection is reused without a NOOP check, so {@code maxIdleMillis}
+ * should stay below the server's idle timeout.
+ * Sends go through a {@link SmtpCircuitBreaker}, so while the server is down
+ * they fail fast with {@link CircuitOpenException} instead of each waiting
+ * out a connect timeout.
+ * <p>
+ * Only depends on a JavaMail {@link Session} and the server coordinates, so it
+ * can be pointed at an in-process SMTP stub.
+ */
+public class PooledMailTransport implements AutoCloseable {
+
+    private final Session session;
+
+    private final String protocol;
+
+    private final String host;
+
+    private final int port;
+
+    private final String username;
+
+    private final String password;
+
+    private final int maxMessagesPerConnection;
+
+    private final long maxIdleMillis;
+
+    private final long borrowTimeoutMillis;
+
+    private final int maxSize;
+
+    private final Semaphore permits;
+
+    private final SmtpCircuitBreaker circuitBreaker;
+
+    private final LinkedBlockingDeque<PooledConnection> idle = new LinkedBlockingDeque<>();
+
+    private final AtomicLong created = new AtomicLong();
+
+    private final AtomicLong recycled = new AtomicLong();
+
+    private final AtomicLong discarded = new AtomicLong();
+
+    private final AtomicLong sent = new AtomicLong();
+
+    private final AtomicLong failures = new AtomicLong();
+
+    private final AtomicLong sendNanos = new AtomicLong();
+
+    private volatile boolean closed;
+
+    public PooledMailTransport(Session session, String protocol, String host, int port, String username, String password,
+            int maxSize, int maxMessagesPerConnection, long maxIdleMillis, long borrowTimeoutMillis,
+            SmtpCircuitBreaker circuitBreaker) {
+        this.session = session;
+        this.protocol = protocol == null ? "smtp" : protocol;
+        this.host = host;
+        this.port = port;
+        this.username = username;
+        this.password = password;
+        this.maxSize = maxSize;
+        this.maxMessagesPerConnection = maxMessagesPerConnection;
+        this.maxIdleMillis = maxIdleMillis;
+        this.borrowTimeoutMillis = borrowTimeoutMillis;
+        this.permits = new Semaphore(maxSize, true);
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    public MimeMessage createMimeMessage() {
+        return new MimeMessage(session);
+    }
+
+    /**
+     * Sends the message on a pooled connection. The connection is discarded if
+     * the send fails, since the SMTP conversation may be left mid-transaction.
+     * Recipient rejections ({@link SendFailedException}) show the server is
+     * up, so they do not count against the circuit; neither do local pool
+     * failures (borrow timeout, closed pool), which say nothing about the
+     * server. Those release the circuit's probe slot via
+     * {@link SmtpCircuitBreaker#onAbandoned()}.
+     */
+    public void send(MimeMessage message) throws MessagingException {
+        if (message.getSentDate() == null) {
+            message.setSentDate(new Date());
+        }
+        message.saveChanges();
+
+        if (!circuitBreaker.tryAcquire()) {
+            failures.incrementAndGet();
+            throw new CircuitOpenException(circuitBreaker.remainingOpenMillis());
+        }
+
+        long start = System.nanoTime();
+        try {
+            acquirePermit();
+        } catch (MessagingException e) {
+            failures.incrementAndGet();
+            circuitBreaker.onAbandoned();
+            throw e;
+        }
+
+        PooledConnection connection = null;
+        boolean healthy = false;
+        try {
+            connection = borrow();
+            connection.transport.sendMessage(message, message.getAllRecipients());
+            connection.messages++;
+            sent.incrementAndGet();
+            healthy = true;
+            circuitBreaker.onSuccess();
+        } catch (SendFailedException e) {
+            failures.incrementAndGet();
+            circuitBreaker.onSuccess();
+            throw e;
+        } catch (MessagingException | RuntimeException e) {
+            failures.incrementAndGet();
+            circuitBreaker.onFailure();
+            throw e;
+        } finally {
+            sendNanos.addAndGet(System.nanoTime() - start);
+            if (connection != null) {
+                release(connection, healthy);
+            } else {
+                permits.release();
+            }
+        }
+    }
+
+    public SmtpCircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        int inUse = maxSize - permits.availablePermits();
+        long sentCount = sent.get();
+        metrics.put("maxSize", maxSize);
+        metrics.put("idle", idle.size());
+        metrics.put("inUse", inUse);
+        metrics.put("waiting", permits.getQueueLength());
+        metrics.put("created", created.get());
+        metrics.put("recycled", recycled.get());
+        metrics.put("discarded", discarded.get());
+        metrics.put("sent", sentCount);
+        metrics.put("failures", failures.get());
+        metrics.put("avgSendMillis", sentCount == 0 ? 0.0 : sendNanos.get() / 1_000_000.0 / sentCount);
+        metrics.putAll(circuitBreaker.getMetrics());
+        return metrics;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        PooledConnection connection;
+        while ((connection = idle.pollFirst()) != null) {
+            closeQuietly(connection);
+        }
+    }
+
+    /**
+     * Waits for a free connection slot. Failures here are local to the pool.
+     */
+    private void acquirePermit() throws MessagingException {
+        if (closed) {
+            throw new MessagingException("Mail transport pool is closed");
+        }
+        try {
+            if (!permits.tryAcquire(borrowTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new MessagingException("Timed out after " + borrowTimeoutMillis + "ms waiting for an SMTP connection");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MessagingException("Interrupted while waiting for an SMTP connection", e);
+        }
+    }
+
+    /**
+     * Takes an idle connection or opens one; the caller holds a permit. A
+     * connection the server dropped fails its send and is discarded then.
+     */
+    private PooledConnection borrow() throws MessagingException {
+        long now = System.currentTimeMillis();
+        PooledConnection connection;
+        // Most recently used first: it is the least likely to have been dropped by the server
+        while ((connection = idle.pollFirst()) != null) {
+            if (now - connection.lastUsedAt <= maxIdleMillis) {
+                return connection;
+            }
+            discarded.incrementAndGet();
+            closeQuietly(connection);
+        }
+        return open();
+    }
+
+    private void release(PooledConnection connection, boolean healthy) {
+        try {
+            if (!healthy) {
+                discarded.incrementAndGet();
+                closeQuietly(connection);
+            } else if (connection.messages >= maxMessagesPerConnection) {
+                recycled.incrementAndGet();
+                closeQuietly(connection);
+            } else if (closed) {
+                closeQuietly(connection);
+            } else {
+                connection.lastUsedAt = System.currentTimeMillis();
+                idle.offerFirst(connection);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    private PooledConnection open() throws MessagingException {
+        Transport transport = session.getTransport(protocol);
+        transport.connect(host, port, username, password);
+        created.incrementAndGet();
+        return new PooledConnection(transport);
+    }
+
+    private static void closeQuietly(PooledConnection connection) {
+        try {
+            connection.transport.close();
+        } catch (MessagingException | RuntimeException ignored) {
+            // connection is being thrown away either way
+        }
+    }
+
+    /**
+     * Thrown without touching the network while the circuit is open.
+     */
+    public static class CircuitOpenException extends MessagingException {
+
+        private final long retryAfterMillis;
+
+        public CircuitOpenException(long retryAfterMillis) {
+            super("SMTP circuit is open, retry in " + retryAfterMillis + "ms");
+            this.retryAfterMillis = retryAfterMillis;
+        }
+
+        public long getRetryAfterMillis() {
+            return retryAfterMillis;
+        }
+    }
+
+    private static final class PooledConnection {
+
+        private final Transport transport;
+
+        private int messages;
+
+        private long lastUsedAt = System.currentTimeMillis();
+
+        private PooledConnection(Transport transport) {
+            this.transport = transport;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.event_management_system.mail;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Consecutive-failure circuit breaker for the SMTP server. After
+ * {@code failureThreshold} failed sends in a row the circuit opens and sends
+ * fail fast for {@code openMillis}; then a single probe send is let through
+ * (half-open) and its outcome closes or re-opens the circuit.
+ */
+public class SmtpCircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureThreshold;
+
+    private final long openMillis;
+
+    private State state = State.CLOSED;
+
+    private int consecutiveFailures;
+
+    private long openedAt;
+
+    private final AtomicLong rejected = new AtomicLong();
+
+    private final AtomicLong opened = new AtomicLong();
+
+    public SmtpCircuitBreaker(int failureThreshold, long openMillis) {
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openMillis;
+    }
+
+    /**
+     * Returns whether a send may go ahead now. While half-open only the probe
+     * is allowed through.
+     */
+    public synchronized boolean tryAcquire() {
+        if (state == State.CLOSED) {
+            return true;
+        }
+        if (state == State.OPEN && System.currentTimeMillis() - openedAt >= openMillis) {
+            state = State.HALF_OPEN;
+            return true;
+        }
+        rejected.incrementAndGet();
+        return false;
+    }
+
+    /**
+     * Only the probe's success closes an open circuit; a send that started
+     * before the circuit opened leaves it open.
+     */
+    public synchronized void onSuccess() {
+        if (state == State.OPEN) {
+            return;
+        }
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+    }
+
+    /**
+     * The acquired send never reached the server. A probe gives its slot back
+     * so the next send probes instead.
+     */
+    public synchronized void onAbandoned() {
+        if (state == State.HALF_OPEN) {
+            state = State.OPEN;
+            openedAt = System.currentTimeMillis() - openMillis;
+        }
+    }
+
+    public synchronized void onFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || (state == State.CLOSED && consecutiveFailures >= failureThreshold)) {
+            state = State.OPEN;
+            openedAt = System.currentTimeMillis();
+            opened.incrementAndGet();
+        }
+    }
+
+    /**
+     * Milliseconds until the circuit will let a probe through, or 0 when sends
+     * are currently allowed.
+     */
+    public synchronized long remainingOpenMillis() {
+        if (state != State.OPEN) {
+            return 0;
+        }
+        return Math.max(0, openMillis - (System.currentTimeMillis() - openedAt));
+    }
+
+    /**
+     * True when only a single probe send would be let through: half-open, or
+     * open with its wait over.
+     */
+    public synchronized boolean isProbing() {
+        return state == State.HALF_OPEN
+                || (state == State.OPEN && System.currentTimeMillis() - openedAt >= openMillis);
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public synchronized Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("circuitState", state.name());
+        metrics.put("consecutiveFailures", consecutiveFailures);
+        metrics.put("circuitOpened", opened.get());
+        metrics.put("circuitRejected", rejected.get());
+        return metrics;
+    }
+}
@@ -3,8 +3,14 @@ package com.event_management_system.mapper;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.stereotype.Component;
 
 import com.event_management_system.dto.EventRequestDTO;
@@ -16,6 +22,8 @@ import com.event_management_system.repository.EventAttendeesRepository;
 @Component
 public class EventMapper {
 
+    private static final int COUNT_BATCH_SIZE = 1000;
+
     @Autowired
     private EventAttendeesRepository eventAttendeesRepository;
 
@@ -42,7 +50,50 @@ public class EventMapper {
         if (entity == null) {
             return null;
         }
+        // Set attendee count (accepted only)
+        long attendeeCount = entity.getId() != null
+                ? eventAttendeesRepository.countByEventAndInvitationStatus(entity, EventAttendees.InvitationStatus.ACCEPTED)
+                : 0L;
+        return toDto(entity, attendeeCount);
+    }
+
+    /**
+     * Maps a batch of events with their accepted-attendee counts fetched in one
+     * grouped query per {@value #COUNT_BATCH_SIZE} events instead of one per event.
+     */
+    public List<EventResponseDTO> toDtoList(List<Event> entities) {
+        Map<Long, Long> acceptedCounts = countAccepted(entities);
+        List<EventResponseDTO> dtos = new ArrayList<>(entities.size());
+        for (Event entity : entities) {
+            dtos.add(toDto(entity, acceptedCounts.getOrDefault(entity.getId(), 0L)));
+        }
+        return dtos;
+    }
+
+    public Page<EventResponseDTO> toDtoPage(Page<Event> page) {
+        return new PageImpl<>(toDtoList(page.getContent()), page.getPageable(), page.getTotalElements());
+    }
 
+    private Map<Long, Long> countAccepted(List<Event> entities) {
+        List<Long> eventIds = new ArrayList<>(entities.size());
+        for (Event entity : entities) {
+            if (entity.getId() != null) {
+                eventIds.add(entity.getId());
+            }
+        }
+
+        Map<Long, Long> counts = new HashMap<>();
+        for (int from = 0; from < eventIds.size(); from += COUNT_BATCH_SIZE) {
+            List<Long> chunk = eventIds.subList(from, Math.min(from + COUNT_BATCH_SIZE, eventIds.size()));
+            for (Object[] row : eventAttendeesRepository.countByEventIdsAndInvitationStatus(chunk,
+                    EventAttendees.InvitationStatus.ACCEPTED)) {
+                counts.put((Long) row[0], (Long) row[1]);
+            }
+        }
+        return counts;
+    }
+
+    private EventResponseDTO toDto(Event entity, long attendeeCount) {
         EventResponseDTO dto = new EventResponseDTO();
         dto.setId(entity.getId());
         dto.setTitle(entity.getTitle());
@@ -73,13 +124,7 @@ public class EventMapper {
         }
         dto.setEventStatus(entity.getCurrentEventStatus());
         dto.setDeleted(entity.getDeleted());
-        // Set attendee count (accepted only)
-        if (entity.getId() != null) {
-            long attendeeCount = eventAttendeesRepository.countByEventAndInvitationStatus(entity, EventAttendees.InvitationStatus.ACCEPTED);
-            dto.setAttendees(attendeeCount);
-        } else {
-            dto.setAttendees(0L);
-        }
+        dto.setAttendees(attendeeCount);
         return dto;
     }
 
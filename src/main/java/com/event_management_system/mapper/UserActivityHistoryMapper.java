@@ -1,41 +1,74 @@
 package com.event_management_system.mapper;
 
+import java.util.Map;
+
 import org.springframework.stereotype.Component;
 
+import com.event_management_system.audit.AuditArchive;
 import com.event_management_system.dto.UserActivityHistoryResponseDTO;
-import com.event_management_system.entity.UserActivityHistory;
+import com.event_management_system.entity.User;
+import com.event_management_system.repository.UserActivityHistoryRepository.ActivityView;
 
 @Component
 public class UserActivityHistoryMapper {
     
-    public UserActivityHistoryResponseDTO toDto(UserActivityHistory entity) {
-        if (entity == null) {
+    public UserActivityHistoryResponseDTO toDto(ActivityView view) {
+        if (view == null) {
             return null;
         }
         
         UserActivityHistoryResponseDTO dto = new UserActivityHistoryResponseDTO();
-        dto.setId(entity.getId());
+        dto.setId(view.getId());
+        dto.setUserId(view.getUserId());
         
-        if (entity.getUser() != null) {
-            dto.setUserId(entity.getUser().getId());
-        }
+        dto.setUsername(view.getUsername());
+        dto.setUserGroup(view.getUserGroup());
         
-        dto.setUsername(entity.getUsername());
-        dto.setUserGroup(entity.getUserGroup());
+        dto.setActivityTypeCode(view.getActivityTypeCode());
+        dto.setActivityTypeName(view.getActivityTypeName());
+        dto.setDescription(view.getDescription());
+        dto.setDeviceId(view.getDeviceId());
+        dto.setActivityDate(view.getActivityDate());
+        dto.setIp(view.getIp());
+        dto.setSessionId(view.getSessionId());
         
-        dto.setActivityTypeCode(entity.getActivityTypeCode());
-        dto.setActivityTypeName(entity.getActivityTypeName());
-        dto.setDescription(entity.getDescription());
-        dto.setDeviceId(entity.getDeviceId());
-        dto.setActivityDate(entity.getActivityDate());
-        dto.setIp(entity.getIp());
-        dto.setSessionId(entity.getSessionId());
+        dto.setCreatedDate(view.getCreatedDate());
+        dto.setCreatedBy(view.getCreatedBy());
+        dto.setUpdatedDate(view.getUpdatedDate());
+        dto.setUpdatedBy(view.getUpdatedBy());
         
-        dto.setCreatedDate(entity.getCreatedDate());
-        dto.setCreatedBy(entity.getCreatedBy() != null ? entity.getCreatedBy().getFullName() : null);
-        dto.setUpdatedDate(entity.getUpdatedDate());
-        dto.setUpdatedBy(entity.getUpdatedBy() != null ? entity.getUpdatedBy().getFullName() : null);
+        return dto;
+    }
+
+    /**
+     * Maps an archived row; {@code users} resolves the created/updated-by ids
+     * of users that still exist.
+     */
+    public UserActivityHistoryResponseDTO toDto(AuditArchive.Row row, Map<Long, User> users) {
+        UserActivityHistoryResponseDTO dto = new UserActivityHistoryResponseDTO();
+        dto.setId(row.id());
+        dto.setUserId(row.getLong("user_id"));
+        
+        dto.setUsername(row.getString("username"));
+        dto.setUserGroup(row.getString("user_group"));
+        
+        dto.setActivityTypeCode(row.getString("activity_type_code"));
+        dto.setActivityTypeName(row.getString("activity_type_name"));
+        dto.setDescription(row.getString("description"));
+        dto.setDeviceId(row.getString("device_id"));
+        dto.setActivityDate(row.getTime("activity_date"));
+        dto.setIp(row.getString("ip"));
+        dto.setSessionId(row.getString("session_id"));
+        
+        dto.setCreatedDate(row.getTime("created_date"));
+        dto.setCreatedBy(fullNameOf(users.get(row.getLong("created_by"))));
+        dto.setUpdatedDate(row.getTime("updated_date"));
+        dto.setUpdatedBy(fullNameOf(users.get(row.getLong("updated_by"))));
         
         return dto;
     }
+
+    private static String fullNameOf(User user) {
+        return user == null ? null : user.getFullName();
+    }
 }
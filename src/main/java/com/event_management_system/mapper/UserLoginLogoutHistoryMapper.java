@@ -1,37 +1,64 @@
 package com.event_management_system.mapper;
 
+import java.util.Map;
+
 import org.springframework.stereotype.Component;
 
+import com.event_management_system.audit.AuditArchive;
 import com.event_management_system.dto.UserLoginLogoutHistoryResponseDTO;
-import com.event_management_system.entity.UserLoginLogoutHistory;
+import com.event_management_system.entity.User;
+import com.event_management_system.repository.UserLoginLogoutHistoryRepository.LoginView;
 
 @Component
 public class UserLoginLogoutHistoryMapper {
     
-    public UserLoginLogoutHistoryResponseDTO toDto(UserLoginLogoutHistory entity) {
-        if (entity == null) {
+    public UserLoginLogoutHistoryResponseDTO toDto(LoginView view) {
+        if (view == null) {
             return null;
         }
         
         UserLoginLogoutHistoryResponseDTO dto = new UserLoginLogoutHistoryResponseDTO();
-        dto.setId(entity.getId());
+        dto.setId(view.getId());
         
-        if (entity.getUser() != null) {
-            dto.setUserId(entity.getUser().getId());
-            dto.setUserFullName(entity.getUser().getFullName());
-            dto.setUserEmail(entity.getUser().getEmail());
-        }
+        dto.setUserId(view.getUserId());
+        dto.setUserFullName(view.getUserFullName());
+        dto.setUserEmail(view.getUserEmail());
         
-        dto.setUserToken(entity.getUserToken());
-        dto.setLoginTime(entity.getLoginTime());
-        dto.setLogoutTime(entity.getLogoutTime());
-        dto.setRequestIp(entity.getRequestIp());
-        dto.setDeviceInfo(entity.getDeviceInfo());
-        dto.setLoginStatus(entity.getLoginStatus());
+        dto.setUserToken(view.getUserToken());
+        dto.setLoginTime(view.getLoginTime());
+        dto.setLogoutTime(view.getLogoutTime());
+        dto.setRequestIp(view.getRequestIp());
+        dto.setDeviceInfo(view.getDeviceInfo());
+        dto.setLoginStatus(view.getLoginStatus());
         
-        dto.setIsActiveSession(entity.getLogoutTime() == null);
+        dto.setIsActiveSession(view.getLogoutTime() == null);
         
         return dto;
     }
-}
 
+    /**
+     * Maps an archived row; {@code users} supplies the name and email of
+     * users that still exist.
+     */
+    public UserLoginLogoutHistoryResponseDTO toDto(AuditArchive.Row row, Map<Long, User> users) {
+        UserLoginLogoutHistoryResponseDTO dto = new UserLoginLogoutHistoryResponseDTO();
+        dto.setId(row.id());
+        
+        Long userId = row.getLong("user_id");
+        User user = users.get(userId);
+        dto.setUserId(userId);
+        dto.setUserFullName(user == null ? null : user.getFullName());
+        dto.setUserEmail(user == null ? null : user.getEmail());
+        
+        dto.setUserToken(row.getString("user_token"));
+        dto.setLoginTime(row.getTime("login_time"));
+        dto.setLogoutTime(row.getTime("logout_time"));
+        dto.setRequestIp(row.getString("request_ip"));
+        dto.setDeviceInfo(row.getString("device_info"));
+        dto.setLoginStatus(row.getString("login_status"));
+        
+        dto.setIsActiveSession(dto.getLogoutTime() == null);
+        
+        return dto;
+    }
+}
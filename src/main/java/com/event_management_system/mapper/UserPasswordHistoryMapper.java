@@ -3,34 +3,30 @@ package com.event_management_system.mapper;
 import org.springframework.stereotype.Component;
 
 import com.event_management_system.dto.UserPasswordHistoryResponseDTO;
-import com.event_management_system.entity.UserPasswordHistory;
+import com.event_management_system.repository.UserPasswordHistoryRepository.PasswordChangeView;
 
 @Component
 public class UserPasswordHistoryMapper {
     
-    public UserPasswordHistoryResponseDTO toDto(UserPasswordHistory entity) {
-        if (entity == null) {
+    public UserPasswordHistoryResponseDTO toDto(PasswordChangeView view) {
+        if (view == null) {
             return null;
         }
         
         UserPasswordHistoryResponseDTO dto = new UserPasswordHistoryResponseDTO();
-        dto.setId(entity.getId());
+        dto.setId(view.getId());
         
-        if (entity.getUser() != null) {
-            dto.setUserId(entity.getUser().getId());
-            dto.setUserFullName(entity.getUser().getFullName());
-            dto.setUserEmail(entity.getUser().getEmail());
-        }
+        dto.setUserId(view.getUserId());
+        dto.setUserFullName(view.getUserFullName());
+        dto.setUserEmail(view.getUserEmail());
         
-        if (entity.getPasswordChangedBy() != null) {
-            dto.setPasswordChangedById(entity.getPasswordChangedBy().getId());
-            dto.setPasswordChangedByName(entity.getPasswordChangedBy().getFullName());
-        }
+        dto.setPasswordChangedById(view.getPasswordChangedById());
+        dto.setPasswordChangedByName(view.getPasswordChangedByName());
         
-        dto.setChangeDate(entity.getChangeDate());
-        dto.setCreatedDate(entity.getCreatedAt());
-        dto.setCreatedBy(entity.getCreatedBy() != null ? entity.getCreatedBy().getFullName() : null);
-        dto.setUpdatedDate(entity.getUpdatedAt());
+        dto.setChangeDate(view.getChangeDate());
+        dto.setCreatedDate(view.getCreatedAt());
+        dto.setCreatedBy(view.getCreatedBy());
+        dto.setUpdatedDate(view.getUpdatedAt());
         dto.setUpdatedBy(null);  // Not tracked in this entity
         
         
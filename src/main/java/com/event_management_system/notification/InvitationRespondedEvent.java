@@ -0,0 +1,21 @@
+package com.event_management_system.notification;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Published once an invitee's ACCEPT/DECLINE has been recorded. Carries ids
+ * only; listeners load whatever they need in their own transaction.
+ */
+@Getter
+@RequiredArgsConstructor
+public class InvitationRespondedEvent {
+
+    private final Long attendeeId;
+
+    private final Long eventId;
+
+    private final String email;
+
+    private final boolean accepted;
+}
@@ -0,0 +1,131 @@
+package com.event_management_system.notification;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.event_management_system.entity.Event;
+import com.event_management_system.service.ApplicationLoggerService;
+import com.event_management_system.service.EmailService;
+import com.event_management_system.service.EventService;
+
+/**
+ * Follow-up work for an invitation response, run after the response has
+ * committed and off the request thread: provision an account for an external
+ * invitee who accepted, then send the confirmation and, for a new account,
+ * the credentials. The emails are chained so credentials never arrive first.
+ * <p>
+ * The attendee row is marked notified once the confirmation is sent;
+ * {@link com.event_management_system.scheduler.job.InvitationResponseSweepJob}
+ * re-runs the follow-up for responses that never got there (e.g. the instance
+ * stopped right after commit).
+ */
+@Component
+public class InvitationResponseListener {
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EmailService emailService;
+
+    @Autowired
+    private ApplicationLoggerService log;
+
+    /** Attendees whose follow-up is running, so the sweep does not start a second one. */
+    private final Set<Long> inProgress = ConcurrentHashMap.newKeySet();
+
+    @Async("taskExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onInvitationResponded(InvitationRespondedEvent response) {
+        followUp(response);
+    }
+
+    public void followUp(InvitationRespondedEvent response) {
+        Long attendeeId = response.getAttendeeId();
+        if (!inProgress.add(attendeeId)) {
+            return;
+        }
+        String email = response.getEmail();
+        try {
+            EventService.ProvisionedAccount account = response.isAccepted()
+                    ? provisionQuietly(response)
+                    : null;
+            Event event = eventService.getEventForNotification(response.getEventId());
+
+            log.info("[InvitationResponseListener] INFO - followUp() - Sending invitation response confirmation to: {}", email);
+            emailService.sendWithRetry(
+                    () -> emailService.sendInvitationResponseConfirmation(event, email, response.isAccepted()),
+                    email, 3)
+                    .thenAccept(sent -> {
+                        if (sent) {
+                            markNotifiedQuietly(attendeeId);
+                        } else {
+                            log.warn("[InvitationResponseListener] WARN - followUp() - Confirmation not sent, left for the sweep: attendeeId={}, email={}",
+                                    attendeeId, email);
+                        }
+                    })
+                    .thenRun(() -> {
+                        if (account != null) {
+                            sendCredentials(account);
+                        }
+                    })
+                    .exceptionally(e -> {
+                        log.error("[InvitationResponseListener] ERROR - followUp() - Follow-up failed for attendeeId={}, email={}: {}",
+                                attendeeId, email, e.getMessage());
+                        return null;
+                    })
+                    .whenComplete((ignored, e) -> inProgress.remove(attendeeId));
+        } catch (Exception e) {
+            inProgress.remove(attendeeId);
+            log.error("[InvitationResponseListener] ERROR - followUp() - Follow-up failed for attendeeId={}, email={}: {}",
+                    attendeeId, email, e.getMessage(), e);
+        }
+    }
+
+    private EventService.ProvisionedAccount provisionQuietly(InvitationRespondedEvent response) {
+        try {
+            return eventService.provisionInviteeAccount(response.getAttendeeId());
+        } catch (Exception e) {
+            log.error("[InvitationResponseListener] ERROR - provisionQuietly() - Failed to auto-create account for invitee: email={}, error={}",
+                    response.getEmail(), e.getMessage(), e);
+            return null;
+        }
+    }
+
+    private void markNotifiedQuietly(Long attendeeId) {
+        try {
+            eventService.markResponseNotified(attendeeId);
+        } catch (Exception e) {
+            // The sweep resends the confirmation; the credentials still go out below.
+            log.error("[InvitationResponseListener] ERROR - markNotifiedQuietly() - Could not mark attendeeId={} notified: {}",
+                    attendeeId, e.getMessage());
+        }
+    }
+
+    private void sendCredentials(EventService.ProvisionedAccount account) {
+        log.info("[InvitationResponseListener] INFO - sendCredentials() - Starting credentials email send with retry for: {}", account.getEmail());
+        emailService.sendWithRetry(
+                () -> emailService.sendAutoAccountCredentials(account.getEmail(), account.getFullName(), account.getTemporaryPassword()),
+                account.getEmail(), 5)
+                .thenAccept(emailSent -> {
+                    if (emailSent) {
+                        log.info("[InvitationResponseListener] INFO - ✅ SUCCESS: Credentials email sent after confirmation: email={}, userId={}",
+                                account.getEmail(), account.getUserId());
+                    } else {
+                        log.warn("[InvitationResponseListener] WARN - ⚠️ FAILED: Credentials email send failed after 5 retries: email={}, userId={}",
+                                account.getEmail(), account.getUserId());
+                    }
+                })
+                .exceptionally(e -> {
+                    log.error("[InvitationResponseListener] ERROR - sendCredentials() - Credentials email failed for userId={}: {}",
+                            account.getUserId(), e.getMessage());
+                    return null;
+                });
+    }
+}
@@ -1,10 +1,16 @@
 package com.event_management_system.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.event_management_system.entity.Event;
 import com.event_management_system.entity.EventAttendees;
@@ -15,15 +21,120 @@ public interface EventAttendeesRepository extends JpaRepository<EventAttendees,
 
     Optional<EventAttendees> findByInvitationToken(String invitationToken);
 
+    boolean existsByInvitationToken(String invitationToken);
+
+    @Query("SELECT ea.id AS id, ea.event.id AS eventId, ea.email AS email, ea.invitationStatus AS invitationStatus "
+            + "FROM EventAttendees ea WHERE ea.invitationToken = :token")
+    Optional<InvitationRef> findInvitationRefByToken(@Param("token") String invitationToken);
+
+    /**
+     * Records the response only while the invitation is still pending, so a
+     * double click cannot respond (and provision an account) twice. The sweep
+     * picks the follow-up up at {@code followUpAt} unless it is sent first.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE EventAttendees ea SET ea.invitationStatus = :status, ea.responseAt = :now, "
+            + "ea.responseNextNotifyAt = :followUpAt, ea.updatedAt = :now, ea.updatedBy = 'system' "
+            + "WHERE ea.invitationToken = :token "
+            + "AND ea.invitationStatus = com.event_management_system.entity.EventAttendees.InvitationStatus.PENDING")
+    int recordResponse(@Param("token") String invitationToken,
+            @Param("status") EventAttendees.InvitationStatus status,
+            @Param("now") LocalDateTime now,
+            @Param("followUpAt") LocalDateTime followUpAt);
+
     List<EventAttendees> findByEvent(Event event);
 
     List<EventAttendees> findByEventAndInvitationStatus(Event event, EventAttendees.InvitationStatus status);
 
     List<EventAttendees> findByUser(User user);
 
+    /**
+     * Responses whose follow-up (account provisioning, confirmation email) is
+     * due for a retry, longest overdue first.
+     */
+    @Query("SELECT ea.id AS id, ea.event.id AS eventId, ea.email AS email, ea.invitationStatus AS invitationStatus, "
+            + "ea.responseNotifyAttempts AS responseNotifyAttempts "
+            + "FROM EventAttendees ea WHERE ea.responseNextNotifyAt <= :now ORDER BY ea.responseNextNotifyAt, ea.id")
+    List<ResponseFollowUp> findDueResponseFollowUps(@Param("now") LocalDateTime now, Limit limit);
+
+    /**
+     * Counts a sweep attempt and sets the next one (null to give up). Only one
+     * instance wins a given attempt.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE EventAttendees ea SET ea.responseNotifyAttempts = :attempts, ea.responseNextNotifyAt = :nextAt "
+            + "WHERE ea.id = :id AND ea.responseNotifyAttempts = :attempts - 1 AND ea.responseNotifiedAt IS NULL")
+    int scheduleResponseFollowUp(@Param("id") Long id, @Param("attempts") int attempts,
+            @Param("nextAt") LocalDateTime nextAt);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE EventAttendees ea SET ea.responseNotifiedAt = :now, ea.responseNextNotifyAt = null WHERE ea.id = :id")
+    int markResponseNotified(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    /**
+     * Deletes up to {@code limit} rows of the user, each call in its own
+     * short transaction.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM event_attendees WHERE user_id = :userId LIMIT :limit", nativeQuery = true)
+    int deleteChunkByUserId(@Param("userId") Long userId, @Param("limit") int limit);
+
     List<EventAttendees> findByUserAndInvitationStatus(User user, EventAttendees.InvitationStatus status);
 
     boolean existsByEventAndEmail(Event event, String email);
 
     long countByEventAndInvitationStatus(Event event, EventAttendees.InvitationStatus status);
+
+    @Query("SELECT ea.event.id, COUNT(ea) FROM EventAttendees ea "
+            + "WHERE ea.event.id IN :eventIds AND ea.invitationStatus = :status GROUP BY ea.event.id")
+    List<Object[]> countByEventIdsAndInvitationStatus(@Param("eventIds") java.util.Collection<Long> eventIds,
+            @Param("status") EventAttendees.InvitationStatus status);
+
+    @Query("SELECT ea FROM EventAttendees ea JOIN FETCH ea.event e JOIN FETCH ea.user "
+            + "WHERE e.eventStatus = com.event_management_system.entity.Event.EventStatus.UPCOMING "
+            + "AND e.approvalStatus = com.event_management_system.entity.Event.ApprovalStatus.APPROVED "
+            + "AND e.startTime > :from AND e.startTime < :to AND e.deleted = false "
+            + "AND ea.invitationStatus = com.event_management_system.entity.EventAttendees.InvitationStatus.ACCEPTED "
+            + "AND ea.advanceReminderSent = false AND ea.deleted = false")
+    List<EventAttendees> findDueAdvanceReminders(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query("SELECT ea FROM EventAttendees ea JOIN FETCH ea.event e JOIN FETCH ea.user "
+            + "WHERE e.eventStatus = com.event_management_system.entity.Event.EventStatus.UPCOMING "
+            + "AND e.approvalStatus = com.event_management_system.entity.Event.ApprovalStatus.APPROVED "
+            + "AND e.startTime > :from AND e.startTime < :to AND e.deleted = false "
+            + "AND ea.invitationStatus = com.event_management_system.entity.EventAttendees.InvitationStatus.ACCEPTED "
+            + "AND ea.lastMinuteReminderSent = false AND ea.deleted = false")
+    List<EventAttendees> findDueLastMinuteReminders(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE EventAttendees ea SET ea.advanceReminderSent = true, ea.updatedAt = :now, ea.updatedBy = 'system' "
+            + "WHERE ea.id IN :ids")
+    int markAdvanceReminderSent(@Param("ids") java.util.Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE EventAttendees ea SET ea.lastMinuteReminderSent = true, ea.updatedAt = :now, ea.updatedBy = 'system' "
+            + "WHERE ea.id IN :ids")
+    int markLastMinuteReminderSent(@Param("ids") java.util.Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    interface InvitationRef {
+
+        Long getId();
+
+        Long getEventId();
+
+        String getEmail();
+
+        EventAttendees.InvitationStatus getInvitationStatus();
+    }
+
+    interface ResponseFollowUp extends InvitationRef {
+
+        int getResponseNotifyAttempts();
+    }
 }
@@ -3,7 +3,11 @@ package com.event_management_system.repository;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.event_management_system.entity.EventReminderSent;
 
@@ -16,5 +20,14 @@ public interface EventReminderSentRepository extends JpaRepository<EventReminder
     
     Optional<EventReminderSent> findByEventIdAndUserId(Long eventId, Long userId);
 
+    /**
+     * Deletes up to {@code limit} rows of the user, each call in its own
+     * short transaction.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM event_reminder_sent WHERE user_id = :userId LIMIT :limit", nativeQuery = true)
+    int deleteChunkByUserId(@Param("userId") Long userId, @Param("limit") int limit);
+
    
 }
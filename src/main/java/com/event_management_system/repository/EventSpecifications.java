@@ -0,0 +1,57 @@
+package com.event_management_system.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.event_management_system.entity.Event;
+import com.event_management_system.entity.EventAttendees;
+
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+
+/**
+ * Event visibility rules expressed as JPA specifications so that listing, paging
+ * and counting all happen in the database instead of filtering in memory.
+ */
+public final class EventSpecifications {
+
+    private EventSpecifications() {
+    }
+
+    /**
+     * Mirrors EventService.canViewEvent: the permission flags are resolved once
+     * by the caller, the per-event part (organizer, visibility, invitation) is
+     * turned into predicates.
+     */
+    public static Specification<Event> visibleTo(Long userId, boolean viewAll, boolean viewPublic, boolean viewInvited) {
+        return (root, query, cb) -> {
+            Predicate notDeleted = cb.isFalse(root.get("deleted"));
+            if (viewAll) {
+                return notDeleted;
+            }
+
+            List<Predicate> visible = new ArrayList<>();
+            visible.add(cb.equal(root.get("organizer").get("id"), userId));
+
+            if (viewPublic) {
+                visible.add(cb.equal(root.get("visibility"), Event.Visibility.PUBLIC));
+            }
+
+            if (viewInvited) {
+                Subquery<Long> invitation = query.subquery(Long.class);
+                Root<EventAttendees> attendee = invitation.from(EventAttendees.class);
+                invitation.select(attendee.get("id"))
+                        .where(cb.equal(attendee.get("event"), root),
+                                cb.equal(attendee.get("user").get("id"), userId));
+                visible.add(cb.and(
+                        cb.equal(root.get("visibility"), Event.Visibility.PRIVATE),
+                        cb.exists(invitation)));
+            }
+
+            return cb.and(notDeleted, cb.or(visible.toArray(new Predicate[0])));
+        };
+    }
+}
@@ -0,0 +1,74 @@
+package com.event_management_system.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.event_management_system.entity.InvitationOutbox;
+
+@Repository
+public interface InvitationOutboxRepository extends JpaRepository<InvitationOutbox, Long> {
+
+    /**
+     * Locks the next due rows; SKIP LOCKED lets several instances claim
+     * disjoint batches at the same time. Must run inside a transaction.
+     */
+    @Query(value = "SELECT id FROM invitation_outbox WHERE status = 'PENDING' AND next_attempt_at <= :now "
+            + "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Long> lockDueIds(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE InvitationOutbox o SET o.status = com.event_management_system.entity.InvitationOutbox.Status.SENDING, "
+            + "o.claimedAt = :now, o.attempts = o.attempts + 1 WHERE o.id IN :ids")
+    int markClaimed(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    @Query("SELECT o FROM InvitationOutbox o JOIN FETCH o.event e JOIN FETCH e.organizer WHERE o.id IN :ids ORDER BY o.id")
+    List<InvitationOutbox> findWithEventByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE InvitationOutbox o SET o.status = com.event_management_system.entity.InvitationOutbox.Status.PENDING, "
+            + "o.claimedAt = null WHERE o.status = com.event_management_system.entity.InvitationOutbox.Status.SENDING "
+            + "AND o.claimedAt < :claimedBefore")
+    int releaseExpiredClaims(@Param("claimedBefore") LocalDateTime claimedBefore);
+
+    /**
+     * Hands claimed rows back to PENDING and takes back the attempt counted
+     * when they were claimed.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE InvitationOutbox o SET o.status = com.event_management_system.entity.InvitationOutbox.Status.PENDING, "
+            + "o.claimedAt = null, o.attempts = o.attempts - 1, o.nextAttemptAt = :nextAttemptAt "
+            + "WHERE o.id IN :ids AND o.status = com.event_management_system.entity.InvitationOutbox.Status.SENDING")
+    int releaseClaims(@Param("ids") Collection<Long> ids, @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+
+    /**
+     * Records the outcome only while the row still carries the caller's claim;
+     * 0 means the claim expired and the row was handed to another attempt.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE InvitationOutbox o SET o.status = com.event_management_system.entity.InvitationOutbox.Status.SENT, "
+            + "o.sentAt = :now, o.lastError = null WHERE o.id = :id "
+            + "AND o.status = com.event_management_system.entity.InvitationOutbox.Status.SENDING AND o.claimedAt = :claimedAt")
+    int markSent(@Param("id") Long id, @Param("claimedAt") LocalDateTime claimedAt, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE InvitationOutbox o SET o.status = :status, o.nextAttemptAt = :nextAttemptAt, "
+            + "o.claimedAt = null, o.lastError = :error WHERE o.id = :id "
+            + "AND o.status = com.event_management_system.entity.InvitationOutbox.Status.SENDING AND o.claimedAt = :claimedAt")
+    int markAttemptFailed(@Param("id") Long id, @Param("claimedAt") LocalDateTime claimedAt,
+            @Param("status") InvitationOutbox.Status status, @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+            @Param("error") String error);
+
+    long countByStatus(InvitationOutbox.Status status);
+}
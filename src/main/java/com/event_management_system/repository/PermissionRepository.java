@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import com.event_management_system.entity.Permission;
@@ -14,4 +15,7 @@ public interface PermissionRepository extends JpaRepository<Permission, Long> {
     List<Permission> findAllByDeletedFalse();
     
     Optional<Permission> findByName(String name);
-}
\ No newline at end of file
+
+    @Query("SELECT p.id, p.name FROM Permission p")
+    List<Object[]> findAllIdAndName();
+}
@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import com.event_management_system.entity.Permission;
@@ -33,4 +34,8 @@ public interface RolePermissionRepository extends JpaRepository<RolePermission,
 
    
     List<RolePermission> findByIdPermissionId(Long permissionId);
+
+   
+    @Query("SELECT rp.id.roleId, rp.id.permissionId FROM RolePermission rp")
+    List<Object[]> findAllRolePermissionIds();
 }
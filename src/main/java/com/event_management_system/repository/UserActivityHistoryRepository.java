@@ -1,47 +1,121 @@
 package com.event_management_system.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.event_management_system.entity.UserActivityHistory;
 
 
+/**
+ * Reads return {@link ActivityView} rows selected column by column, so listing
+ * history never hydrates the User/Role/permission graph behind createdBy and
+ * updatedBy; only their names are joined in.
+ * <p>
+ * Listing queries are keyset-paginated on (activityDate, id): each page starts
+ * strictly after the last row of the previous one, so the cost of a page does
+ * not grow with how deep the client has scrolled.
+ */
 @Repository
 public interface UserActivityHistoryRepository extends JpaRepository<UserActivityHistory, Long> {
     
-   
-    List<UserActivityHistory> findByUserId(Long userId);
-    
- 
-    @Query("SELECT uah FROM UserActivityHistory uah " +
-           "LEFT JOIN FETCH uah.createdBy " +
-           "LEFT JOIN FETCH uah.updatedBy " +
-           "WHERE uah.activityDate BETWEEN :startDate AND :endDate " +
-           "ORDER BY uah.activityDate DESC")
-    List<UserActivityHistory> findAllWithCreatedByAndUpdatedBy(@Param("startDate") LocalDateTime startDate,
-                                                              @Param("endDate") LocalDateTime endDate);
-    
- 
-    List<UserActivityHistory> findByActivityTypeCodeOrderByActivityDateDesc(String activityTypeCode);
-   
-    List<UserActivityHistory> findByUserIdAndActivityDateBetweenOrderByActivityDateDesc(
-        Long userId,
-        LocalDateTime startDate,
-        LocalDateTime endDate
-    );
-    
-  
-    List<UserActivityHistory> findBySessionIdOrderByActivityDateAsc(String sessionId);
+    String SELECT_VIEW = "SELECT uah.id AS id, uah.user.id AS userId, uah.username AS username, uah.userGroup AS userGroup, "
+            + "uah.activityTypeCode AS activityTypeCode, uah.activityTypeName AS activityTypeName, "
+            + "uah.description AS description, uah.deviceId AS deviceId, uah.activityDate AS activityDate, "
+            + "uah.ip AS ip, uah.sessionId AS sessionId, uah.createdDate AS createdDate, cb.fullName AS createdBy, "
+            + "uah.updatedDate AS updatedDate, ub.fullName AS updatedBy "
+            + "FROM UserActivityHistory uah LEFT JOIN uah.createdBy cb LEFT JOIN uah.updatedBy ub ";
+
+    String BEFORE_CURSOR = "(uah.activityDate < :at OR (uah.activityDate = :at AND uah.id < :id)) ";
+
+    String NEWEST_FIRST = "ORDER BY uah.activityDate DESC, uah.id DESC";
+
+    @Query(SELECT_VIEW + "WHERE " + BEFORE_CURSOR + NEWEST_FIRST)
+    List<ActivityView> findPage(@Param("at") LocalDateTime at, @Param("id") long id, Limit limit);
+
+    @Query(SELECT_VIEW + "WHERE uah.user.id = :userId AND " + BEFORE_CURSOR + NEWEST_FIRST)
+    List<ActivityView> findPageByUserId(@Param("userId") Long userId,
+                                        @Param("at") LocalDateTime at, @Param("id") long id, Limit limit);
+
+    @Query(SELECT_VIEW + "WHERE uah.activityTypeCode = :code AND " + BEFORE_CURSOR + NEWEST_FIRST)
+    List<ActivityView> findPageByActivityTypeCode(@Param("code") String activityTypeCode,
+                                                  @Param("at") LocalDateTime at, @Param("id") long id, Limit limit);
+
+    @Query(SELECT_VIEW + "WHERE uah.user.id = :userId "
+           + "AND uah.activityDate BETWEEN :startDate AND :endDate AND " + BEFORE_CURSOR + NEWEST_FIRST)
+    List<ActivityView> findPageByUserIdAndActivityDateBetween(@Param("userId") Long userId,
+                                                              @Param("startDate") LocalDateTime startDate,
+                                                              @Param("endDate") LocalDateTime endDate,
+                                                              @Param("at") LocalDateTime at, @Param("id") long id,
+                                                              Limit limit);
+
+    /** Session activity reads oldest first, so this one pages forward. */
+    @Query(SELECT_VIEW + "WHERE uah.sessionId = :sessionId "
+           + "AND (uah.activityDate > :at OR (uah.activityDate = :at AND uah.id > :id)) "
+           + "ORDER BY uah.activityDate ASC, uah.id ASC")
+    List<ActivityView> findPageBySessionId(@Param("sessionId") String sessionId,
+                                           @Param("at") LocalDateTime at, @Param("id") long id, Limit limit);
     
   
-    List<UserActivityHistory> findByUserGroupOrderByActivityDateDesc(String userGroup);
+    @Query(SELECT_VIEW + "WHERE uah.userGroup = :userGroup " + NEWEST_FIRST)
+    List<ActivityView> findByUserGroup(@Param("userGroup") String userGroup);
     
    
      
     long countByUserId(Long userId);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM UserActivityHistory h WHERE h.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Deletes up to {@code limit} rows of the user, each call in its own
+     * short transaction.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM user_activity_history WHERE user_id = :userId LIMIT :limit", nativeQuery = true)
+    int deleteChunkByUserId(@Param("userId") Long userId, @Param("limit") int limit);
+
+    interface ActivityView {
+
+        Long getId();
+
+        Long getUserId();
+
+        String getUsername();
+
+        String getUserGroup();
+
+        String getActivityTypeCode();
+
+        String getActivityTypeName();
+
+        String getDescription();
+
+        String getDeviceId();
+
+        LocalDateTime getActivityDate();
+
+        String getIp();
+
+        String getSessionId();
+
+        LocalDateTime getCreatedDate();
+
+        String getCreatedBy();
+
+        LocalDateTime getUpdatedDate();
+
+        String getUpdatedBy();
+    }
 }
@@ -1,40 +1,103 @@
 package com.event_management_system.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.event_management_system.entity.UserLoginLogoutHistory;
 
 
+/**
+ * Reads return flat {@link LoginView} rows. Listing queries are
+ * keyset-paginated on (loginTime, id), newest first.
+ */
 @Repository
 public interface UserLoginLogoutHistoryRepository extends JpaRepository<UserLoginLogoutHistory, Long> {
     
-  
-    List<UserLoginLogoutHistory> findByUserId(Long userId);
+    String SELECT_VIEW = "SELECT h.id AS id, u.id AS userId, u.fullName AS userFullName, u.email AS userEmail, "
+            + "h.userToken AS userToken, h.loginTime AS loginTime, h.logoutTime AS logoutTime, "
+            + "h.requestIp AS requestIp, h.deviceInfo AS deviceInfo, h.loginStatus AS loginStatus "
+            + "FROM UserLoginLogoutHistory h JOIN h.user u ";
+
+    String BEFORE_CURSOR = "(h.loginTime < :at OR (h.loginTime = :at AND h.id < :id)) ";
+
+    String NEWEST_FIRST = "ORDER BY h.loginTime DESC, h.id DESC";
+
+    @Query(SELECT_VIEW + "WHERE " + BEFORE_CURSOR + NEWEST_FIRST)
+    List<LoginView> findPage(@Param("at") LocalDateTime at, @Param("id") long id, Limit limit);
+
+    @Query(SELECT_VIEW + "WHERE h.user.id = :userId AND " + BEFORE_CURSOR + NEWEST_FIRST)
+    List<LoginView> findPageByUserId(@Param("userId") Long userId,
+                                     @Param("at") LocalDateTime at, @Param("id") long id, Limit limit);
+
+    @Query(SELECT_VIEW + "WHERE h.user.id = :userId "
+           + "AND h.loginTime BETWEEN :startDate AND :endDate AND " + BEFORE_CURSOR + NEWEST_FIRST)
+    List<LoginView> findPageByUserIdAndLoginTimeBetween(@Param("userId") Long userId,
+                                                        @Param("startDate") LocalDateTime startDate,
+                                                        @Param("endDate") LocalDateTime endDate,
+                                                        @Param("at") LocalDateTime at, @Param("id") long id,
+                                                        Limit limit);
+
+    @Query(SELECT_VIEW + "WHERE h.user.id = :userId AND h.loginStatus = :status AND " + BEFORE_CURSOR + NEWEST_FIRST)
+    List<LoginView> findPageByUserIdAndLoginStatus(@Param("userId") Long userId,
+                                                   @Param("status") String status,
+                                                   @Param("at") LocalDateTime at, @Param("id") long id,
+                                                   Limit limit);
  
     Optional<UserLoginLogoutHistory> findByUserToken(String token);
     
     /**
      * Find ACTIVE sessions for a user (logout_time IS NULL)
      */
-    List<UserLoginLogoutHistory> findByUserIdAndLogoutTimeIsNullOrderByLoginTimeDesc(Long userId);
-  
-    List<UserLoginLogoutHistory> findByUserIdAndLoginTimeBetweenOrderByLoginTimeDesc(
-        Long userId,
-        LocalDateTime startDate,
-        LocalDateTime endDate
-    );
-    
-  
-    List<UserLoginLogoutHistory> findByUserIdAndLoginStatusOrderByLoginTimeDesc(Long userId, String status);
+    @Query(SELECT_VIEW + "WHERE h.user.id = :userId AND h.logoutTime IS NULL " + NEWEST_FIRST)
+    List<LoginView> findActiveByUserId(@Param("userId") Long userId);
     
  
     long countByUserIdAndLogoutTimeIsNull(Long userId);
-    
-   
-    Optional<UserLoginLogoutHistory> findFirstByUserIdOrderByLoginTimeDesc(Long userId);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM UserLoginLogoutHistory h WHERE h.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Deletes up to {@code limit} rows of the user, each call in its own
+     * short transaction.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM user_login_logout_history WHERE user_id = :userId LIMIT :limit", nativeQuery = true)
+    int deleteChunkByUserId(@Param("userId") Long userId, @Param("limit") int limit);
+
+    interface LoginView {
+
+        Long getId();
+
+        Long getUserId();
+
+        String getUserFullName();
+
+        String getUserEmail();
+
+        String getUserToken();
+
+        LocalDateTime getLoginTime();
+
+        LocalDateTime getLogoutTime();
+
+        String getRequestIp();
+
+        String getDeviceInfo();
+
+        String getLoginStatus();
+    }
 }
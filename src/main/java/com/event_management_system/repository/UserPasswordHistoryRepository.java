@@ -1,31 +1,87 @@
 package com.event_management_system.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.event_management_system.entity.UserPasswordHistory;
 
 
+/**
+ * Reads return flat {@link PasswordChangeView} rows, which leave the password
+ * hashes out. Listing queries are keyset-paginated on (changeDate, id), newest
+ * first.
+ */
 @Repository
 public interface UserPasswordHistoryRepository extends JpaRepository<UserPasswordHistory, Long> {
     
-    
-    List<UserPasswordHistory> findByUserId(Long userId);
-    
- 
-    Optional<UserPasswordHistory> findFirstByUserIdOrderByChangeDateDesc(Long userId);
+    String SELECT_VIEW = "SELECT h.id AS id, u.id AS userId, u.fullName AS userFullName, u.email AS userEmail, "
+            + "cb.id AS passwordChangedById, cb.fullName AS passwordChangedByName, h.changeDate AS changeDate, "
+            + "h.createdAt AS createdAt, c.fullName AS createdBy, h.updatedAt AS updatedAt "
+            + "FROM UserPasswordHistory h JOIN h.user u LEFT JOIN h.passwordChangedBy cb LEFT JOIN h.createdBy c ";
+
+    String BEFORE_CURSOR = "(h.changeDate < :at OR (h.changeDate = :at AND h.id < :id)) ";
+
+    String NEWEST_FIRST = "ORDER BY h.changeDate DESC, h.id DESC";
+
+    @Query(SELECT_VIEW + "WHERE " + BEFORE_CURSOR + NEWEST_FIRST)
+    List<PasswordChangeView> findPage(@Param("at") LocalDateTime at, @Param("id") long id, Limit limit);
+
+    @Query(SELECT_VIEW + "WHERE h.user.id = :userId AND " + BEFORE_CURSOR + NEWEST_FIRST)
+    List<PasswordChangeView> findPageByUserId(@Param("userId") Long userId,
+                                              @Param("at") LocalDateTime at, @Param("id") long id, Limit limit);
     
     
-    List<UserPasswordHistory> findByUserIdAndChangeDateBetweenOrderByChangeDateDesc(
-        Long userId,
-        LocalDateTime startDate,
-        LocalDateTime endDate
-    );
+    @Query(SELECT_VIEW + "WHERE h.user.id = :userId AND h.changeDate BETWEEN :startDate AND :endDate " + NEWEST_FIRST)
+    List<PasswordChangeView> findByUserIdAndChangeDateBetween(@Param("userId") Long userId,
+                                                              @Param("startDate") LocalDateTime startDate,
+                                                              @Param("endDate") LocalDateTime endDate);
     
   
     long countByUserId(Long userId);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM UserPasswordHistory h WHERE h.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Deletes up to {@code limit} rows of the user, each call in its own
+     * short transaction.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM user_password_history WHERE user_id = :userId LIMIT :limit", nativeQuery = true)
+    int deleteChunkByUserId(@Param("userId") Long userId, @Param("limit") int limit);
+
+    interface PasswordChangeView {
+
+        Long getId();
+
+        Long getUserId();
+
+        String getUserFullName();
+
+        String getUserEmail();
+
+        Long getPasswordChangedById();
+
+        String getPasswordChangedByName();
+
+        LocalDateTime getChangeDate();
+
+        LocalDateTime getCreatedAt();
+
+        String getCreatedBy();
+
+        LocalDateTime getUpdatedAt();
+    }
 }
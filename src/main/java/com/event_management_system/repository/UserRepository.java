@@ -1,10 +1,15 @@
 package com.event_management_system.repository;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.event_management_system.entity.User;
 
@@ -17,4 +22,16 @@ public interface UserRepository extends JpaRepository<User, Long> {
     
     @Override
     boolean existsById(@NonNull Long id);
-}
\ No newline at end of file
+
+    
+    @Query("SELECT r.id FROM User u LEFT JOIN u.role r WHERE u.id = :userId")
+    List<Long> findRoleIdByUserId(@Param("userId") Long userId);
+
+    /**
+     * Flags the user deleted (or back), without loading the entity.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.deleted = :deleted WHERE u.id = :userId")
+    int updateDeleted(@Param("userId") Long userId, @Param("deleted") boolean deleted);
+}
@@ -1,8 +1,16 @@
 package com.event_management_system.scheduler.config;
 
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
 
@@ -20,4 +28,45 @@ public class SchedulerConfig {
         scheduler.initialize();
         return scheduler;
     }
+
+    @Bean(name = "reminderExecutor")
+    public ThreadPoolTaskExecutor reminderExecutor(@Value("${app.reminders.workers:8}") int workers) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(workers * 50);
+        // A full queue makes the scheduler thread send the reminder itself instead of queueing without bound.
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadNamePrefix("reminder-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = "invitationExecutor")
+    @ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "false", matchIfMissing = true)
+    public ThreadPoolTaskExecutor invitationExecutor(@Value("${app.invitations.window:10}") int window) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(window);
+        executor.setMaxPoolSize(window);
+        // The dispatcher never has more than 'window' sends in flight, so the queue only absorbs hand-off jitter.
+        executor.setQueueCapacity(window);
+        executor.setThreadNamePrefix("invitation-sender-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Delay queue for email retries. Its thread only hands due retries back to
+     * the mail executor, so one thread covers any number of pending retries.
+     */
+    @Bean(name = "mailRetryScheduler", destroyMethod = "shutdownNow")
+    public ScheduledExecutorService mailRetryScheduler() {
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, new CustomizableThreadFactory("mail-retry-"));
+        scheduler.setRemoveOnCancelPolicy(true);
+        return scheduler;
+    }
 }
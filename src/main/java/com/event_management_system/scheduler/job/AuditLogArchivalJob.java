@@ -1,42 +1,117 @@
 package com.event_management_system.scheduler.job;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
+import com.event_management_system.audit.AuditArchive;
+import com.event_management_system.repository.UserActivityHistoryRepository;
+import com.event_management_system.repository.UserLoginLogoutHistoryRepository;
+import com.event_management_system.repository.UserPasswordHistoryRepository;
 import com.event_management_system.service.ApplicationLoggerService;
 
 
+/**
+ * Moves history rows older than {@code app.audit.archive.retention-days} into
+ * {@link AuditArchive} files, column for column as they are stored. Each
+ * chunk is written to the archive first and then deleted by id in its own
+ * short transaction, so a run never holds locks on more than one chunk and an
+ * interrupted run only re-archives its last chunk. Archived days older than
+ * {@code app.audit.archive.max-age-days} are then deleted (0 keeps them).
+ */
 @Component
 public class AuditLogArchivalJob {
 
     @Autowired
     private ApplicationLoggerService log;
 
+    @Autowired
+    private AuditArchive auditArchive;
+
+    @Autowired
+    private UserActivityHistoryRepository activityHistoryRepository;
+
+    @Autowired
+    private UserLoginLogoutHistoryRepository loginHistoryRepository;
+
+    @Autowired
+    private UserPasswordHistoryRepository passwordHistoryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${app.audit.archive.retention-days:90}")
+    private int retentionDays;
+
+    @Value("${app.audit.archive.max-age-days:730}")
+    private int archiveMaxAgeDays;
+
+    @Value("${app.audit.archive.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${app.audit.archive.chunk-pause-millis:100}")
+    private long chunkPauseMillis;
+
     @Scheduled(fixedDelay = 86400000, initialDelay = 60000) // Every 24 hours
-    @Transactional  
     public void archiveOldLogs() {
         try {
             log.info("[AuditLogArchivalJob] INFO - archiveOldLogs() - Scheduler job started - Archiving old audit logs");
-            
-            LocalDateTime ninetyDaysAgo = LocalDateTime.now().minusDays(90);
-            log.debug("[AuditLogArchivalJob] DEBUG - archiveOldLogs() - Deleting logs older than: " + ninetyDaysAgo);
-            
-            int activityHistoryDeleted = 0;
-            int loginHistoryDeleted = 0;
-            int passwordHistoryDeleted = 0;
+
+            LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+            log.debug("[AuditLogArchivalJob] DEBUG - archiveOldLogs() - Archiving logs older than: " + cutoff);
+
+            int activityHistoryDeleted = archive(AuditArchive.Table.ACTIVITY, cutoff, activityHistoryRepository::deleteByIdIn);
+            int loginHistoryDeleted = archive(AuditArchive.Table.LOGIN, cutoff, loginHistoryRepository::deleteByIdIn);
+            int passwordHistoryDeleted = archive(AuditArchive.Table.PASSWORD, cutoff, passwordHistoryRepository::deleteByIdIn);
 
             log.info("[AuditLogArchivalJob] INFO - archiveOldLogs() - Log archival completed. Deleted activity records: " + activityHistoryDeleted + ", Login records: " + loginHistoryDeleted + ", Password records: " + passwordHistoryDeleted);
-            
+
             log.info("[AuditLogArchivalJob] INFO - archiveOldLogs() - Total audit logs archived: " + (activityHistoryDeleted + loginHistoryDeleted + passwordHistoryDeleted));
-            
+
+            if (archiveMaxAgeDays > 0) {
+                int purged = auditArchive.purgeOlderThan(LocalDate.now().minusDays(archiveMaxAgeDays));
+                log.info("[AuditLogArchivalJob] INFO - archiveOldLogs() - Purged {} archived day files older than {} days",
+                        purged, archiveMaxAgeDays);
+            }
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("[AuditLogArchivalJob] WARN - archiveOldLogs() - Interrupted, remaining rows are archived on the next run");
         } catch (Exception e) {
             log.error("[AuditLogArchivalJob] ERROR - archiveOldLogs() - Unexpected error in archiveOldLogs(): " + e.getMessage());
         }
     }
-}
-
 
+    /**
+     * Archives the table's raw rows, every column as stored, oldest first.
+     */
+    private int archive(AuditArchive.Table table, LocalDateTime cutoff,
+            Function<Collection<Long>, Integer> deleteByIds) throws InterruptedException {
+        String sql = "SELECT * FROM " + table.getTableName() + " WHERE " + table.getTimestampColumn() + " < ? "
+                + "ORDER BY " + table.getTimestampColumn() + " ASC, id ASC LIMIT ?";
+        int deleted = 0;
+        while (true) {
+            List<AuditArchive.Row> chunk = jdbcTemplate.queryForList(sql, cutoff, chunkSize).stream()
+                    .map(AuditArchive.Row::of)
+                    .toList();
+            if (chunk.isEmpty()) {
+                return deleted;
+            }
+            auditArchive.append(table, chunk);
+            deleted += deleteByIds.apply(chunk.stream().map(AuditArchive.Row::id).toList());
+            log.debug("[AuditLogArchivalJob] DEBUG - archive() - Archived {} {} rows", chunk.size(), table);
+            if (chunk.size() < chunkSize) {
+                return deleted;
+            }
+            Thread.sleep(chunkPauseMillis);
+        }
+    }
+}
@@ -1,12 +1,16 @@
 package com.event_management_system.scheduler.job;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import com.event_management_system.entity.Event;
 import com.event_management_system.entity.EventAttendees;
@@ -26,8 +30,13 @@ public class EventReminderScheduler {
     @Autowired
     private ApplicationLoggerService log;
 
+    @Autowired
+    @Qualifier("reminderExecutor")
+    private Executor reminderExecutor;
+
+    private static final int UPDATE_BATCH_SIZE = 500;
+
     @Scheduled(fixedDelay = 300000, initialDelay = 10000) // Every 5 minutes
-    @Transactional
     public void sendEventReminders() {
         try {
             log.info("[EventReminderScheduler] INFO - sendEventReminders() - Scheduler job started");
@@ -50,36 +59,15 @@ public class EventReminderScheduler {
     private void send24HourReminders(LocalDateTime now) {
         log.info("[EventReminderScheduler] INFO - send24HourReminders() - Checking for events starting in 24 hours");
         
-        LocalDateTime twentyFourHours = now.plusHours(24);
-        
-        List<EventAttendees> attendeesNeedingReminder = eventAttendeesRepository.findAll()
-                .stream()
-                .filter(ea -> !ea.getDeleted())
-                .filter(ea -> ea.getEvent() != null && !ea.getEvent().getDeleted())
-                .filter(ea -> ea.getEvent().getEventStatus() == Event.EventStatus.UPCOMING)
-                .filter(ea -> ea.getEvent().getApprovalStatus() == Event.ApprovalStatus.APPROVED)
-                .filter(ea -> ea.getInvitationStatus() == EventAttendees.InvitationStatus.ACCEPTED)
-                .filter(ea -> !ea.getAdvanceReminderSent())
-                .filter(ea -> ea.getEvent().getStartTime().isAfter(now))
-                .filter(ea -> ea.getEvent().getStartTime().isBefore(twentyFourHours))
-                .toList();
+        List<EventAttendees> attendeesNeedingReminder =
+                eventAttendeesRepository.findDueAdvanceReminders(now, now.plusHours(24));
         
         log.info("[EventReminderScheduler] INFO - send24HourReminders() - Found " + attendeesNeedingReminder.size() + " attendees needing 24-hour reminder");
         
-        int sent = 0, failed = 0;
+        List<Long> sentIds = sendAll(attendeesNeedingReminder, "24-hour");
+        markInBatches(sentIds, ids -> eventAttendeesRepository.markAdvanceReminderSent(ids, LocalDateTime.now()));
         
-        for (EventAttendees attendee : attendeesNeedingReminder) {
-            if (sendReminderEmail(attendee, "24-hour")) {
-                attendee.setAdvanceReminderSent(true);
-                attendee.recordUpdate("system");
-                eventAttendeesRepository.save(attendee);
-                sent++;
-            } else {
-                failed++;
-            }
-        }
-        
-        log.info("[EventReminderScheduler] INFO - send24HourReminders() - Sent: " + sent + ", Failed: " + failed);
+        log.info("[EventReminderScheduler] INFO - send24HourReminders() - Sent: " + sentIds.size() + ", Failed: " + (attendeesNeedingReminder.size() - sentIds.size()));
     }
 
     private void send2HourReminders(LocalDateTime now) {
@@ -88,34 +76,42 @@ public class EventReminderScheduler {
         LocalDateTime twoHours = now.plusHours(2);
         LocalDateTime twoHoursThirty = now.plusMinutes(150); // 2.5 hours
         
-        List<EventAttendees> attendeesNeedingReminder = eventAttendeesRepository.findAll()
-                .stream()
-                .filter(ea -> !ea.getDeleted())
-                .filter(ea -> ea.getEvent() != null && !ea.getEvent().getDeleted())
-                .filter(ea -> ea.getEvent().getEventStatus() == Event.EventStatus.UPCOMING)
-                .filter(ea -> ea.getEvent().getApprovalStatus() == Event.ApprovalStatus.APPROVED)
-                .filter(ea -> ea.getInvitationStatus() == EventAttendees.InvitationStatus.ACCEPTED)
-                .filter(ea -> !ea.getLastMinuteReminderSent())
-                .filter(ea -> ea.getEvent().getStartTime().isAfter(twoHours))
-                .filter(ea -> ea.getEvent().getStartTime().isBefore(twoHoursThirty))
-                .toList();
+        List<EventAttendees> attendeesNeedingReminder =
+                eventAttendeesRepository.findDueLastMinuteReminders(twoHours, twoHoursThirty);
         
         log.info("[EventReminderScheduler] INFO - send2HourReminders() - Found " + attendeesNeedingReminder.size() + " attendees needing 2-hour reminder");
         
-        int sent = 0, failed = 0;
+        List<Long> sentIds = sendAll(attendeesNeedingReminder, "2-hour");
+        markInBatches(sentIds, ids -> eventAttendeesRepository.markLastMinuteReminderSent(ids, LocalDateTime.now()));
         
-        for (EventAttendees attendee : attendeesNeedingReminder) {
-            if (sendReminderEmail(attendee, "2-hour")) {
-                attendee.setLastMinuteReminderSent(true);
-                attendee.recordUpdate("system");
-                eventAttendeesRepository.save(attendee);
-                sent++;
-            } else {
-                failed++;
+        log.info("[EventReminderScheduler] INFO - send2HourReminders() - Sent: " + sentIds.size() + ", Failed: " + (attendeesNeedingReminder.size() - sentIds.size()));
+    }
+
+    /**
+     * Sends the reminders on the bounded reminder pool and returns the ids of
+     * the attendees whose email went out.
+     */
+    private List<Long> sendAll(List<EventAttendees> attendees, String reminderType) {
+        List<CompletableFuture<Long>> sends = new ArrayList<>(attendees.size());
+        for (EventAttendees attendee : attendees) {
+            sends.add(CompletableFuture.supplyAsync(
+                    () -> sendReminderEmail(attendee, reminderType) ? attendee.getId() : null, reminderExecutor));
+        }
+
+        List<Long> sentIds = new ArrayList<>();
+        for (CompletableFuture<Long> send : sends) {
+            Long id = send.join();
+            if (id != null) {
+                sentIds.add(id);
             }
         }
-        
-        log.info("[EventReminderScheduler] INFO - send2HourReminders() - Sent: " + sent + ", Failed: " + failed);
+        return sentIds;
+    }
+
+    private void markInBatches(List<Long> ids, Consumer<List<Long>> update) {
+        for (int from = 0; from < ids.size(); from += UPDATE_BATCH_SIZE) {
+            update.accept(ids.subList(from, Math.min(from + UPDATE_BATCH_SIZE, ids.size())));
+        }
     }
 
     private boolean sendReminderEmail(EventAttendees attendee, String reminderType) {
@@ -0,0 +1,176 @@
+package com.event_management_system.scheduler.job;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.event_management_system.entity.InvitationOutbox;
+import com.event_management_system.mail.PooledMailTransport;
+import com.event_management_system.service.ApplicationLoggerService;
+import com.event_management_system.service.EmailService;
+import com.event_management_system.service.InvitationOutboxService;
+import com.event_management_system.util.TokenBucketRateLimiter;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Drains the invitation outbox. Sends are paced by a token bucket (the SMTP
+ * provider's rate limit) and capped by a window of in-flight sends; each
+ * outcome is written back to the row right away. A poll stops after
+ * {@code app.invitations.poll-budget-millis} so it never holds a scheduler
+ * thread for long; unsent claims go back to PENDING for the next poll.
+ */
+@Component
+public class InvitationOutboxDispatcher {
+
+    @Autowired
+    private InvitationOutboxService outboxService;
+
+    @Autowired
+    private EmailService emailService;
+
+    @Autowired
+    private ApplicationLoggerService log;
+
+    @Autowired
+    @Qualifier("invitationExecutor")
+    private Executor invitationExecutor;
+
+    @Value("${app.invitations.rate-per-second:5}")
+    private double ratePerSecond;
+
+    @Value("${app.invitations.burst:10}")
+    private int burst;
+
+    @Value("${app.invitations.window:10}")
+    private int window;
+
+    @Value("${app.invitations.claim-batch-size:100}")
+    private int claimBatchSize;
+
+    @Value("${app.invitations.poll-budget-millis:10000}")
+    private long pollBudgetMillis;
+
+    private TokenBucketRateLimiter rateLimiter;
+
+    private Semaphore inFlight;
+
+    @PostConstruct
+    void init() {
+        rateLimiter = new TokenBucketRateLimiter(ratePerSecond, burst);
+        inFlight = new Semaphore(window);
+    }
+
+    @Scheduled(fixedDelayString = "${app.invitations.poll-interval-millis:2000}", initialDelay = 10000)
+    public void dispatch() {
+        long deadline = System.currentTimeMillis() + pollBudgetMillis;
+        try {
+            outboxService.releaseExpiredClaims();
+            if (!emailService.isSmtpAvailable()) {
+                // Leave rows unclaimed so a brownout does not burn their attempts.
+                log.debug("[InvitationOutboxDispatcher] DEBUG - dispatch() - SMTP circuit open, skipping this poll");
+                return;
+            }
+
+            // Claim only what the budget can send; the next fixed-delay run picks up the rest.
+            long remaining;
+            while ((remaining = deadline - System.currentTimeMillis()) > 0 && emailService.isSmtpAvailable()) {
+                // A recovering circuit lets one probe through; claim just that and let its outcome decide.
+                boolean probing = emailService.isSmtpProbing();
+                List<InvitationOutbox> batch = outboxService.claimDue(probing ? 1 : claimLimit(remaining));
+                if (batch.isEmpty()) {
+                    return;
+                }
+                log.debug("[InvitationOutboxDispatcher] DEBUG - dispatch() - Claimed {} invitations", batch.size());
+                int submitted = submitUntil(batch, deadline);
+                if (submitted < batch.size()) {
+                    outboxService.releaseClaims(batch.subList(submitted, batch.size()), 0);
+                    return;
+                }
+                if (probing) {
+                    return;
+                }
+            }
+        } catch (Exception e) {
+            log.error("[InvitationOutboxDispatcher] ERROR - dispatch() - Outbox drain failed: " + e.getMessage());
+        }
+    }
+
+    private int claimLimit(long remainingMillis) {
+        long sendable = (long) Math.ceil(ratePerSecond * remainingMillis / 1000.0);
+        return (int) Math.max(1, Math.min(claimBatchSize, sendable));
+    }
+
+    /**
+     * Submits rows in order until the poll's deadline passes and returns how
+     * many were submitted.
+     */
+    private int submitUntil(List<InvitationOutbox> batch, long deadline) {
+        for (int i = 0; i < batch.size(); i++) {
+            try {
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0 || !emailService.isSmtpAvailable()) {
+                    return i;
+                }
+                if (!inFlight.tryAcquire(remaining, TimeUnit.MILLISECONDS)) {
+                    return i;
+                }
+                try {
+                    rateLimiter.acquire();
+                } catch (InterruptedException e) {
+                    inFlight.release();
+                    throw e;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return i;
+            }
+            submit(batch.get(i));
+        }
+        return batch.size();
+    }
+
+    private void submit(InvitationOutbox row) {
+        try {
+            invitationExecutor.execute(() -> {
+                try {
+                    deliver(row);
+                } finally {
+                    inFlight.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.release();
+            outboxService.markAttemptFailed(row, "Dispatcher rejected the send: " + e.getMessage());
+        }
+    }
+
+    private void deliver(InvitationOutbox row) {
+        try {
+            if (!outboxService.isStillInvited(row)) {
+                outboxService.markSkipped(row);
+                log.debug("[InvitationOutboxDispatcher] DEBUG - deliver() - Invitation withdrawn, skipping: {}", row.getEmail());
+                return;
+            }
+            if (emailService.sendInvitationEmail(row.getEvent(), row.getEmail(), row.getInvitationToken())) {
+                outboxService.markSent(row);
+            } else {
+                outboxService.markAttemptFailed(row, "SMTP send failed");
+            }
+        } catch (PooledMailTransport.CircuitOpenException e) {
+            // Never reached the server, so the row keeps its attempt.
+            outboxService.releaseClaims(List.of(row), e.getRetryAfterMillis());
+        } catch (Exception e) {
+            log.error("[InvitationOutboxDispatcher] ERROR - deliver() - Invitation to {} failed: {}", row.getEmail(), e.getMessage());
+            outboxService.markAttemptFailed(row, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.event_management_system.scheduler.job;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.event_management_system.entity.EventAttendees;
+import com.event_management_system.notification.InvitationRespondedEvent;
+import com.event_management_system.notification.InvitationResponseListener;
+import com.event_management_system.repository.EventAttendeesRepository;
+import com.event_management_system.service.ApplicationLoggerService;
+
+/**
+ * Picks up invitation responses whose after-commit follow-up was lost, e.g.
+ * an ACCEPTED attendee still without a user because the instance stopped
+ * before the listener ran. A response becomes due the grace period after it
+ * was recorded (so a running follow-up can finish); each retry doubles the
+ * wait, and after {@code app.invitations.response-sweep-max-attempts} the
+ * sweep gives up, so a permanently failing address cannot hold up the rest.
+ */
+@Component
+public class InvitationResponseSweepJob {
+
+    @Autowired
+    private EventAttendeesRepository eventAttendeesRepository;
+
+    @Autowired
+    private InvitationResponseListener invitationResponseListener;
+
+    @Autowired
+    private ApplicationLoggerService log;
+
+    @Value("${app.invitations.response-sweep-grace-minutes:15}")
+    private long graceMinutes;
+
+    @Value("${app.invitations.response-sweep-max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${app.invitations.response-sweep-batch-size:100}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${app.invitations.response-sweep-interval-millis:300000}", initialDelay = 60000)
+    public void sweep() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            List<EventAttendeesRepository.ResponseFollowUp> due = eventAttendeesRepository.findDueResponseFollowUps(
+                    now, Limit.of(batchSize));
+            if (due.isEmpty()) {
+                return;
+            }
+            log.warn("[InvitationResponseSweepJob] WARN - sweep() - Retrying follow-up for {} invitation responses", due.size());
+            for (EventAttendeesRepository.ResponseFollowUp response : due) {
+                int attempt = response.getResponseNotifyAttempts() + 1;
+                LocalDateTime nextAt = attempt >= maxAttempts ? null
+                        : now.plusMinutes(graceMinutes << Math.min(attempt, 10));
+                if (eventAttendeesRepository.scheduleResponseFollowUp(response.getId(), attempt, nextAt) == 0) {
+                    continue;
+                }
+                if (nextAt == null) {
+                    log.warn("[InvitationResponseSweepJob] WARN - sweep() - Last follow-up attempt for attendeeId={}, email={}",
+                            response.getId(), response.getEmail());
+                }
+                invitationResponseListener.followUp(new InvitationRespondedEvent(response.getId(), response.getEventId(),
+                        response.getEmail(), response.getInvitationStatus() == EventAttendees.InvitationStatus.ACCEPTED));
+            }
+        } catch (Exception e) {
+            log.error("[InvitationResponseSweepJob] ERROR - sweep() - Sweep failed: " + e.getMessage());
+        }
+    }
+}
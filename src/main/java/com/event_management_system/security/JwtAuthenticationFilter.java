@@ -55,7 +55,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
             log.debug("JWT token extracted from request header");
 
-            if (!jwtService.validateToken(jwt)) {
+            TokenClaims claims = jwtService.parseToken(jwt);
+            if (claims == null) {
                 log.warn("JWT token is invalid or expired");
                 filterChain.doFilter(request, response);
                 return;
@@ -63,8 +64,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
             log.debug("JWT token validated successfully");
 
-            Long userIdFromToken = jwtService.getUserIdFromToken(jwt);
-            String tokenUuid = jwtService.getTokenUuidFromToken(jwt);
+            Long userIdFromToken = claims.getUserId();
+            String tokenUuid = claims.getTokenUuid();
 
             log.debug("Extracted from token - User ID: {}, Token UUID: {}", userIdFromToken, tokenUuid);
 
@@ -88,14 +89,6 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             log.debug("User ID consistency check passed");
 
             UserDetails userDetails = customUserDetailsService.loadUserDetailsById(userIdFromToken);
-            
-            log.info("User loaded from database: {}", userDetails.getUsername());
-            
-            if (userDetails != null && userDetails instanceof com.event_management_system.entity.User) {
-                log.debug("User is of correct type: {}", userDetails.getClass().getName());
-            } else {
-                log.warn("User is not of expected type: {}", userDetails != null ? userDetails.getClass().getName() : "null");
-            }
 
             UsernamePasswordAuthenticationToken authentication = 
                     new UsernamePasswordAuthenticationToken(
@@ -110,15 +103,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
             SecurityContextHolder.getContext().setAuthentication(authentication);
 
-            log.debug("User authenticated and stored in SecurityContext");
-            log.info("Request authenticated for user: {} with {} authorities",
+            log.debug("Request authenticated for user: {} with {} authorities",
                       userDetails.getUsername(), userDetails.getAuthorities().size());
-            
-            if (userDetails != null && userDetails instanceof com.event_management_system.entity.User) {
-                log.debug("User is of correct type: {}", userDetails.getClass().getName());
-            } else {
-                log.warn("User is not of expected type: {}", userDetails != null ? userDetails.getClass().getName() : "null");
-            }
 
         } catch (JwtException | IllegalArgumentException | NullPointerException | UsernameNotFoundException | IOException | ServletException e) {
             if (e instanceof IOException || e instanceof ServletException) {
@@ -0,0 +1,27 @@
+package com.event_management_system.security;
+
+import java.time.Instant;
+
+import lombok.Value;
+
+/**
+ * Claims of a JWT whose signature has already been verified. Immutable so a
+ * single instance can be shared between requests presenting the same token.
+ */
+@Value
+public class TokenClaims {
+
+    Long userId;
+
+    String tokenUuid;
+
+    String role;
+
+    Long roleId;
+
+    Instant expiresAt;
+
+    public boolean isExpired() {
+        return expiresAt != null && !expiresAt.isAfter(Instant.now());
+    }
+}
@@ -0,0 +1,292 @@
+package com.event_management_system.security.tokenstore;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.event_management_system.service.ApplicationLoggerService;
+
+/**
+ * Embedded token store: state lives in an {@link InMemoryTokenStore} and every
+ * mutation is appended to a log file, which is replayed on startup. The log is
+ * rewritten as a snapshot of live tokens once it grows well past the live set.
+ * Tokens evicted by the size cap are logged as removals, so a restart does not
+ * bring them back.
+ * <p>
+ * Lines are written under the store's monitor but flushed outside it with a
+ * group commit: one caller flushes everything appended so far and concurrent
+ * callers whose lines it covered return without flushing again.
+ *
+ * <p>Log lines: {@code P <uuid> <userId> <expiresAt>}, {@code R <uuid>}, {@code C}.
+ */
+public class FileTokenStore implements TokenStore {
+
+    private static final String LOG_FILE = "tokens.log";
+
+    private final ApplicationLoggerService log;
+
+    private final InMemoryTokenStore state;
+
+    private final Path logFile;
+
+    private final int compactThreshold;
+
+    /** Swapped by compact() under both the monitor and flushLock. */
+    private volatile BufferedWriter writer;
+
+    private long appendedLines;
+
+    /** Lines appended since startup; written under the monitor. */
+    private volatile long appendedSequence;
+
+    private final Object flushLock = new Object();
+
+    /** Guarded by flushLock. */
+    private long flushedSequence;
+
+    private boolean evictedDuringReplay;
+
+    public FileTokenStore(ApplicationLoggerService log, Path directory, int maxSize, long bucketMillis,
+            int compactThreshold) {
+        this.log = log;
+        this.state = new InMemoryTokenStore(maxSize, bucketMillis, this::onEvicted);
+        this.logFile = directory.resolve(LOG_FILE);
+        this.compactThreshold = compactThreshold;
+    }
+
+    public synchronized void initialize() throws IOException {
+        Files.createDirectories(logFile.getParent());
+        if (Files.exists(logFile)) {
+            replay();
+        }
+        writer = openWriter();
+        if (evictedDuringReplay) {
+            // The log holds more live tokens than fit; rewrite it as what was kept.
+            compact();
+        }
+        log.info("[FileTokenStore] INFO - initialize() - File token store ready at {} with {} live tokens", logFile, state.size());
+    }
+
+    @Override
+    public void put(String tokenUuid, Long userId, long expiresAtMillis) {
+        long sequence;
+        synchronized (this) {
+            state.put(tokenUuid, userId, expiresAtMillis);
+            sequence = append("P " + tokenUuid + " " + userId + " " + expiresAtMillis);
+        }
+        flushTo(sequence);
+    }
+
+    @Override
+    public Long get(String tokenUuid) {
+        return state.get(tokenUuid);
+    }
+
+    @Override
+    public void remove(String tokenUuid) {
+        long sequence;
+        synchronized (this) {
+            state.remove(tokenUuid);
+            sequence = append("R " + tokenUuid);
+        }
+        flushTo(sequence);
+    }
+
+    @Override
+    public int removeByUserId(Long userId) {
+        List<String> tokenUuids = new ArrayList<>();
+        long sequence;
+        synchronized (this) {
+            for (Map.Entry<String, InMemoryTokenStore.CacheEntry> entry : state.entries().entrySet()) {
+                if (entry.getValue().getUserId().equals(userId)) {
+                    tokenUuids.add(entry.getKey());
+                }
+            }
+            for (String tokenUuid : tokenUuids) {
+                state.remove(tokenUuid);
+                append("R " + tokenUuid);
+            }
+            sequence = appendedSequence;
+        }
+        flushTo(sequence);
+        return tokenUuids.size();
+    }
+
+    @Override
+    public void clear() {
+        long sequence;
+        synchronized (this) {
+            state.clear();
+            sequence = append("C");
+        }
+        flushTo(sequence);
+    }
+
+    @Override
+    public long size() {
+        return state.size();
+    }
+
+    @Override
+    public int purgeExpired() {
+        // Expired entries are skipped on replay, so nothing needs to be logged here.
+        int removed = state.purgeExpired();
+        synchronized (this) {
+            if (appendedLines > compactThreshold && appendedLines > 2 * state.size()) {
+                compact();
+            }
+        }
+        return removed;
+    }
+
+    @Override
+    public boolean isShared() {
+        return false;
+    }
+
+    @Override
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = state.getMetrics();
+        metrics.put("logLines", appendedLines);
+        return metrics;
+    }
+
+    public synchronized void close() throws IOException {
+        synchronized (flushLock) {
+            if (writer != null) {
+                writer.close();
+                writer = null;
+            }
+        }
+    }
+
+    private void replay() throws IOException {
+        long now = System.currentTimeMillis();
+        try (BufferedReader reader = Files.newBufferedReader(logFile, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                appendedLines++;
+                String[] parts = line.split(" ");
+                try {
+                    switch (parts[0]) {
+                        case "P" -> {
+                            long expiresAt = Long.parseLong(parts[3]);
+                            if (expiresAt > now) {
+                                state.put(parts[1], Long.valueOf(parts[2]), expiresAt);
+                            } else {
+                                state.remove(parts[1]);
+                            }
+                        }
+                        case "R" -> state.remove(parts[1]);
+                        case "C" -> state.clear();
+                        default -> log.warn("[FileTokenStore] WARN - replay() - Skipping unknown token log line: {}", line);
+                    }
+                } catch (RuntimeException e) {
+                    // A torn last line after a crash is expected; anything else is skipped the same way.
+                    log.warn("[FileTokenStore] WARN - replay() - Skipping malformed token log line: {}", line);
+                }
+            }
+        }
+    }
+
+    /**
+     * Buffers one line; caller holds the monitor and calls {@link #flushTo}
+     * after releasing it.
+     *
+     * @return the line's sequence number
+     */
+    private long append(String line) {
+        try {
+            writer.write(line);
+            writer.newLine();
+            appendedLines++;
+            return ++appendedSequence;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to append to token log " + logFile, e);
+        }
+    }
+
+    /**
+     * Flushes the log up to at least {@code sequence}, unless another caller
+     * already did.
+     */
+    private void flushTo(long sequence) {
+        synchronized (flushLock) {
+            if (flushedSequence >= sequence || writer == null) {
+                return;
+            }
+            long target = appendedSequence;
+            try {
+                writer.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to flush token log " + logFile, e);
+            }
+            flushedSequence = target;
+        }
+    }
+
+    /**
+     * Logs a token evicted by the size cap, from inside {@link #put}.
+     */
+    private void onEvicted(String tokenUuid) {
+        if (writer == null) {
+            evictedDuringReplay = true;
+            return;
+        }
+        append("R " + tokenUuid);
+    }
+
+    private void compact() {
+        Path snapshot = logFile.resolveSibling(LOG_FILE + ".tmp");
+        long now = System.currentTimeMillis();
+        long lines = 0;
+        try {
+            try (BufferedWriter out = Files.newBufferedWriter(snapshot, StandardCharsets.UTF_8)) {
+                for (Map.Entry<String, InMemoryTokenStore.CacheEntry> entry : state.entries().entrySet()) {
+                    if (entry.getValue().getExpirationTime() > now) {
+                        out.write("P " + entry.getKey() + " " + entry.getValue().getUserId() + " "
+                                + entry.getValue().getExpirationTime());
+                        out.newLine();
+                        lines++;
+                    }
+                }
+            }
+            synchronized (flushLock) {
+                writer.close();
+                writer = null;
+                // Everything appended so far is in the snapshot.
+                flushedSequence = appendedSequence;
+            }
+            Files.move(snapshot, logFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.debug("[FileTokenStore] DEBUG - compact() - Compacted token log from {} to {} lines", appendedLines, lines);
+            appendedLines = lines;
+        } catch (IOException e) {
+            log.error("[FileTokenStore] ERROR - compact() - Failed to compact token log {}: {}", logFile, e.getMessage());
+        } finally {
+            if (writer == null) {
+                try {
+                    BufferedWriter reopened = openWriter();
+                    synchronized (flushLock) {
+                        writer = reopened;
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Failed to reopen token log " + logFile, e);
+                }
+            }
+        }
+    }
+
+    private BufferedWriter openWriter() throws IOException {
+        return Files.newBufferedWriter(logFile, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+}
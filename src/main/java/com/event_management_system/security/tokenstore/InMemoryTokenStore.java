@@ -0,0 +1,228 @@
+package com.event_management_system.security.tokenstore;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Process-local token store with a time-bucketed expiry index. Every entry is
+ * also filed under the bucket of its expiry time, so purging only touches
+ * buckets that have already expired (O(1) amortized per entry), and the size cap
+ * evicts the soonest-to-expire entries first.
+ */
+public class InMemoryTokenStore implements TokenStore {
+
+    private final ConcurrentHashMap<String, CacheEntry> tokenCache = new ConcurrentHashMap<>();
+
+    private final ConcurrentSkipListMap<Long, Set<String>> expiryBuckets = new ConcurrentSkipListMap<>();
+
+    private final AtomicLong expirations = new AtomicLong();
+
+    private final AtomicLong evictions = new AtomicLong();
+
+    private final int maxSize;
+
+    private final long bucketMillis;
+
+    private final Consumer<String> evictionListener;
+
+    public InMemoryTokenStore(int maxSize, long bucketMillis) {
+        this(maxSize, bucketMillis, tokenUuid -> { });
+    }
+
+    /**
+     * @param evictionListener told the UUID of every live token evicted by the
+     *        size cap, on the thread calling {@link #put}
+     */
+    InMemoryTokenStore(int maxSize, long bucketMillis, Consumer<String> evictionListener) {
+        this.maxSize = maxSize;
+        this.bucketMillis = bucketMillis;
+        this.evictionListener = evictionListener;
+    }
+
+    @Override
+    public void put(String tokenUuid, Long userId, long expiresAtMillis) {
+        if (tokenCache.size() >= maxSize && !tokenCache.containsKey(tokenUuid)) {
+            evictSoonestExpiring();
+        }
+
+        CacheEntry previous = tokenCache.put(tokenUuid, new CacheEntry(userId, expiresAtMillis));
+        if (previous != null) {
+            unindex(tokenUuid, previous);
+        }
+        expiryBuckets.computeIfAbsent(bucketOf(expiresAtMillis), key -> ConcurrentHashMap.newKeySet()).add(tokenUuid);
+    }
+
+    @Override
+    public Long get(String tokenUuid) {
+        CacheEntry entry = tokenCache.get(tokenUuid);
+        if (entry == null) {
+            return null;
+        }
+
+        if (System.currentTimeMillis() > entry.getExpirationTime()) {
+            if (remove(tokenUuid, entry)) {
+                expirations.incrementAndGet();
+            }
+            return null;
+        }
+        return entry.getUserId();
+    }
+
+    @Override
+    public void remove(String tokenUuid) {
+        CacheEntry entry = tokenCache.get(tokenUuid);
+        if (entry != null) {
+            remove(tokenUuid, entry);
+        }
+    }
+
+    /**
+     * Scans every entry; only used when a user is deleted.
+     */
+    @Override
+    public int removeByUserId(Long userId) {
+        int removed = 0;
+        for (Map.Entry<String, CacheEntry> entry : tokenCache.entrySet()) {
+            if (entry.getValue().getUserId().equals(userId) && remove(entry.getKey(), entry.getValue())) {
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        tokenCache.clear();
+        expiryBuckets.clear();
+    }
+
+    @Override
+    public long size() {
+        return tokenCache.size();
+    }
+
+    /**
+     * Drops every bucket whose whole time range lies in the past.
+     */
+    @Override
+    public int purgeExpired() {
+        long currentBucket = bucketOf(System.currentTimeMillis());
+        int removed = 0;
+
+        Map.Entry<Long, Set<String>> bucket;
+        while ((bucket = expiryBuckets.firstEntry()) != null && bucket.getKey() < currentBucket) {
+            if (!expiryBuckets.remove(bucket.getKey(), bucket.getValue())) {
+                continue;
+            }
+            long bucketKey = bucket.getKey();
+            for (String tokenUuid : bucket.getValue()) {
+                boolean[] expired = new boolean[1];
+                tokenCache.computeIfPresent(tokenUuid, (uuid, entry) -> {
+                    if (bucketOf(entry.getExpirationTime()) == bucketKey) {
+                        expired[0] = true;
+                        return null;
+                    }
+                    return entry;
+                });
+                if (expired[0]) {
+                    removed++;
+                }
+            }
+        }
+
+        expirations.addAndGet(removed);
+        return removed;
+    }
+
+    @Override
+    public boolean isShared() {
+        return false;
+    }
+
+    @Override
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("size", tokenCache.size());
+        metrics.put("maxSize", maxSize);
+        metrics.put("buckets", expiryBuckets.size());
+        metrics.put("expirations", expirations.get());
+        metrics.put("evictions", evictions.get());
+        return metrics;
+    }
+
+    /**
+     * Live entries in no particular order, used to write snapshots.
+     */
+    Map<String, CacheEntry> entries() {
+        return tokenCache;
+    }
+
+    private void evictSoonestExpiring() {
+        purgeExpired();
+        while (tokenCache.size() >= maxSize) {
+            Map.Entry<Long, Set<String>> bucket = expiryBuckets.firstEntry();
+            if (bucket == null) {
+                return;
+            }
+            Iterator<String> tokenUuids = bucket.getValue().iterator();
+            while (tokenUuids.hasNext()) {
+                String tokenUuid = tokenUuids.next();
+                tokenUuids.remove();
+                if (tokenCache.remove(tokenUuid) != null) {
+                    evictions.incrementAndGet();
+                    evictionListener.accept(tokenUuid);
+                }
+                if (tokenCache.size() < maxSize) {
+                    return;
+                }
+            }
+            expiryBuckets.remove(bucket.getKey(), bucket.getValue());
+        }
+    }
+
+    private boolean remove(String tokenUuid, CacheEntry entry) {
+        if (tokenCache.remove(tokenUuid, entry)) {
+            unindex(tokenUuid, entry);
+            return true;
+        }
+        return false;
+    }
+
+    private void unindex(String tokenUuid, CacheEntry entry) {
+        Set<String> bucket = expiryBuckets.get(bucketOf(entry.getExpirationTime()));
+        if (bucket != null) {
+            bucket.remove(tokenUuid);
+        }
+    }
+
+    private long bucketOf(long epochMillis) {
+        return epochMillis / bucketMillis;
+    }
+
+
+    static class CacheEntry {
+        private final Long userId;
+        private final long expirationTime;
+
+
+        CacheEntry(Long userId, long expirationTime) {
+            this.userId = userId;
+            this.expirationTime = expirationTime;
+        }
+
+
+        Long getUserId() {
+            return userId;
+        }
+
+        long getExpirationTime() {
+            return expirationTime;
+        }
+    }
+}
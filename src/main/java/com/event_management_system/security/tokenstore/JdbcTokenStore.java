@@ -0,0 +1,91 @@
+package com.event_management_system.security.tokenstore;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Token store backed by the compact {@code auth_tokens} table (mapped by the
+ * AuthToken entity) so every instance sees the same logins and a restart keeps
+ * them. Expired rows are deleted in bounded batches to keep lock time short.
+ */
+public class JdbcTokenStore implements TokenStore {
+
+    private static final String UPSERT_SQL = "INSERT INTO auth_tokens (token_uuid, user_id, expires_at) VALUES (?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE user_id = VALUES(user_id), expires_at = VALUES(expires_at)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final int purgeBatchSize;
+
+    private final AtomicLong expirations = new AtomicLong();
+
+    public JdbcTokenStore(JdbcTemplate jdbcTemplate, int purgeBatchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.purgeBatchSize = purgeBatchSize;
+    }
+
+    @Override
+    public void put(String tokenUuid, Long userId, long expiresAtMillis) {
+        jdbcTemplate.update(UPSERT_SQL, tokenUuid, userId, expiresAtMillis);
+    }
+
+    @Override
+    public Long get(String tokenUuid) {
+        List<Long> userIds = jdbcTemplate.queryForList(
+                "SELECT user_id FROM auth_tokens WHERE token_uuid = ? AND expires_at > ?",
+                Long.class, tokenUuid, System.currentTimeMillis());
+        return userIds.isEmpty() ? null : userIds.get(0);
+    }
+
+    @Override
+    public void remove(String tokenUuid) {
+        jdbcTemplate.update("DELETE FROM auth_tokens WHERE token_uuid = ?", tokenUuid);
+    }
+
+    @Override
+    public int removeByUserId(Long userId) {
+        return jdbcTemplate.update("DELETE FROM auth_tokens WHERE user_id = ?", userId);
+    }
+
+    @Override
+    public void clear() {
+        jdbcTemplate.update("DELETE FROM auth_tokens");
+    }
+
+    @Override
+    public long size() {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM auth_tokens", Long.class);
+        return count != null ? count : 0L;
+    }
+
+    @Override
+    public int purgeExpired() {
+        long now = System.currentTimeMillis();
+        int removed = 0;
+        int batch;
+        do {
+            batch = jdbcTemplate.update("DELETE FROM auth_tokens WHERE expires_at <= ? LIMIT ?", now, purgeBatchSize);
+            removed += batch;
+        } while (batch == purgeBatchSize);
+
+        expirations.addAndGet(removed);
+        return removed;
+    }
+
+    @Override
+    public boolean isShared() {
+        return true;
+    }
+
+    @Override
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("size", size());
+        metrics.put("expirations", expirations.get());
+        return metrics;
+    }
+}
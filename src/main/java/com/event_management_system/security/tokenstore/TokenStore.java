@@ -0,0 +1,41 @@
+package com.event_management_system.security.tokenstore;
+
+import java.util.Map;
+
+/**
+ * Storage for issued token UUIDs and the user they belong to. A token is valid
+ * only while it is present here and not past its expiry.
+ */
+public interface TokenStore {
+
+    void put(String tokenUuid, Long userId, long expiresAtMillis);
+
+    /**
+     * @return the owning userId, or null when the token is unknown or expired
+     */
+    Long get(String tokenUuid);
+
+    void remove(String tokenUuid);
+
+    /**
+     * @return number of tokens of the user removed
+     */
+    int removeByUserId(Long userId);
+
+    void clear();
+
+    long size();
+
+    /**
+     * @return number of expired tokens removed
+     */
+    int purgeExpired();
+
+    /**
+     * True when the store is shared with other instances, in which case callers
+     * keep a short-lived near-cache in front of it.
+     */
+    boolean isShared();
+
+    Map<String, Object> getMetrics();
+}
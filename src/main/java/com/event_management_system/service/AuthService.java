@@ -11,6 +11,7 @@ import com.event_management_system.dto.LoginRequestDTO;
 import com.event_management_system.entity.User;
 import com.event_management_system.mapper.UserMapper;
 import com.event_management_system.repository.UserRepository;
+import com.event_management_system.security.TokenClaims;
 import com.event_management_system.util.RequestInfoUtil;
 
 
@@ -47,6 +48,9 @@ public class AuthService {
     @Autowired
     private UserPasswordHistoryService passwordHistoryService;
 
+    @Autowired
+    private PrincipalCacheService principalCacheService;
+
  
     public AuthResponseDTO authenticate(LoginRequestDTO loginRequest, jakarta.servlet.http.HttpServletRequest request) {
         log.trace("[AuthService] TRACE - authenticate() called with email=" + loginRequest.getEmail());
@@ -65,6 +69,11 @@ public class AuthService {
 
         log.debug("[AuthService] DEBUG - authenticate() - User found: userId=" + user.getId());
 
+        if (user.isDeleted()) {
+            log.warn("[AuthService] WARN - Authentication attempt for deleted userId=" + user.getId());
+            throw new RuntimeException("Invalid credentials");
+        }
+
         log.debug("[AuthService] DEBUG - authenticate() - Validating password for userId=" + user.getId());
         if (!passwordEncoder.matches(loginRequest.getPassword(), user.getPassword())) {
             log.warn("[AuthService] WARN - Invalid password for user: " + user.getId());
@@ -146,15 +155,16 @@ public class AuthService {
     public AuthResponseDTO refreshAccessToken(String refreshToken) {
         log.info("Attempting to refresh access token");
 
-        if (!jwtService.validateToken(refreshToken)) {
+        TokenClaims refreshClaims = jwtService.parseToken(refreshToken);
+        if (refreshClaims == null) {
             log.warn("Refresh token is invalid or expired");
             throw new RuntimeException("Refresh token is invalid or expired");
         }
 
         log.debug("Refresh token validated successfully");
 
-        Long userId = jwtService.getUserIdFromToken(refreshToken);
-        String refreshTokenUuid = jwtService.getTokenUuidFromToken(refreshToken);
+        Long userId = refreshClaims.getUserId();
+        String refreshTokenUuid = refreshClaims.getTokenUuid();
 
         log.debug("Extracted user ID: {} and token UUID: {} from refresh token", userId, refreshTokenUuid);
 
@@ -200,13 +210,14 @@ public class AuthService {
     public void logout(String token, jakarta.servlet.http.HttpServletRequest request) {
         log.info("Attempting logout");
 
-        if (!jwtService.validateToken(token)) {
+        TokenClaims claims = jwtService.parseToken(token);
+        if (claims == null) {
             log.warn("Token is invalid or expired, cannot logout");
             throw new RuntimeException("Invalid token");
         }
 
-        String tokenUuid = jwtService.getTokenUuidFromToken(token);
-        Long userId = jwtService.getUserIdFromToken(token);
+        String tokenUuid = claims.getTokenUuid();
+        Long userId = claims.getUserId();
         log.debug("Extracted token UUID: {}, User ID: {}", tokenUuid, userId);
 
         tokenCacheService.removeTokenFromCache(tokenUuid);
@@ -252,6 +263,10 @@ public class AuthService {
     public int getActiveTokenCount() {
         return tokenCacheService.getTokenCacheSize();
     }
+
+    public java.util.Map<String, Object> getTokenCacheMetrics() {
+        return tokenCacheService.getMetrics();
+    }
     
   
     public void changePassword(Long userId, String oldPassword, String newPassword, String confirmPassword) {
@@ -286,6 +301,7 @@ public class AuthService {
         user.setPassword(newPasswordHash);
         user.recordUpdate(user.getFullName());
         userRepository.save(user);
+        principalCacheService.evictAfterCommit(userId);
         
         log.info("Password updated successfully for user: {}", userId);
         
@@ -0,0 +1,133 @@
+package com.event_management_system.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.event_management_system.dto.InviteAttendeeRequestDTO;
+
+/**
+ * Turns a list of invitees into event_attendees rows plus outbox entries with a
+ * handful of round trips per thousand emails: chunked IN queries to find who is
+ * already invited and to resolve registered users, and JDBC batches for the
+ * inserts. Tokens are generated up front so the attendee row and its outbox
+ * entry share one; the dispatcher only sees the rows once this commits.
+ */
+@Service
+public class BulkInvitationWriter {
+
+    private static final String INSERT_ATTENDEE_SQL = "INSERT INTO event_attendees "
+            + "(event_id, user_id, email, invitation_status, invitation_token, invitation_sent_at, "
+            + "advance_reminder_sent, last_minute_reminder_sent, deleted, created_at, created_by, updated_at) "
+            + "VALUES (?, ?, ?, 'PENDING', ?, ?, false, false, false, ?, 'system', ?)";
+
+    private static final int IN_CLAUSE_CHUNK = 1000;
+
+    @Autowired
+    private ApplicationLoggerService log;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    @Autowired
+    private InvitationOutboxService invitationOutboxService;
+
+    @Value("${app.invitations.insert-batch-size:1000}")
+    private int insertBatchSize;
+
+    /**
+     * Creates the attendee and outbox rows for every invitee not already
+     * invited to the event and returns how many were created.
+     */
+    @Transactional
+    public int write(@NonNull Long eventId, List<InviteAttendeeRequestDTO> invites) {
+        long start = System.currentTimeMillis();
+
+        // User ids are resolved below from event_users, so only the emails matter here.
+        Set<String> candidates = new LinkedHashSet<>();
+        for (InviteAttendeeRequestDTO invite : invites) {
+            if (invite.getEmail() == null || invite.getEmail().isBlank()) {
+                continue;
+            }
+            candidates.add(invite.getEmail().trim().toLowerCase());
+        }
+        Set<String> alreadyInvited = loadInvitedEmails(eventId, candidates);
+        candidates.removeAll(alreadyInvited);
+        if (candidates.isEmpty()) {
+            log.info("[BulkInvitationWriter] INFO - write() - Nothing new to invite for eventId={}", eventId);
+            return 0;
+        }
+
+        Map<String, Long> userIdsByEmail = resolveUserIds(candidates);
+        List<InvitationOutboxService.Invitation> invitations = new ArrayList<>(candidates.size());
+        for (String email : candidates) {
+            invitations.add(new InvitationOutboxService.Invitation(
+                    userIdsByEmail.get(email), email, UUID.randomUUID().toString()));
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        namedJdbcTemplate.getJdbcTemplate().batchUpdate(INSERT_ATTENDEE_SQL, invitations, insertBatchSize, (ps, invitation) -> {
+            ps.setLong(1, eventId);
+            ps.setObject(2, invitation.getUserId());
+            ps.setString(3, invitation.getEmail());
+            ps.setString(4, invitation.getToken());
+            ps.setTimestamp(5, now);
+            ps.setTimestamp(6, now);
+            ps.setTimestamp(7, now);
+        });
+        invitationOutboxService.enqueue(eventId, invitations);
+
+        log.info("[BulkInvitationWriter] INFO - write() - Created {} invitations for eventId={} ({} already invited) in {}ms",
+                invitations.size(), eventId, alreadyInvited.size(), System.currentTimeMillis() - start);
+        return invitations.size();
+    }
+
+    private Set<String> loadInvitedEmails(Long eventId, Set<String> emails) {
+        Set<String> invited = new HashSet<>();
+        for (List<String> chunk : chunks(emails)) {
+            MapSqlParameterSource params = new MapSqlParameterSource("eventId", eventId).addValue("emails", chunk);
+            namedJdbcTemplate.query("SELECT LOWER(email) FROM event_attendees WHERE event_id = :eventId AND email IN (:emails)",
+                    params,
+                    rs -> {
+                        invited.add(rs.getString(1));
+                    });
+        }
+        return invited;
+    }
+
+    private Map<String, Long> resolveUserIds(Set<String> emails) {
+        Map<String, Long> userIds = new HashMap<>();
+        for (List<String> chunk : chunks(emails)) {
+            namedJdbcTemplate.query("SELECT id, LOWER(email) FROM event_users WHERE email IN (:emails)",
+                    new MapSqlParameterSource("emails", chunk),
+                    rs -> {
+                        userIds.put(rs.getString(2), rs.getLong(1));
+                    });
+        }
+        return userIds;
+    }
+
+    private static List<List<String>> chunks(Set<String> emails) {
+        List<String> all = new ArrayList<>(emails);
+        List<List<String>> chunks = new ArrayList<>();
+        for (int from = 0; from < all.size(); from += IN_CLAUSE_CHUNK) {
+            chunks.add(all.subList(from, Math.min(from + IN_CLAUSE_CHUNK, all.size())));
+        }
+        return chunks;
+    }
+}
@@ -29,6 +29,9 @@ public class CustomUserDetailsService implements UserDetailsService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private PrincipalCacheService principalCacheService;
+
     
     @Override
     @Transactional(readOnly = true)
@@ -43,7 +46,7 @@ public class CustomUserDetailsService implements UserDetailsService {
             User user = userRepository.findById(parsedUserId)
                     .orElseThrow(() -> new UsernameNotFoundException("User not found with ID: " + userId));
 
-            log.info("User found: {}", user.getEmail());
+            log.debug("User found: {}", user.getEmail());
 
             Collection<GrantedAuthority> authorities = buildAuthorities(user);
 
@@ -94,7 +97,7 @@ public class CustomUserDetailsService implements UserDetailsService {
 
     
     public UserDetails loadUserDetailsById(Long userId) throws UsernameNotFoundException {
-        return loadUserByUsername(userId.toString());
+        return principalCacheService.get(userId, id -> loadUserByUsername(id.toString()));
     }
 
 
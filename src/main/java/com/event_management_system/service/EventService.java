@@ -5,17 +5,23 @@
     import java.util.List;
     import java.util.Objects;
     import java.util.Optional;
-    import java.util.stream.Collectors;
 
     import org.springframework.beans.factory.annotation.Autowired;
+    import org.springframework.beans.factory.annotation.Value;
+    import org.springframework.context.ApplicationEventPublisher;
     import org.springframework.data.domain.Page;
+    import org.springframework.data.domain.PageRequest;
     import org.springframework.data.domain.Pageable;
+    import org.springframework.data.domain.ScrollPosition;
+    import org.springframework.data.domain.Sort;
+    import org.springframework.data.domain.Window;
+    import org.springframework.data.jpa.domain.Specification;
     import org.springframework.jdbc.core.JdbcTemplate;
     import org.springframework.lang.NonNull;
-    import org.springframework.scheduling.annotation.Async;
     import org.springframework.stereotype.Service;
     import org.springframework.transaction.annotation.Transactional;
 
+    import com.event_management_system.dto.EventCursorPageDTO;
     import com.event_management_system.dto.EventRequestDTO;
     import com.event_management_system.dto.EventResponseDTO;
     import com.event_management_system.entity.Event;
@@ -25,10 +31,15 @@
     import com.event_management_system.exception.GlobalExceptionHandler.ForbiddenException;
     import com.event_management_system.exception.GlobalExceptionHandler.ResourceNotFoundException;
     import com.event_management_system.mapper.EventMapper;
+    import com.event_management_system.notification.InvitationRespondedEvent;
     import com.event_management_system.repository.EventAttendeesRepository;
     import com.event_management_system.repository.EventRepository;
+    import com.event_management_system.repository.EventSpecifications;
     import com.event_management_system.repository.UserRepository;
 
+    import lombok.AllArgsConstructor;
+    import lombok.Getter;
+
 @Service
 public class EventService {
 
@@ -54,13 +65,24 @@ public class EventService {
     private UserActivityHistoryService activityHistoryService;
 
     @Autowired
-    private EmailService emailService;
+    private ApplicationEventPublisher eventPublisher;
 
     @Autowired
     private JdbcTemplate jdbcTemplate;
 
     @Autowired
-    private org.springframework.core.task.TaskExecutor taskExecutor;
+    private InvitationIngestionService invitationIngestionService;
+
+    @Autowired
+    private PublicEventCacheService publicEventCache;
+
+    @Value("${app.invitations.insert-batch-size:1000}")
+    private int tempEmailBatchSize;
+
+    @Value("${app.invitations.response-sweep-grace-minutes:15}")
+    private long responseSweepGraceMinutes;
+
+    private static final Sort EVENT_ORDER = Sort.by(Sort.Direction.ASC, "id");
 
         
         @Transactional(readOnly = true)
@@ -115,6 +137,7 @@ public class EventService {
         event.recordCreation(user.getEmail());
         log.debug("[EventService] DEBUG - createEvent() - Set organizer and createdBy to user " + user.getId() + ", email: " + user.getEmail());
         Event savedEvent = eventRepository.save(event);
+        publicEventCache.refreshAfterCommit(savedEvent.getId());
 
         log.info("[EventService] INFO - Event created successfully: eventId=" + savedEvent.getId() + ", title="
                 + savedEvent.getTitle() + ", userId=" + currentUserId);
@@ -134,14 +157,6 @@ public class EventService {
         return eventMapper.toDto(savedEvent);
     }
 
-   
-    @Transactional(readOnly = true)
-    public List<EventResponseDTO> findPublicUpcomingEvents() {
-        List<Event> events = eventRepository.findByVisibilityAndEventStatusAndDeletedFalse(
-            Event.Visibility.PUBLIC, Event.EventStatus.UPCOMING
-        );
-        return events.stream().map(eventMapper::toDto).collect(Collectors.toList());
-    }
 
     @Transactional(readOnly = true)
     public Optional<EventResponseDTO> getEventById(@NonNull Long id, @NonNull Long currentUserId) {
@@ -182,6 +197,7 @@ public class EventService {
 
             existingEvent.recordUpdate("system");
             Event updatedEvent = eventRepository.save(existingEvent);
+            publicEventCache.refreshAfterCommit(id);
 
             log.info("[EventService] INFO - Event updated successfully: eventId=" + updatedEvent.getId() + ", title="
                     + updatedEvent.getTitle() + ", userId=" + currentUserId);
@@ -219,6 +235,7 @@ public class EventService {
             log.debug("[EventService] DEBUG - deleteEvent() - Marking event as deleted: " + eventTitle);
             event.markDeleted();
             eventRepository.save(event);
+            publicEventCache.refreshAfterCommit(id);
 
             log.info("[EventService] INFO - Event deleted successfully: eventId=" + event.getId() + ", title="
                     + eventTitle + ", userId=" + currentUserId);
@@ -244,15 +261,13 @@ public class EventService {
     @Transactional(readOnly = true)
     public Page<EventResponseDTO> getAllEvents(Pageable pageable) {
         Page<Event> events = eventRepository.findAllByDeletedFalse(pageable);
-        return events.map(eventMapper::toDto);
+        return eventMapper.toDtoPage(events);
     }
 
     @Transactional(readOnly = true)
     public List<EventResponseDTO> getAllEventsList() {
         List<Event> events = eventRepository.findAllByDeletedFalse();
-        return events.stream()
-                .map(eventMapper::toDto)
-                .collect(Collectors.toList());
+        return eventMapper.toDtoList(events);
     }
 
     private boolean hasPermission(@NonNull Long userId, String permissionName) {
@@ -309,12 +324,36 @@ public class EventService {
 
     @Transactional(readOnly = true)
     public List<EventResponseDTO> getEventsForUser(@NonNull Long userId) {
-        List<Event> allEvents = eventRepository.findAllByDeletedFalse();
+        return eventMapper.toDtoList(eventRepository.findAll(visibleEventsFor(userId), EVENT_ORDER));
+    }
 
-        return allEvents.stream()
-                .filter(event -> canViewEvent(event, userId))
-                .map(eventMapper::toDto)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public Page<EventResponseDTO> getEventsForUser(@NonNull Long userId, int page, int size) {
+        return eventMapper.toDtoPage(
+                eventRepository.findAll(visibleEventsFor(userId), PageRequest.of(page, size, EVENT_ORDER)));
+    }
+
+    @Transactional(readOnly = true)
+    public EventCursorPageDTO getEventsForUserAfter(@NonNull Long userId, Long afterId, int size) {
+        ScrollPosition position = afterId == null
+                ? ScrollPosition.keyset()
+                : ScrollPosition.forward(java.util.Map.of("id", afterId));
+
+        Window<Event> window = eventRepository.findBy(visibleEventsFor(userId),
+                query -> query.sortBy(EVENT_ORDER).limit(size).scroll(position));
+
+        List<EventResponseDTO> content = eventMapper.toDtoList(window.getContent());
+        Long nextCursor = window.hasNext() && !content.isEmpty() ? content.get(content.size() - 1).getId() : null;
+
+        return new EventCursorPageDTO(content, nextCursor, nextCursor != null);
+    }
+
+    private Specification<Event> visibleEventsFor(@NonNull Long userId) {
+        boolean viewAll = hasPermission(userId, "event.manage.all") || hasPermission(userId, "event.view.all");
+        return EventSpecifications.visibleTo(userId,
+                viewAll,
+                !viewAll && hasPermission(userId, "event.view.public"),
+                !viewAll && hasPermission(userId, "event.view.invited"));
     }
 
     @Transactional
@@ -349,6 +388,7 @@ public class EventService {
 
                 attendee.recordCreation("system");
                 eventAttendeesRepository.save(attendee);
+                publicEventCache.refreshAfterCommit(eventId);
                 return true;
             }
         }
@@ -421,6 +461,7 @@ public class EventService {
 
         attendee.recordCreation("system");
         eventAttendeesRepository.save(attendee);
+        publicEventCache.refreshAfterCommit(eventId);
 
         log.info("attendPublicEvent",
                 "User successfully registered for PUBLIC event: eventId={}, userId={}",
@@ -430,7 +471,11 @@ public class EventService {
     }
 
     
-    @Transactional
+    /**
+     * Validates the request, parks the upload in a temp file and starts a
+     * background ingestion job; progress is available from getInvitationJob.
+     */
+    @Transactional(readOnly = true)
     public java.util.Map<String, Object> sendBulkInvitations(
             @NonNull Long eventId,
             org.springframework.web.multipart.MultipartFile file,
@@ -438,70 +483,33 @@ public class EventService {
 
         log.info("[EventService] INFO - sendBulkInvitations() initiated for eventId={}, organizerId={}", eventId, organizerId);
 
-        Event event = validateEvent(eventId, organizerId);
-
-        // Load CSV invitations (external emails)
-        java.util.concurrent.CompletableFuture<java.util.List<com.event_management_system.dto.InviteAttendeeRequestDTO>> csvFuture =
-            java.util.concurrent.CompletableFuture.supplyAsync(
-                () -> loadExternalInvitesDirectFromCsv(file),
-                (java.util.concurrent.Executor) taskExecutor
-            );
-
-        // Load temp_email invitations (pending emails from temp table)
-        java.util.concurrent.CompletableFuture<java.util.List<com.event_management_system.dto.InviteAttendeeRequestDTO>> tempFuture =
-            java.util.concurrent.CompletableFuture.supplyAsync(
-                () -> {
-                    java.util.List<String> tempEmails = fetchPendingEmails();
-                    return tempEmails.stream()
-                        .map(email -> new com.event_management_system.dto.InviteAttendeeRequestDTO(null, email, ""))
-                        .collect(java.util.stream.Collectors.toList());
-                },
-                (java.util.concurrent.Executor) taskExecutor
-            );
-
-        // Load registered users (excluding organizer)
-        java.util.concurrent.CompletableFuture<java.util.List<com.event_management_system.dto.InviteAttendeeRequestDTO>> registeredFuture =
-            java.util.concurrent.CompletableFuture.supplyAsync(
-                () -> loadRegisteredUsers(organizerId),
-                (java.util.concurrent.Executor) taskExecutor
-            );
-
-        java.util.List<com.event_management_system.dto.InviteAttendeeRequestDTO> csvInvites = csvFuture.join();
-        java.util.List<com.event_management_system.dto.InviteAttendeeRequestDTO> tempInvites = tempFuture.join();
-        java.util.List<com.event_management_system.dto.InviteAttendeeRequestDTO> registeredInvites = registeredFuture.join();
-
-        int totalCsv = csvInvites.size();
-        int totalTemp = tempInvites.size();
-        int totalRegistered = registeredInvites.size();
+        validateEvent(eventId, organizerId);
 
-        if (totalCsv == 0 && totalTemp == 0 && totalRegistered == 0) {
-            log.warn("[EventService] WARN - No emails to invite for eventId={}", eventId);
-            throw new BadRequestException("No emails to invite");
+        java.nio.file.Path csvFile = null;
+        if (file != null && !file.isEmpty()) {
+            try {
+                csvFile = java.nio.file.Files.createTempFile("invitations-" + eventId + "-", ".csv");
+                file.transferTo(csvFile);
+            } catch (java.io.IOException e) {
+                log.error("[EventService] ERROR - Failed to store CSV upload: {}", e.getMessage());
+                throw new RuntimeException("Failed to process CSV file", e);
+            }
         }
 
-        if (totalCsv > 0) {
-            log.info("[EventService] INFO - Starting CSV invitations for eventId={}, totalCsv={}", eventId, totalCsv);
-            processBulkInvitationsAsync(event, csvInvites);
-        }
-        if (totalTemp > 0) {
-            log.info("[EventService] INFO - Starting temp_email invitations for eventId={}, totalTemp={}", eventId, totalTemp);
-            processBulkInvitationsAsync(event, tempInvites);
-        }
-        if (totalRegistered > 0) {
-            log.info("[EventService] INFO - Starting registered user invitations for eventId={}, totalRegistered={}", eventId, totalRegistered);
-            processBulkInvitationsAsync(event, registeredInvites);
-        }
+        com.event_management_system.dto.InvitationIngestionJobDTO job =
+                invitationIngestionService.start(eventId, organizerId, csvFile);
 
         return java.util.Map.of(
                 "status", "processing",
-                "message", "CSV, temp_email, and registered user invitations submitted for processing",
-                "csvTotal", totalCsv,
-                "tempTotal", totalTemp,
-                "registeredTotal", totalRegistered,
+                "message", "CSV, temp_email, and registered user invitations are being queued for delivery",
+                "jobId", job.getJobId(),
                 "eventId", eventId
         );
     }
-    
+
+    public com.event_management_system.dto.InvitationIngestionJobDTO getInvitationJob(@NonNull String jobId, @NonNull Long currentUserId) {
+        return invitationIngestionService.getJob(jobId, currentUserId);
+    }
 
     private Event validateEvent(Long eventId, Long organizerId) {
         log.debug("[EventService] DEBUG - validateEvent() for eventId={}, organizerId={}", eventId, organizerId);
@@ -529,197 +537,6 @@ public class EventService {
 
 
     
-    private java.util.List<com.event_management_system.dto.InviteAttendeeRequestDTO> loadRegisteredUsers(Long organizerId) {
-        log.debug("[EventService] DEBUG - loadRegisteredUsers() started");
-
-        java.util.List<com.event_management_system.dto.InviteAttendeeRequestDTO> users = userRepository.findAll().stream()
-                .filter(u -> !u.getId().equals(organizerId))
-                .map(u -> new com.event_management_system.dto.InviteAttendeeRequestDTO(
-                        u.getId(), u.getEmail(), u.getFullName()))
-                .collect(java.util.stream.Collectors.toList());
-
-        log.info("[EventService] INFO - Loaded {} registered users for invitations", users.size());
-        return users;
-    }
-
-    public java.util.List<com.event_management_system.dto.InviteAttendeeRequestDTO> loadExternalInvitesDirectFromCsv(org.springframework.web.multipart.MultipartFile file) {
-        log.debug("[EventService] DEBUG - loadExternalInvitesDirectFromCsv() started");
-
-        java.util.List<String> emails = readCsvEmails(file);
-        if (emails.isEmpty()) {
-            log.info("[EventService] INFO - No valid emails found in CSV file");
-            return java.util.Collections.emptyList();
-        }
-        log.info("[EventService] INFO - Read {} emails from CSV file (direct flow)", emails.size());
-        java.util.List<com.event_management_system.dto.InviteAttendeeRequestDTO> externalInvites = emails.stream()
-                .map(email -> new com.event_management_system.dto.InviteAttendeeRequestDTO(null, email, ""))
-                .collect(java.util.stream.Collectors.toList());
-        log.info("[EventService] INFO - Prepared {} external invites directly from CSV (bypassing temp_email)", externalInvites.size());
-        return externalInvites;
-    }
-
-    private java.util.List<String> readCsvEmails(org.springframework.web.multipart.MultipartFile file) {
-        log.debug("[EventService] DEBUG - readCsvEmails() started");
-
-        if (file == null || file.isEmpty()) {
-            log.debug("[EventService] DEBUG - No CSV file provided");
-            return new java.util.ArrayList<>();
-        }
-
-        try (java.io.BufferedReader br = new java.io.BufferedReader(
-                new java.io.InputStreamReader(file.getInputStream()))) {
-
-            java.util.List<String> lines = br.lines()
-                .filter(line -> !line.trim().isEmpty())
-                .collect(java.util.stream.Collectors.toList());
-
-            java.util.List<String> emails = new java.util.ArrayList<>();
-            boolean headerLooksLikeHeader = false;
-            if (!lines.isEmpty()) {
-                String first = lines.get(0).toLowerCase();
-                headerLooksLikeHeader = first.contains("email") && !first.contains("@");
-            }
-            for (int i = (headerLooksLikeHeader ? 1 : 0); i < lines.size(); i++) {
-                String[] parts = lines.get(i).split(",");
-                if (parts.length > 0) {
-                    String email = parts[0].trim().toLowerCase();
-                    if (email.contains("@")) {
-                        emails.add(email);
-                    }
-                }
-            }
-            log.debug("[EventService] DEBUG - Parsed {} valid emails from CSV", emails.size());
-            return emails;
-
-        } catch (java.io.IOException e) {
-            log.error("[EventService] ERROR - Failed to read CSV file: {}", e.getMessage());
-            throw new RuntimeException("Failed to process CSV file", e);
-        }
-    }
-    
-
-   
-    @Async("taskExecutor")
-
-    public void processBulkInvitationsAsync(
-            Event event,
-            java.util.List<com.event_management_system.dto.InviteAttendeeRequestDTO> invitations) {
-
-        log.info("[EventService] INFO - processBulkInvitationsAsync() started for eventId={}, totalInvitations={}",
-                event.getId(), invitations.size());
-
-
-
-        try {
-            long start = System.currentTimeMillis();
-            int batchSize = 10;
-            int total = invitations.size();
-            int sent = 0;
-            long successCount = 0;
-            long failureCount = 0;
-            while (sent < total) {
-                int end = Math.min(sent + batchSize, total);
-                java.util.List<com.event_management_system.dto.InviteAttendeeRequestDTO> batch = invitations.subList(sent, end);
-                java.util.List<java.util.concurrent.CompletableFuture<Boolean>> tasks = new java.util.ArrayList<>();
-                for (com.event_management_system.dto.InviteAttendeeRequestDTO invite : batch) {
-                    try {
-                        tasks.add(java.util.concurrent.CompletableFuture.supplyAsync(() -> {
-                            long emailStart = System.currentTimeMillis();
-                            boolean result = processInvitation(event, invite);
-                            long emailEnd = System.currentTimeMillis();
-                            log.info("[EventService] INFO - Email send time for {}: {} ms", invite.getEmail(), (emailEnd - emailStart));
-                            return result;
-                        }, (java.util.concurrent.Executor) taskExecutor));
-                    } catch (java.util.concurrent.RejectedExecutionException ex) {
-                        log.error("[EventService] ERROR - TaskExecutor saturated! Could not submit invitation for email: {}. Consider increasing pool size or queue capacity.", invite.getEmail());
-                    }
-                }
-                java.util.concurrent.CompletableFuture<Boolean>[] futuresArray = tasks.toArray(new java.util.concurrent.CompletableFuture[0]);
-                java.util.concurrent.CompletableFuture.allOf(futuresArray).join();
-                for (java.util.concurrent.CompletableFuture<Boolean> task : tasks) {
-                    try {
-                        if (task.join()) successCount++;
-                        else failureCount++;
-                    } catch (Exception e) {
-                        log.debug("[EventService] DEBUG - Task failed: {}", e.getMessage());
-                        failureCount++;
-                    }
-                }
-                sent = end;
-                if (sent < total) {
-                    log.info("[EventService] INFO - Throttling: sleeping 2 seconds between batches to avoid Gmail blocking");
-                    try { Thread.sleep(2000); } catch (InterruptedException ignored) {}
-                }
-            }
-            log.info("[EventService] INFO - processBulkInvitationsAsync() completed for eventId={}, successful={}, failed={}",
-                    event.getId(), successCount, failureCount);
-            log.debug("[EventService] DEBUG - All batches completed in {} ms", (System.currentTimeMillis() - start));
-        } catch (Exception e) {
-            log.error("[EventService] ERROR - Exception in processBulkInvitationsAsync(): {}", e.getMessage());
-            log.error("[EventService] ERROR - Stack trace: ", e);
-        }
-    }
-    
-
-   
-    private boolean processInvitation(Event event, com.event_management_system.dto.InviteAttendeeRequestDTO invite) {
-        log.debug("[EventService] DEBUG - processInvitation() started for email: {}", invite.getEmail());
-
-        try {
-            if (!invite.isValid()) {
-                log.warn("[EventService] WARN - Invalid invitation data: {}", invite);
-                return false;
-            }
-
-            String email = invite.isRegisteredUser()
-                    ? userRepository.findById(invite.getUserId())
-                            .orElseThrow(() -> new RuntimeException("User not found"))
-                            .getEmail()
-                    : invite.getEmail();
-
-            if (eventAttendeesRepository.existsByEventAndEmail(event, email)) {
-                log.debug("[EventService] DEBUG - Email already invited, skipping: {}", email);
-                return false;
-            }
-
-            User user = invite.isRegisteredUser()
-                    ? userRepository.findById(invite.getUserId()).orElse(null)
-                    : userRepository.findByEmail(email).orElse(null);
-
-            EventAttendees attendee = EventAttendees.builder()
-                    .event(event)
-                    .user(user)
-                    .email(email)
-                    .invitationStatus(EventAttendees.InvitationStatus.PENDING)
-                    .invitationSentAt(java.time.LocalDateTime.now())
-                    .build();
-
-            attendee.recordCreation("system");  // Audit trail
-            EventAttendees savedAttendee = eventAttendeesRepository.save(attendee);
-
-            log.debug("[EventService] DEBUG - Created EventAttendees for email: {}", email);
-
-            boolean emailSent = emailService.sendWithRetry(
-                    () -> emailService.sendInvitationEmail(event, email, savedAttendee.getInvitationToken()),
-                    email,
-                    3
-            );
-
-            if (emailSent) {
-                log.info("[EventService] INFO - Successfully sent invitation to: {}", email);
-                return true;
-            } else {
-                log.warn("[EventService] WARN - Failed to send invitation to: {} after 3 retry attempts", email);
-                return false;
-            }
-
-        } catch (Exception e) {
-            log.error("[EventService] ERROR - Exception processing invitation for email {}: {}", invite.getEmail(), e.getMessage());
-            return false;
-        }
-    }
-    
-
     @Transactional
     public EventResponseDTO processEventAction(@NonNull Long eventId,
             @NonNull com.event_management_system.dto.EventActionRequestDTO actionRequest,
@@ -783,6 +600,7 @@ public class EventService {
         event.recordUpdate("system");
 
         Event savedEvent = eventRepository.save(event);
+        publicEventCache.refreshAfterCommit(eventId);
 
         log.debug("[EventService] DEBUG - Event action saved successfully: eventId={}, status={}", 
                   eventId, savedEvent.getApprovalStatus());
@@ -790,103 +608,101 @@ public class EventService {
         return eventMapper.toDto(savedEvent);
     }
 
+    /**
+     * Records an ACCEPT/DECLINE with one conditional UPDATE and publishes an
+     * {@link InvitationRespondedEvent}. Account provisioning and the emails
+     * run after commit in {@link com.event_management_system.notification.InvitationResponseListener}.
+     */
     @Transactional
     public void respondToInvitation(@NonNull String invitationToken, @NonNull String action) {
         log.trace("[EventService] TRACE - respondToInvitation() called with token={}, action={}",
                 invitationToken, action);
 
-        EventAttendees attendee = eventAttendeesRepository.findByInvitationToken(invitationToken)
+        EventAttendees.InvitationStatus status;
+        if ("ACCEPT".equalsIgnoreCase(action)) {
+            status = EventAttendees.InvitationStatus.ACCEPTED;
+        } else if ("DECLINE".equalsIgnoreCase(action)) {
+            status = EventAttendees.InvitationStatus.DECLINED;
+        } else {
+            throw new BadRequestException("Invalid action. Must be ACCEPT or DECLINE");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int updated = eventAttendeesRepository.recordResponse(invitationToken, status, now,
+                now.plusMinutes(responseSweepGraceMinutes));
+        EventAttendeesRepository.InvitationRef invitation = eventAttendeesRepository.findInvitationRefByToken(invitationToken)
                 .orElseThrow(() -> new ResourceNotFoundException("Invalid invitation token"));
 
-        if (attendee.getInvitationStatus() != EventAttendees.InvitationStatus.PENDING) {
+        if (updated == 0) {
             log.warn("[EventService] WARN - Invitation already responded: token={}, currentStatus={}",
-                    invitationToken, attendee.getInvitationStatus());
+                    invitationToken, invitation.getInvitationStatus());
             throw new BadRequestException("You have already responded to this invitation");
         }
 
-        boolean accepted;
-        String tempPassword = null;  // Store for credentials email later
-        
-        if ("ACCEPT".equalsIgnoreCase(action)) {
-            attendee.setInvitationStatus(EventAttendees.InvitationStatus.ACCEPTED);
-            accepted = true;
-            log.info("[EventService] INFO - Invitation accepted: eventId={}, email={}",
-                    attendee.getEvent().getId(), attendee.getEmail());
+        boolean accepted = status == EventAttendees.InvitationStatus.ACCEPTED;
+        log.info("[EventService] INFO - Invitation {}: eventId={}, email={}",
+                accepted ? "accepted" : "declined", invitation.getEventId(), invitation.getEmail());
 
-            if (attendee.getUser() == null) {
-                try {
-                    log.info("[EventService] INFO - Auto-creating account for external user: email={}", 
-                             attendee.getEmail());
-                    
-                    java.util.Map<String, Object> accountInfo = userService.createAutoAccountForInvitee(
-                        attendee.getEmail(),
-                        attendee.getEmail().split("@")[0] 
-                    );
-                    
-                    User newUser = (User) accountInfo.get("user");
-                    tempPassword = (String) accountInfo.get("password");
-                    
-                    attendee.setUser(newUser);
-                    log.info("[EventService] INFO - ✅ Auto account created: email={}, userId={}", 
-                             attendee.getEmail(), newUser.getId());
-                    
-                } catch (Exception e) {
-                    log.error("[EventService] ERROR - Failed to auto-create account for invitee: email={}, error={}", 
-                             attendee.getEmail(), e.getMessage(), e);
-                }
-            }
-
-        } else if ("DECLINE".equalsIgnoreCase(action)) {
-            attendee.setInvitationStatus(EventAttendees.InvitationStatus.DECLINED);
-            accepted = false;
-            log.info("[EventService] INFO - Invitation declined: eventId={}, email={}",
-                    attendee.getEvent().getId(), attendee.getEmail());
-        } else {
-            throw new BadRequestException("Invalid action. Must be ACCEPT or DECLINE");
-        }
+        eventPublisher.publishEvent(new InvitationRespondedEvent(
+                invitation.getId(), invitation.getEventId(), invitation.getEmail(), accepted));
+    }
 
-        attendee.setResponseAt(LocalDateTime.now());
+    /**
+     * Links an accepted invitation to a user account, creating one with a
+     * temporary password for external invitees. Returns the new account's
+     * credentials, or null when the attendee already had or now matches an
+     * existing user.
+     */
+    @Transactional
+    public ProvisionedAccount provisionInviteeAccount(@NonNull Long attendeeId) {
+        EventAttendees attendee = eventAttendeesRepository.findById(attendeeId)
+                .orElseThrow(() -> new ResourceNotFoundException("Attendee not found with id: " + attendeeId));
+        if (attendee.getUser() != null) {
+            return null;
+        }
+
+        Optional<User> existing = userRepository.findByEmail(attendee.getEmail());
+        if (existing.isPresent()) {
+            attendee.setUser(existing.get());
+            attendee.recordUpdate("system");
+            eventAttendeesRepository.save(attendee);
+            log.info("[EventService] INFO - Linked invitation to existing account: email={}, userId={}",
+                    attendee.getEmail(), existing.get().getId());
+            return null;
+        }
+
+        log.info("[EventService] INFO - Auto-creating account for external user: email={}", attendee.getEmail());
+        java.util.Map<String, Object> accountInfo = userService.createAutoAccountForInvitee(
+                attendee.getEmail(),
+                attendee.getEmail().split("@")[0]);
+        User newUser = (User) accountInfo.get("user");
+        String tempPassword = (String) accountInfo.get("password");
+
+        attendee.setUser(newUser);
         attendee.recordUpdate("system");
         eventAttendeesRepository.save(attendee);
+        log.info("[EventService] INFO - ✅ Auto account created: email={}, userId={}",
+                attendee.getEmail(), newUser.getId());
 
-        log.info("[EventService] INFO - Sending invitation response confirmation to: {}", attendee.getEmail());
-        emailService.sendInvitationResponseConfirmation(attendee.getEvent(), attendee.getEmail(), accepted);
+        return new ProvisionedAccount(newUser.getId(), attendee.getEmail(), newUser.getFullName(), tempPassword);
+    }
 
-        if (accepted && attendee.getUser() != null && tempPassword != null) {
-            try {
-                final String finalEmail = attendee.getEmail();
-                final String finalFullName = attendee.getUser().getFullName();
-                final String finalPassword = tempPassword;
-                final Long finalUserId = attendee.getUser().getId();
-                
-                log.info("[EventService] INFO - Waiting 1 second before sending credentials email...");
-                Thread.sleep(1000);
-                
-                log.debug("[EventService] DEBUG - Sending credentials email to: {}", finalEmail);
-                log.info("[EventService] INFO - Starting credentials email send with retry for: {}", finalEmail);
-                
-                boolean emailSent = emailService.sendWithRetry(
-                    () -> emailService.sendAutoAccountCredentials(
-                        finalEmail,
-                        finalFullName,
-                        finalPassword
-                    ),
-                    finalEmail,
-                    5
-                );
-                
-                if (emailSent) {
-                    log.info("[EventService] INFO - ✅ SUCCESS: Credentials email sent after confirmation: email={}, userId={}", 
-                             finalEmail, finalUserId);
-                } else {
-                    log.warn("[EventService] WARN - ⚠️ FAILED: Credentials email send failed after 5 retries: email={}, userId={}", 
-                             finalEmail, finalUserId);
-                }
-            } catch (Exception e) {
-                log.error("[EventService] ERROR - Exception sending credentials email: email={}, error={}", 
-                         attendee.getEmail(), e.getMessage(), e);
-            }
+    public void markResponseNotified(@NonNull Long attendeeId) {
+        eventAttendeesRepository.markResponseNotified(attendeeId, LocalDateTime.now());
+    }
+
+    /**
+     * Loads an event with its organizer initialized, for emails rendered
+     * outside a transaction.
+     */
+    @Transactional(readOnly = true)
+    public Event getEventForNotification(@NonNull Long eventId) {
+        Event event = eventRepository.findById(eventId)
+                .orElseThrow(() -> new ResourceNotFoundException("Event not found with id: " + eventId));
+        if (event.getOrganizer() != null) {
+            event.getOrganizer().getFullName();
         }
+        return event;
     }
 
     @Transactional
@@ -910,6 +726,7 @@ public class EventService {
         event.hold();
         event.recordUpdate("superadmin_" + userId);
         eventRepository.save(event);
+        publicEventCache.refreshAfterCommit(eventId);
 
         log.info("[EventService] INFO - Event held: eventId={}, userId={}", eventId, userId);
     }
@@ -936,6 +753,7 @@ public class EventService {
         event.reactivate();
         event.recordUpdate("superadmin_" + userId);
         eventRepository.save(event);
+        publicEventCache.refreshAfterCommit(eventId);
 
         log.info("[EventService] INFO - Event reactivated: eventId={}, userId={}", eventId, userId);
     }
@@ -943,20 +761,17 @@ public class EventService {
     
     public int insertEmailsToTempTable(List<String> emails) {
         log.debug("[EventService] DEBUG - insertEmailsToTempTable() called with {} emails", emails.size());
-        
-        int inserted = 0;
-        for (String email : emails) {
-            try {
-                jdbcTemplate.update("INSERT INTO temp_email (email) VALUES (?) ON DUPLICATE KEY UPDATE email=email", email.toLowerCase().trim());
-                inserted++;
-                log.debug("[EventService] DEBUG - Inserted email into temp_email: {}", email);
-            } catch (Exception e) {
-                log.warn("[EventService] WARN - Failed to insert email into temp_email: {}, error: {}", email, e.getMessage());
-            }
-        }
-        
-        log.info("[EventService] INFO - Successfully inserted {} emails into temp_email table", inserted);
-        return inserted;
+
+        List<String> normalized = emails.stream()
+                .filter(Objects::nonNull)
+                .map(email -> email.toLowerCase().trim())
+                .filter(email -> !email.isEmpty())
+                .toList();
+        jdbcTemplate.batchUpdate("INSERT INTO temp_email (email) VALUES (?) ON DUPLICATE KEY UPDATE email=email",
+                normalized, tempEmailBatchSize, (ps, email) -> ps.setString(1, email));
+
+        log.info("[EventService] INFO - Successfully inserted {} emails into temp_email table", normalized.size());
+        return normalized.size();
     }
 
     
@@ -999,5 +814,20 @@ public class EventService {
         }
     }
 
-}
+    /**
+     * Credentials of an account created for an external invitee; the
+     * temporary password is only held until the credentials email is sent.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class ProvisionedAccount {
+
+        private final Long userId;
 
+        private final String email;
+
+        private final String fullName;
+
+        private final String temporaryPassword;
+    }
+}
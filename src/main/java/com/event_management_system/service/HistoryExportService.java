@@ -0,0 +1,154 @@
+package com.event_management_system.service;
+
+import java.io.File;
+import java.io.OutputStream;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import com.event_management_system.dto.UserActivityHistoryResponseDTO;
+import com.event_management_system.dto.UserLoginLogoutHistoryResponseDTO;
+import com.event_management_system.dto.UserPasswordHistoryResponseDTO;
+import com.event_management_system.util.ResultSetRowDataSource;
+
+import net.sf.jasperreports.engine.JRException;
+import net.sf.jasperreports.engine.JRParameter;
+import net.sf.jasperreports.engine.JasperExportManager;
+import net.sf.jasperreports.engine.JasperFillManager;
+import net.sf.jasperreports.engine.JasperPrint;
+import net.sf.jasperreports.engine.JasperReport;
+import net.sf.jasperreports.engine.fill.JRSwapFileVirtualizer;
+import net.sf.jasperreports.engine.util.JRSwapFile;
+
+/**
+ * Streams history tables into a PDF without materialising them: rows come off
+ * a forward-only MySQL cursor one at a time, filled pages beyond a small window
+ * are swapped to disk, and the document is written straight to the caller's
+ * stream. Memory use depends on the page window, not on the number of rows.
+ */
+@Service
+public class HistoryExportService {
+
+    public enum HistoryType {
+        ACTIVITY(UserActivityHistoryResponseDTO.class, ReportTemplateRegistry.ACTIVITY,
+                "SELECT h.activity_type_name AS activityTypeName, h.username AS username, h.user_group AS userGroup, "
+                        + "h.description AS description, h.activity_date AS activityDate, h.ip AS ip "
+                        + "FROM user_activity_history h"),
+        LOGIN_LOGOUT(UserLoginLogoutHistoryResponseDTO.class, ReportTemplateRegistry.LOGIN_HISTORY,
+                "SELECT u.full_name AS userFullName, u.email AS userEmail, h.login_time AS loginTime, "
+                        + "h.logout_time AS logoutTime, h.request_ip AS requestIp, h.login_status AS loginStatus "
+                        + "FROM user_login_logout_history h JOIN event_users u ON u.id = h.user_id"),
+        PASSWORD(UserPasswordHistoryResponseDTO.class, ReportTemplateRegistry.PASSWORD_HISTORY,
+                "SELECT u.full_name AS userFullName, u.email AS userEmail, c.full_name AS passwordChangedByName, "
+                        + "h.change_date AS changeDate "
+                        + "FROM user_password_history h JOIN event_users u ON u.id = h.user_id "
+                        + "LEFT JOIN event_users c ON c.id = h.password_change_by");
+
+        private final Class<?> dtoClass;
+
+        private final ReportTemplateRegistry.Layout layout;
+
+        private final String baseQuery;
+
+        HistoryType(Class<?> dtoClass, ReportTemplateRegistry.Layout layout, String baseQuery) {
+            this.dtoClass = dtoClass;
+            this.layout = layout;
+            this.baseQuery = baseQuery;
+        }
+
+        private String query(boolean filterByUser) {
+            return baseQuery + (filterByUser ? " WHERE h.user_id = ?" : "") + " ORDER BY h.id";
+        }
+    }
+
+    @Autowired
+    private ApplicationLoggerService log;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ReportTemplateRegistry templateRegistry;
+
+    @Value("${app.reports.virtualizer.max-pages:50}")
+    private int maxPagesInMemory;
+
+    @Value("${app.reports.swap-directory:${java.io.tmpdir}}")
+    private String swapDirectory;
+
+    /**
+     * Writes the PDF for {@code type} to {@code out}; {@code userId} restricts the
+     * export to one user's rows, {@code null} exports everything. Nothing is
+     * written to {@code out} until the fill has succeeded.
+     */
+    public long exportPdf(HistoryType type, Long userId, Map<String, Object> parameters, OutputStream out) throws JRException {
+        JasperReport report = templateRegistry.get(type.dtoClass, type.layout);
+        JRSwapFileVirtualizer virtualizer = new JRSwapFileVirtualizer(
+                maxPagesInMemory, new JRSwapFile(new File(swapDirectory).getAbsolutePath(), 4096, 256), true);
+
+        Map<String, Object> fillParameters = parameters == null ? new HashMap<>() : new HashMap<>(parameters);
+        fillParameters.put(JRParameter.REPORT_VIRTUALIZER, virtualizer);
+
+        long start = System.currentTimeMillis();
+        try {
+            FillResult result = fill(type, userId, report, fillParameters);
+            virtualizer.setReadOnly(true);
+            JasperExportManager.exportReportToPdfStream(result.print, out);
+            log.info("[HistoryExportService] INFO - exportPdf() - Exported {} {} rows ({} pages) in {}ms",
+                    result.rowCount, type, result.print.getPages().size(), System.currentTimeMillis() - start);
+            return result.rowCount;
+        } finally {
+            virtualizer.cleanup();
+        }
+    }
+
+    private FillResult fill(HistoryType type, Long userId, JasperReport report, Map<String, Object> fillParameters) throws JRException {
+        try {
+            return jdbcTemplate.execute((ConnectionCallback<FillResult>) connection -> {
+                try (PreparedStatement statement = connection.prepareStatement(
+                        type.query(userId != null), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                    // MySQL Connector/J only streams row by row with this exact fetch size.
+                    statement.setFetchSize(Integer.MIN_VALUE);
+                    if (userId != null) {
+                        statement.setLong(1, userId);
+                    }
+                    try (ResultSet resultSet = statement.executeQuery()) {
+                        ResultSetRowDataSource dataSource = new ResultSetRowDataSource(resultSet);
+                        JasperPrint print = JasperFillManager.fillReport(report, fillParameters, dataSource);
+                        return new FillResult(print, dataSource.getRowCount());
+                    } catch (JRException e) {
+                        throw new FillFailedException(e);
+                    }
+                }
+            });
+        } catch (FillFailedException e) {
+            throw (JRException) e.getCause();
+        }
+    }
+
+    private static final class FillResult {
+
+        private final JasperPrint print;
+
+        private final long rowCount;
+
+        private FillResult(JasperPrint print, long rowCount) {
+            this.print = print;
+            this.rowCount = rowCount;
+        }
+    }
+
+    private static final class FillFailedException extends RuntimeException {
+
+        private FillFailedException(JRException cause) {
+            super(cause);
+        }
+    }
+}
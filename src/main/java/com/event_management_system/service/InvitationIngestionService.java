@@ -0,0 +1,310 @@
+package com.event_management_system.service;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Service;
+
+import com.event_management_system.dto.InvitationIngestionJobDTO;
+import com.event_management_system.dto.InviteAttendeeRequestDTO;
+import com.event_management_system.exception.GlobalExceptionHandler.ForbiddenException;
+import com.event_management_system.exception.GlobalExceptionHandler.ResourceNotFoundException;
+import com.event_management_system.util.CsvFirstColumnReader;
+
+/**
+ * Background ingestion of bulk invitations. The uploaded CSV (already copied
+ * to a temp file), the temp_email table and the registered users (both read
+ * in keyset pages) are streamed through one pipeline: validate, dedupe, and
+ * hand chunks of {@code app.invitations.ingest-chunk-size} emails to
+ * BulkInvitationWriter. Only the current chunk is held in memory; repeats
+ * across chunks are found by the writer's already-invited query and counted
+ * as duplicates from what it skipped.
+ */
+@Service
+public class InvitationIngestionService {
+
+    private static final int MAX_EMAIL_LENGTH = 100;
+
+    @Autowired
+    private ApplicationLoggerService log;
+
+    @Autowired
+    private BulkInvitationWriter bulkInvitationWriter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    @Qualifier("ingestionExecutor")
+    private TaskExecutor ingestionExecutor;
+
+    @Autowired
+    private PermissionMatrixService permissionMatrixService;
+
+    @Value("${app.invitations.ingest-chunk-size:5000}")
+    private int chunkSize;
+
+    @Value("${app.invitations.job-retention-minutes:60}")
+    private long jobRetentionMinutes;
+
+    private final Map<String, IngestionJob> jobs = new ConcurrentHashMap<>();
+
+    /**
+     * Starts ingesting invitations for the event and returns the job's initial
+     * status. The job deletes {@code csvFile} when it finishes.
+     */
+    public InvitationIngestionJobDTO start(@NonNull Long eventId, @NonNull Long organizerId, Path csvFile) {
+        pruneFinishedJobs();
+        IngestionJob job = new IngestionJob(UUID.randomUUID().toString(), eventId, organizerId);
+        jobs.put(job.id, job);
+        try {
+            ingestionExecutor.execute(() -> run(job, csvFile));
+        } catch (RuntimeException e) {
+            jobs.remove(job.id);
+            deleteQuietly(csvFile);
+            throw e;
+        }
+        log.info("[InvitationIngestionService] INFO - start() - Ingestion job {} queued for eventId={}", job.id, eventId);
+        return job.toDto();
+    }
+
+    public InvitationIngestionJobDTO getJob(@NonNull String jobId, @NonNull Long currentUserId) {
+        IngestionJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new ResourceNotFoundException("Invitation job not found: " + jobId);
+        }
+        if (!Objects.equals(job.organizerId, currentUserId) && !permissionMatrixService.hasPermission(currentUserId, "event.manage.all")) {
+            throw new ForbiddenException("You can only view invitation jobs you started");
+        }
+        return job.toDto();
+    }
+
+    private void run(IngestionJob job, Path csvFile) {
+        job.status = "RUNNING";
+        job.startedAt = LocalDateTime.now();
+        long start = System.currentTimeMillis();
+        Sink sink = new Sink(job);
+        try {
+            if (csvFile != null) {
+                readCsv(csvFile, sink);
+            }
+            readTempEmails(sink);
+            readRegisteredUsers(job.organizerId, sink);
+            sink.flush();
+
+            job.status = "COMPLETED";
+            log.info("[InvitationIngestionService] INFO - run() - Job {} for eventId={} completed in {}ms: read={}, invalid={}, duplicates={}, invited={}",
+                    job.id, job.eventId, System.currentTimeMillis() - start,
+                    job.recordsRead, job.invalid, job.duplicates, job.invited);
+        } catch (Exception e) {
+            job.error = e.getMessage();
+            job.status = "FAILED";
+            log.error("[InvitationIngestionService] ERROR - run() - Job {} for eventId={} failed after {} records: {}",
+                    job.id, job.eventId, job.recordsRead, e.getMessage());
+        } finally {
+            job.finishedAt = LocalDateTime.now();
+            deleteQuietly(csvFile);
+        }
+    }
+
+    private void readCsv(Path csvFile, Sink sink) throws IOException {
+        try (Reader reader = new InputStreamReader(Files.newInputStream(csvFile), StandardCharsets.UTF_8)) {
+            CsvFirstColumnReader csv = new CsvFirstColumnReader(reader, MAX_EMAIL_LENGTH + 1);
+            String value;
+            boolean first = true;
+            while ((value = csv.next()) != null) {
+                if (first) {
+                    first = false;
+                    if (value.contains("email") && value.indexOf('@') < 0) {
+                        continue;
+                    }
+                }
+                sink.accept(null, csv.isTruncated() ? null : value);
+            }
+        }
+    }
+
+    /**
+     * Reads temp_email in keyset pages on its unique email column, so no
+     * result set stays open while a chunk is written.
+     */
+    private void readTempEmails(Sink sink) {
+        String after = "";
+        while (true) {
+            List<String> page = jdbcTemplate.queryForList(
+                    "SELECT email FROM temp_email WHERE email > ? ORDER BY email LIMIT ?", String.class, after, chunkSize);
+            for (String email : page) {
+                sink.accept(null, email);
+            }
+            if (page.size() < chunkSize) {
+                return;
+            }
+            after = page.get(page.size() - 1);
+        }
+    }
+
+    private void readRegisteredUsers(Long organizerId, Sink sink) {
+        long afterId = 0;
+        while (true) {
+            List<RegisteredUser> page = jdbcTemplate.query(
+                    "SELECT id, email FROM event_users WHERE id > ? AND id <> ? ORDER BY id LIMIT ?",
+                    (rs, rowNum) -> new RegisteredUser(rs.getLong(1), rs.getString(2)),
+                    afterId, organizerId, chunkSize);
+            for (RegisteredUser user : page) {
+                sink.accept(user.id(), user.email());
+            }
+            if (page.size() < chunkSize) {
+                return;
+            }
+            afterId = page.get(page.size() - 1).id();
+        }
+    }
+
+    static boolean isValidEmail(String email) {
+        int length = email.length();
+        if (length < 3 || length > MAX_EMAIL_LENGTH) {
+            return false;
+        }
+        int at = email.indexOf('@');
+        if (at <= 0 || at != email.lastIndexOf('@') || at == length - 1) {
+            return false;
+        }
+        int dot = email.lastIndexOf('.');
+        if (dot < at + 2 || dot == length - 1) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            char c = email.charAt(i);
+            if (c <= ' ' || c == ',' || c == ';' || c == '"' || c == '<' || c == '>') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void pruneFinishedJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(jobRetentionMinutes);
+        jobs.values().removeIf(job -> job.finishedAt != null && job.finishedAt.isBefore(cutoff));
+    }
+
+    private void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("[InvitationIngestionService] WARN - deleteQuietly() - Could not delete {}: {}", file, e.getMessage());
+        }
+    }
+
+    private record RegisteredUser(long id, String email) {
+    }
+
+    /**
+     * Validates, dedupes and buffers emails for one job, writing a chunk
+     * whenever it fills up. A hash hit is only a possible duplicate: it is
+     * dropped when the email is in the current chunk, and otherwise left to
+     * the writer, which skips emails already invited to the event.
+     */
+    private final class Sink {
+
+        private final IngestionJob job;
+
+        private final List<InviteAttendeeRequestDTO> chunk = new ArrayList<>(chunkSize);
+
+        private final Set<String> chunkEmails = new HashSet<>();
+
+        private Sink(IngestionJob job) {
+            this.job = job;
+        }
+
+        private void accept(Long userId, String rawEmail) {
+            job.recordsRead++;
+            String email = rawEmail == null ? null : rawEmail.trim().toLowerCase();
+            if (email == null || !isValidEmail(email)) {
+                job.invalid++;
+                return;
+            }
+            if (!chunkEmails.add(email)) {
+                job.duplicates++;
+                return;
+            }
+            chunk.add(new InviteAttendeeRequestDTO(userId, email, ""));
+            if (chunk.size() >= chunkSize) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            int created = bulkInvitationWriter.write(job.eventId, chunk);
+            job.invited += created;
+            // Emails the writer skipped were already invited, by this job or earlier.
+            job.duplicates += chunk.size() - created;
+            chunk.clear();
+            chunkEmails.clear();
+        }
+    }
+
+    /**
+     * Mutable job state; written only by the job's worker thread and read by
+     * status requests, so plain volatile fields are enough.
+     */
+    private static final class IngestionJob {
+
+        private final String id;
+
+        private final Long eventId;
+
+        private final Long organizerId;
+
+        private volatile String status = "QUEUED";
+
+        private volatile long recordsRead;
+
+        private volatile long invalid;
+
+        private volatile long duplicates;
+
+        private volatile long invited;
+
+        private volatile LocalDateTime startedAt;
+
+        private volatile LocalDateTime finishedAt;
+
+        private volatile String error;
+
+        private IngestionJob(String id, Long eventId, Long organizerId) {
+            this.id = id;
+            this.eventId = eventId;
+            this.organizerId = organizerId;
+        }
+
+        private InvitationIngestionJobDTO toDto() {
+            return new InvitationIngestionJobDTO(id, eventId, status, recordsRead, invalid, duplicates, invited,
+                    startedAt, finishedAt, error);
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.event_management_system.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.event_management_system.entity.InvitationOutbox;
+import com.event_management_system.repository.EventAttendeesRepository;
+import com.event_management_system.repository.InvitationOutboxRepository;
+
+/**
+ * Persistent queue of invitation emails. Rows are inserted in JDBC batches,
+ * the dispatcher claims due rows, and every attempt's outcome is written back
+ * so a restart resumes from the table instead of losing work.
+ */
+@Service
+public class InvitationOutboxService {
+
+    private static final String INSERT_SQL = "INSERT INTO invitation_outbox "
+            + "(event_id, user_id, email, invitation_token, status, attempts, next_attempt_at, created_at) "
+            + "VALUES (?, ?, ?, ?, 'PENDING', 0, ?, ?)";
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Autowired
+    private ApplicationLoggerService log;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private InvitationOutboxRepository outboxRepository;
+
+    @Autowired
+    private EventAttendeesRepository eventAttendeesRepository;
+
+    @Value("${app.invitations.insert-batch-size:1000}")
+    private int insertBatchSize;
+
+    @Value("${app.invitations.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${app.invitations.retry-backoff-millis:30000}")
+    private long retryBackoffMillis;
+
+    @Value("${app.invitations.claim-timeout-seconds:300}")
+    private long claimTimeoutSeconds;
+
+    /**
+     * Queues the given invitations in JDBC batches. Joins the caller's
+     * transaction, so rows become visible to the dispatcher only on commit.
+     */
+    @Transactional
+    public void enqueue(@NonNull Long eventId, List<Invitation> invitations) {
+        if (invitations.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, invitations, insertBatchSize, (ps, invitation) -> {
+            ps.setLong(1, eventId);
+            ps.setObject(2, invitation.getUserId());
+            ps.setString(3, invitation.getEmail());
+            ps.setString(4, invitation.getToken());
+            ps.setTimestamp(5, now);
+            ps.setTimestamp(6, now);
+        });
+        log.debug("[InvitationOutboxService] DEBUG - enqueue() - Queued {} invitations for eventId={}", invitations.size(), eventId);
+    }
+
+    /**
+     * Claims up to {@code limit} due rows and returns them with event and
+     * organizer loaded, ready to render outside any transaction.
+     */
+    @Transactional
+    public List<InvitationOutbox> claimDue(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = outboxRepository.lockDueIds(now, limit);
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        outboxRepository.markClaimed(ids, now);
+        return outboxRepository.findWithEventByIdIn(ids);
+    }
+
+    /**
+     * False when the attendee row behind this invitation is gone, e.g. the
+     * event or user was deleted while the email was queued.
+     */
+    public boolean isStillInvited(InvitationOutbox row) {
+        return eventAttendeesRepository.existsByInvitationToken(row.getInvitationToken());
+    }
+
+    /**
+     * Outcomes are written only under the claim the row was loaded with (see
+     * {@link #claimDue}); a send that outlived the claim timeout must not
+     * overwrite the attempt that took the row over.
+     */
+    public void markSent(InvitationOutbox row) {
+        checkClaim(row, outboxRepository.markSent(row.getId(), row.getClaimedAt(), LocalDateTime.now()), "SENT");
+    }
+
+    public void markSkipped(InvitationOutbox row) {
+        checkClaim(row, outboxRepository.markAttemptFailed(row.getId(), row.getClaimedAt(),
+                InvitationOutbox.Status.SKIPPED, LocalDateTime.now(), "Invitation no longer exists"), "SKIPPED");
+    }
+
+    /**
+     * Schedules the next attempt with exponential backoff, or marks the row
+     * FAILED once it has used up its attempts.
+     */
+    public void markAttemptFailed(InvitationOutbox row, String error) {
+        String message = error == null ? "Unknown error"
+                : error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+
+        if (row.getAttempts() >= maxAttempts) {
+            checkClaim(row, outboxRepository.markAttemptFailed(row.getId(), row.getClaimedAt(),
+                    InvitationOutbox.Status.FAILED, LocalDateTime.now(), message), "FAILED");
+            log.warn("[InvitationOutboxService] WARN - markAttemptFailed() - Giving up on {} for eventId={} after {} attempts: {}",
+                    row.getEmail(), row.getEvent().getId(), row.getAttempts(), message);
+            return;
+        }
+
+        long delay = retryBackoffMillis << Math.min(row.getAttempts() - 1, 10);
+        checkClaim(row, outboxRepository.markAttemptFailed(row.getId(), row.getClaimedAt(), InvitationOutbox.Status.PENDING,
+                LocalDateTime.now().plusNanos(delay * 1_000_000L), message), "PENDING");
+        log.debug("[InvitationOutboxService] DEBUG - markAttemptFailed() - Retrying {} in {}ms (attempt {}/{})",
+                row.getEmail(), delay, row.getAttempts(), maxAttempts);
+    }
+
+    /**
+     * Returns rows whose claim outlived the timeout (their dispatcher died
+     * mid-send) to PENDING.
+     */
+    public int releaseExpiredClaims() {
+        int released = outboxRepository.releaseExpiredClaims(LocalDateTime.now().minusSeconds(claimTimeoutSeconds));
+        if (released > 0) {
+            log.warn("[InvitationOutboxService] WARN - releaseExpiredClaims() - Released {} stale claims", released);
+        }
+        return released;
+    }
+
+    /**
+     * Returns claimed rows that were not sent to PENDING, due again after
+     * {@code delayMillis}, without using up one of their attempts.
+     */
+    public void releaseClaims(List<InvitationOutbox> rows, long delayMillis) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        List<Long> ids = rows.stream().map(InvitationOutbox::getId).toList();
+        int released = outboxRepository.releaseClaims(ids, LocalDateTime.now().plusNanos(delayMillis * 1_000_000L));
+        log.debug("[InvitationOutboxService] DEBUG - releaseClaims() - Released {} unsent claims, due in {}ms", released, delayMillis);
+    }
+
+    private void checkClaim(InvitationOutbox row, int updated, String outcome) {
+        if (updated == 0) {
+            log.warn("[InvitationOutboxService] WARN - checkClaim() - Lost the claim on outbox row {} ({}) claimed at {}, {} not recorded",
+                    row.getId(), row.getEmail(), row.getClaimedAt(), outcome);
+        }
+    }
+
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        for (InvitationOutbox.Status status : InvitationOutbox.Status.values()) {
+            metrics.put(status.name().toLowerCase(), outboxRepository.countByStatus(status));
+        }
+        return metrics;
+    }
+
+    /**
+     * An invitation whose attendee row already exists under {@code token}.
+     */
+    public static final class Invitation {
+
+        private final Long userId;
+
+        private final String email;
+
+        private final String token;
+
+        public Invitation(Long userId, String email, String token) {
+            this.userId = userId;
+            this.email = email;
+            this.token = token;
+        }
+
+        public Long getUserId() {
+            return userId;
+        }
+
+        public String getEmail() {
+            return email;
+        }
+
+        public String getToken() {
+            return token;
+        }
+    }
+}
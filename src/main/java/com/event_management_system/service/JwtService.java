@@ -1,7 +1,13 @@
 package com.event_management_system.service;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.crypto.SecretKey;
 
@@ -9,9 +15,13 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import com.event_management_system.security.TokenClaims;
+
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 
 
 @Service
@@ -32,6 +42,22 @@ public class JwtService {
     @Value("${app.jwt.refresh-token-expiration}")
     private long refreshTokenExpiration;
 
+    @Value("${app.jwt.verified-cache.max-size:10000}")
+    private int verifiedCacheMaxSize;
+
+    private SecretKey signingKey;
+
+    private JwtParser parser;
+
+    // Keyed by a SHA-256 of the token so raw bearer tokens are not kept as map keys.
+    private final Map<String, TokenClaims> verifiedTokens = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        parser = Jwts.parser().verifyWith(signingKey).build();
+    }
+
     
     public String generateAccessToken(Long userId) {
         return generateToken(userId, accessTokenExpiration);
@@ -83,51 +109,85 @@ public class JwtService {
     }
 
     
-    public boolean validateToken(String token) {
+    /**
+     * Verifies the token once and returns its claims, or null when the token is
+     * invalid or expired. Tokens seen before are served from the verified-token
+     * cache until they expire.
+     */
+    public TokenClaims parseToken(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token); 
-
-            log.debug("Token validated successfully");
-            return true;
+            return verify(token);
         } catch (io.jsonwebtoken.ExpiredJwtException e) {
             log.warn("Token is expired: {}", e.getMessage());
-            return false;
+            return null;
         } catch (io.jsonwebtoken.JwtException e) {
             log.error("Invalid JWT token: {}", e.getMessage());
-            return false;
+            return null;
         } catch (IllegalArgumentException e) {
             log.error("JWT claims string is empty: {}", e.getMessage());
-            return false;
+            return null;
         }
     }
 
+    public boolean validateToken(String token) {
+        return parseToken(token) != null;
+    }
+
    
     public Long getUserIdFromToken(String token) {
-        Claims claims = getTokenClaims(token);
-        String userId = claims.getSubject();
-        return Long.valueOf(userId);
+        return verify(token).getUserId();
     }
 
     
     public String getTokenUuidFromToken(String token) {
-        Claims claims = getTokenClaims(token);
-        return claims.get("tokenUuid", String.class);
+        return verify(token).getTokenUuid();
     }
 
-    
-    private Claims getTokenClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    private TokenClaims verify(String token) {
+        if (token == null || token.isEmpty()) {
+            throw new IllegalArgumentException("Token must not be empty");
+        }
+
+        String key = hash(token);
+        TokenClaims cached = verifiedTokens.get(key);
+        if (cached != null) {
+            if (!cached.isExpired()) {
+                return cached;
+            }
+            verifiedTokens.remove(key, cached);
+        }
+
+        Claims claims = parser.parseSignedClaims(token).getPayload();
+        TokenClaims verified = new TokenClaims(
+                Long.valueOf(claims.getSubject()),
+                claims.get("tokenUuid", String.class),
+                claims.get("role", String.class),
+                claims.get("roleId", Long.class),
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : null);
+
+        if (verified.getExpiresAt() != null) {
+            if (verifiedTokens.size() >= verifiedCacheMaxSize) {
+                verifiedTokens.values().removeIf(TokenClaims::isExpired);
+                if (verifiedTokens.size() >= verifiedCacheMaxSize) {
+                    verifiedTokens.clear();
+                }
+            }
+            verifiedTokens.put(key, verified);
+        }
+        return verified;
+    }
+
+    private String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
 
     
     private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        return signingKey;
     }
 }
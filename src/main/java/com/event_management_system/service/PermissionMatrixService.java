@@ -0,0 +1,217 @@
+package com.event_management_system.service;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Service;
+
+import com.event_management_system.repository.PermissionRepository;
+import com.event_management_system.repository.RolePermissionRepository;
+import com.event_management_system.repository.UserRepository;
+import com.event_management_system.util.TransactionCallbacks;
+
+/**
+ * In-memory permission matrix: every permission gets a dense integer id and
+ * every role a bitset over those ids, so a check is a map lookup plus one word
+ * test. The user -> roleId mapping is cached separately in a bounded, TTL-based
+ * map. Both are rebuilt lazily and invalidated after the transactions that change
+ * them commit.
+ */
+@Service
+public class PermissionMatrixService {
+
+    private static final Long NO_ROLE = -1L;
+
+    @Autowired
+    private ApplicationLoggerService log;
+
+    @Autowired
+    private PermissionRepository permissionRepository;
+
+    @Autowired
+    private RolePermissionRepository rolePermissionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PrincipalCacheService principalCacheService;
+
+    @Value("${app.security.role-cache.ttl-seconds:300}")
+    private long roleCacheTtlSeconds;
+
+    @Value("${app.security.role-cache.max-size:10000}")
+    private int roleCacheMaxSize;
+
+    private final Map<Long, CachedRole> userRoleCache = new ConcurrentHashMap<>();
+
+    private final AtomicLong matrixVersion = new AtomicLong();
+
+    private final AtomicLong userRoleVersion = new AtomicLong();
+
+    private volatile Matrix matrix;
+
+    public boolean hasPermission(@NonNull Long userId, String permissionName) {
+        if (permissionName == null) {
+            return false;
+        }
+        Long roleId = resolveRoleId(userId);
+        if (roleId == null || NO_ROLE.equals(roleId)) {
+            return false;
+        }
+        return currentMatrix().allows(roleId, permissionName);
+    }
+
+    public boolean roleHasPermission(@NonNull Long roleId, String permissionName) {
+        return permissionName != null && currentMatrix().allows(roleId, permissionName);
+    }
+
+    /**
+     * Drops the compiled matrix once the surrounding transaction commits, or
+     * immediately when called outside a transaction.
+     */
+    public void invalidateMatrixAfterCommit() {
+        TransactionCallbacks.runAfterCommit(this::invalidateMatrix);
+    }
+
+    public void evictUserAfterCommit(@NonNull Long userId) {
+        TransactionCallbacks.runAfterCommit(() -> evictUser(userId));
+    }
+
+    public void invalidateMatrix() {
+        matrixVersion.incrementAndGet();
+        matrix = null;
+        // Cached principals carry authorities compiled from the same role/permission rows.
+        principalCacheService.invalidateAll();
+        log.debug("[PermissionMatrixService] DEBUG - invalidateMatrix() - Permission matrix invalidated");
+    }
+
+    public void evictUser(@NonNull Long userId) {
+        userRoleVersion.incrementAndGet();
+        userRoleCache.remove(userId);
+        principalCacheService.evict(userId);
+        log.debug("[PermissionMatrixService] DEBUG - evictUser() - Cached role evicted for userId={}", userId);
+    }
+
+    private Long resolveRoleId(Long userId) {
+        CachedRole cached = userRoleCache.get(userId);
+        long now = System.currentTimeMillis();
+        if (cached != null) {
+            if (cached.expiresAt > now) {
+                return cached.roleId;
+            }
+            userRoleCache.remove(userId, cached);
+        }
+
+        long version = userRoleVersion.get();
+        List<Long> rows = userRepository.findRoleIdByUserId(userId);
+        if (rows.isEmpty()) {
+            return null;
+        }
+        Long roleId = rows.get(0) != null ? rows.get(0) : NO_ROLE;
+        if (version == userRoleVersion.get()) {
+            makeRoom(now);
+            userRoleCache.put(userId, new CachedRole(roleId, now + roleCacheTtlSeconds * 1000));
+        }
+        return roleId;
+    }
+
+    private void makeRoom(long now) {
+        if (userRoleCache.size() < roleCacheMaxSize) {
+            return;
+        }
+        userRoleCache.values().removeIf(entry -> entry.expiresAt <= now);
+        if (userRoleCache.size() < roleCacheMaxSize) {
+            return;
+        }
+
+        // Same policy as PrincipalCacheService: drop an arbitrary tenth of the live entries.
+        Iterator<Long> keys = userRoleCache.keySet().iterator();
+        int toDrop = userRoleCache.size() - roleCacheMaxSize + Math.max(1, roleCacheMaxSize / 10);
+        while (toDrop-- > 0 && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    private Matrix currentMatrix() {
+        Matrix current = matrix;
+        if (current != null) {
+            return current;
+        }
+
+        synchronized (this) {
+            if (matrix != null) {
+                return matrix;
+            }
+            long version = matrixVersion.get();
+            Matrix built = buildMatrix();
+            if (version == matrixVersion.get()) {
+                matrix = built;
+            }
+            return built;
+        }
+    }
+
+    private Matrix buildMatrix() {
+        Map<Long, Integer> denseIdByPermissionId = new HashMap<>();
+        Map<String, Integer> denseIdByName = new HashMap<>();
+        for (Object[] row : permissionRepository.findAllIdAndName()) {
+            int denseId = denseIdByPermissionId.size();
+            denseIdByPermissionId.put((Long) row[0], denseId);
+            denseIdByName.put((String) row[1], denseId);
+        }
+
+        int words = Math.max(1, (denseIdByPermissionId.size() + 63) >>> 6);
+        Map<Long, long[]> bitsByRoleId = new HashMap<>();
+        for (Object[] row : rolePermissionRepository.findAllRolePermissionIds()) {
+            Integer denseId = denseIdByPermissionId.get((Long) row[1]);
+            if (denseId == null) {
+                continue;
+            }
+            long[] bits = bitsByRoleId.computeIfAbsent((Long) row[0], id -> new long[words]);
+            bits[denseId >>> 6] |= 1L << denseId;
+        }
+
+        log.debug("[PermissionMatrixService] DEBUG - buildMatrix() - Compiled {} permissions across {} roles",
+                denseIdByName.size(), bitsByRoleId.size());
+        return new Matrix(denseIdByName, bitsByRoleId);
+    }
+
+    private static final class CachedRole {
+
+        private final Long roleId;
+
+        private final long expiresAt;
+
+        private CachedRole(Long roleId, long expiresAt) {
+            this.roleId = roleId;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private static final class Matrix {
+
+        private final Map<String, Integer> denseIdByName;
+
+        private final Map<Long, long[]> bitsByRoleId;
+
+        private Matrix(Map<String, Integer> denseIdByName, Map<Long, long[]> bitsByRoleId) {
+            this.denseIdByName = denseIdByName;
+            this.bitsByRoleId = bitsByRoleId;
+        }
+
+        private boolean allows(Long roleId, String permissionName) {
+            Integer denseId = denseIdByName.get(permissionName);
+            long[] bits = bitsByRoleId.get(roleId);
+            return denseId != null && bits != null && (bits[denseId >>> 6] & (1L << denseId)) != 0;
+        }
+    }
+}
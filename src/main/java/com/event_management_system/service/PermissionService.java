@@ -29,6 +29,9 @@ public class PermissionService {
     @Autowired
     private PermissionMapper permissionMapper;
 
+    @Autowired
+    private PermissionMatrixService permissionMatrixService;
+
     @Transactional
     public PermissionResponseDTO createPermission(PermissionRequestDTO permissionRequestDTO) {
         log.trace("[PermissionService] TRACE - createPermission() called with name=" + permissionRequestDTO.getName());
@@ -37,6 +40,7 @@ public class PermissionService {
         Permission permission = permissionMapper.toEntity(permissionRequestDTO);
         permission.recordCreation("system");
         Permission savedPermission = permissionRepository.save(permission);
+        permissionMatrixService.invalidateMatrixAfterCommit();
         
         log.info("[PermissionService] INFO - Permission created successfully: permissionId=" + savedPermission.getId() + ", name=" + savedPermission.getName());
         
@@ -59,6 +63,7 @@ public class PermissionService {
             permissionMapper.updateEntity(permissionRequestDTO, existingPermission);
             existingPermission.recordUpdate("system");
             Permission updatedPermission = permissionRepository.save(existingPermission);
+            permissionMatrixService.invalidateMatrixAfterCommit();
             
             log.info("[PermissionService] INFO - Permission updated successfully: permissionId=" + updatedPermission.getId() + ", name=" + updatedPermission.getName());
             
@@ -75,6 +80,7 @@ public class PermissionService {
             String permissionName = permission.getName();
             permission.markDeleted();
             permissionRepository.save(permission);
+            permissionMatrixService.invalidateMatrixAfterCommit();
             
             log.info("[PermissionService] INFO - Permission deleted successfully: permissionId=" + id + ", name=" + permissionName);
             
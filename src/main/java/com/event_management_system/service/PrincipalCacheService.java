@@ -0,0 +1,107 @@
+package com.event_management_system.service;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Service;
+
+import com.event_management_system.util.TransactionCallbacks;
+
+/**
+ * Bounded, TTL-based cache of fully built {@link UserDetails} (authorities
+ * included) keyed by userId, so an authenticated request for a warm user needs
+ * no SQL. Entries are evicted when the user's role, password, email or existence
+ * changes, and dropped wholesale when role permissions change.
+ */
+@Service
+public class PrincipalCacheService {
+
+    @Autowired
+    private ApplicationLoggerService log;
+
+    @Value("${app.security.principal-cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    @Value("${app.security.principal-cache.max-size:10000}")
+    private int maxSize;
+
+    private final Map<Long, CachedPrincipal> principals = new ConcurrentHashMap<>();
+
+    private final AtomicLong version = new AtomicLong();
+
+    public UserDetails get(@NonNull Long userId, Function<Long, UserDetails> loader) {
+        CachedPrincipal cached = principals.get(userId);
+        long now = System.currentTimeMillis();
+        if (cached != null) {
+            if (cached.expiresAt > now) {
+                return cached.userDetails;
+            }
+            principals.remove(userId, cached);
+        }
+
+        long loadVersion = version.get();
+        UserDetails userDetails = loader.apply(userId);
+        if (loadVersion == version.get()) {
+            makeRoom(now);
+            principals.put(userId, new CachedPrincipal(userDetails, now + ttlSeconds * 1000));
+        }
+        return userDetails;
+    }
+
+    public void evict(@NonNull Long userId) {
+        version.incrementAndGet();
+        principals.remove(userId);
+        log.debug("[PrincipalCacheService] DEBUG - evict() - Principal evicted for userId={}", userId);
+    }
+
+    public void evictAfterCommit(@NonNull Long userId) {
+        TransactionCallbacks.runAfterCommit(() -> evict(userId));
+    }
+
+    public void invalidateAll() {
+        version.incrementAndGet();
+        principals.clear();
+        log.debug("[PrincipalCacheService] DEBUG - invalidateAll() - All cached principals dropped");
+    }
+
+    public int size() {
+        return principals.size();
+    }
+
+    private void makeRoom(long now) {
+        if (principals.size() < maxSize) {
+            return;
+        }
+        principals.values().removeIf(entry -> entry.expiresAt <= now);
+        if (principals.size() < maxSize) {
+            return;
+        }
+
+        // Still full of live entries: drop an arbitrary tenth rather than scanning for the oldest.
+        Iterator<Long> keys = principals.keySet().iterator();
+        int toDrop = principals.size() - maxSize + Math.max(1, maxSize / 10);
+        while (toDrop-- > 0 && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    private static final class CachedPrincipal {
+
+        private final UserDetails userDetails;
+
+        private final long expiresAt;
+
+        private CachedPrincipal(UserDetails userDetails, long expiresAt) {
+            this.userDetails = userDetails;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,349 @@
+package com.event_management_system.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.event_management_system.dto.EventResponseDTO;
+import com.event_management_system.entity.Event;
+import com.event_management_system.mapper.EventMapper;
+import com.event_management_system.notification.InvitationRespondedEvent;
+import com.event_management_system.repository.EventRepository;
+import com.event_management_system.util.TransactionCallbacks;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Serialized snapshot of {@code GET /api/events/public}: the public UPCOMING
+ * events as JSON bytes plus an ETag, so a hit costs no SQL and no Jackson work.
+ * <p>
+ * Each event is kept with its own JSON. A committed change to one event
+ * reloads only that event and re-joins the list. The whole list is reloaded
+ * after {@code app.events.public-cache.max-age-seconds} (changes made by other
+ * instances or outside EventService) and when an event reaches its start or
+ * end time, because the serialized eventStatus is derived from the clock.
+ * <p>
+ * A stale snapshot keeps being served while one background reload runs; only
+ * the first read after startup (or after a failed reload) waits for the query.
+ */
+@Service
+public class PublicEventCacheService {
+
+    @Autowired
+    private ApplicationLoggerService log;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EventMapper eventMapper;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    @Qualifier("taskExecutor")
+    private Executor taskExecutor;
+
+    @Value("${app.events.public-cache.max-age-seconds:300}")
+    private long maxAgeSeconds;
+
+    /** Guards swapping in a new state; readers wait on it only while there is none. */
+    private final Object refreshLock = new Object();
+
+    private final AtomicBoolean reloading = new AtomicBoolean();
+
+    private volatile State state;
+
+    private TransactionTemplate readTransaction;
+
+    /**
+     * The serialized list and its strong ETag (quoted, as sent on the wire).
+     */
+    public record Snapshot(byte[] json, String etag) {
+
+        /**
+         * True when an If-None-Match header value names this snapshot.
+         */
+        public boolean matches(String ifNoneMatch) {
+            if (ifNoneMatch == null) {
+                return false;
+            }
+            for (String tag : ifNoneMatch.split(",")) {
+                String candidate = tag.trim();
+                if (candidate.startsWith("W/")) {
+                    candidate = candidate.substring(2);
+                }
+                if (candidate.equals("*") || candidate.equals(etag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    @PostConstruct
+    public void init() {
+        readTransaction = new TransactionTemplate(transactionManager);
+        readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        readTransaction.setReadOnly(true);
+    }
+
+    public Snapshot get() {
+        State current = state;
+        if (current == null) {
+            return reload().snapshot;
+        }
+        if (current.isStale(LocalDateTime.now())) {
+            reloadInBackground();
+        }
+        return current.snapshot;
+    }
+
+    /**
+     * Re-reads the event once the caller's transaction commits, adding it to,
+     * updating it in or removing it from the snapshot.
+     */
+    public void refreshAfterCommit(@NonNull Long eventId) {
+        TransactionCallbacks.runAfterCommit(() -> refresh(eventId));
+    }
+
+    /**
+     * An accepted invitation changes the event's attendee count.
+     */
+    @Async("taskExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onInvitationResponded(InvitationRespondedEvent response) {
+        if (response.isAccepted()) {
+            refresh(response.getEventId());
+        }
+    }
+
+    /**
+     * Re-reads one event and swaps in a state with it added, replaced or
+     * removed. Events that are neither listed nor in the snapshot (private
+     * ones, for instance) are dismissed without taking the lock. Otherwise the
+     * event is read again under the lock, so of two racing refreshes (or a
+     * refresh and a reload) the last to apply also read last.
+     */
+    public void refresh(@NonNull Long eventId) {
+        State unlocked = state;
+        if (unlocked == null) {
+            return;
+        }
+        try {
+            if (!unlocked.entries.containsKey(eventId) && !Boolean.TRUE.equals(readTransaction.execute(
+                    status -> eventRepository.findById(eventId).filter(PublicEventCacheService::isListed).isPresent()))) {
+                return;
+            }
+            synchronized (refreshLock) {
+                State current = state;
+                if (current == null) {
+                    return;
+                }
+                Entry entry = readEntry(eventId);
+                if (entry == null && !current.entries.containsKey(eventId)) {
+                    return;
+                }
+                TreeMap<Long, Entry> entries = new TreeMap<>(current.entries);
+                if (entry == null) {
+                    entries.remove(eventId);
+                } else {
+                    entries.put(eventId, entry);
+                }
+                state = new State(entries, current.loadedAt);
+                log.debug("[PublicEventCacheService] DEBUG - refresh() - Public events refreshed for eventId={}, size={}",
+                        eventId, entries.size());
+            }
+        } catch (RuntimeException e) {
+            expire();
+            log.warn("[PublicEventCacheService] WARN - refresh() - Could not refresh eventId={}, reloading on next read: {}",
+                    eventId, e.getMessage());
+        }
+    }
+
+    /**
+     * The event's list entry, or null when it is not listed.
+     */
+    private Entry readEntry(Long eventId) {
+        return readTransaction.execute(status -> eventRepository.findById(eventId)
+                .filter(PublicEventCacheService::isListed)
+                .map(event -> toEntry(event, eventMapper.toDto(event)))
+                .orElse(null));
+    }
+
+    /**
+     * Starts a reload unless one is already running; callers keep serving the
+     * snapshot they have.
+     */
+    private void reloadInBackground() {
+        if (!reloading.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            taskExecutor.execute(() -> {
+                try {
+                    reload();
+                } catch (RuntimeException e) {
+                    log.warn("[PublicEventCacheService] WARN - reloadInBackground() - Could not reload public events, serving the stale list: {}",
+                            e.getMessage());
+                } finally {
+                    reloading.set(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            reloading.set(false);
+            log.warn("[PublicEventCacheService] WARN - reloadInBackground() - Could not schedule reload: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Marks the current snapshot stale so the next read starts a reload.
+     */
+    private void expire() {
+        synchronized (refreshLock) {
+            State current = state;
+            if (current != null) {
+                state = current.expired();
+            }
+        }
+    }
+
+    private State reload() {
+        synchronized (refreshLock) {
+            State current = state;
+            LocalDateTime now = LocalDateTime.now();
+            if (current != null && !current.isStale(now)) {
+                return current;
+            }
+            TreeMap<Long, Entry> entries = readTransaction.execute(status -> {
+                List<Event> events = eventRepository.findByVisibilityAndEventStatusAndDeletedFalse(
+                        Event.Visibility.PUBLIC, Event.EventStatus.UPCOMING);
+                List<EventResponseDTO> dtos = eventMapper.toDtoList(events);
+                TreeMap<Long, Entry> loaded = new TreeMap<>();
+                for (int i = 0; i < events.size(); i++) {
+                    loaded.put(events.get(i).getId(), toEntry(events.get(i), dtos.get(i)));
+                }
+                return loaded;
+            });
+            State loaded = new State(entries, now);
+            state = loaded;
+            log.debug("[PublicEventCacheService] DEBUG - reload() - Public events loaded: size={}", entries.size());
+            return loaded;
+        }
+    }
+
+    private static boolean isListed(Event event) {
+        return event.getVisibility() == Event.Visibility.PUBLIC
+                && event.getEventStatus() == Event.EventStatus.UPCOMING
+                && !event.isDeleted();
+    }
+
+    private Entry toEntry(Event event, EventResponseDTO dto) {
+        try {
+            return new Entry(objectMapper.writeValueAsBytes(dto), nextStatusChange(event, LocalDateTime.now()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not serialize eventId=" + event.getId(), e);
+        }
+    }
+
+    /**
+     * When {@link Event#getCurrentEventStatus()} next changes, or null once the
+     * event is over.
+     */
+    private static LocalDateTime nextStatusChange(Event event, LocalDateTime now) {
+        if (event.getStartTime() != null && now.isBefore(event.getStartTime())) {
+            return event.getStartTime();
+        }
+        if (event.getEndTime() != null && !now.isAfter(event.getEndTime())) {
+            return event.getEndTime();
+        }
+        return null;
+    }
+
+    private record Entry(byte[] json, LocalDateTime validUntil) {
+    }
+
+    private final class State {
+
+        private final SortedMap<Long, Entry> entries;
+
+        private final LocalDateTime loadedAt;
+
+        private final LocalDateTime validUntil;
+
+        private final Snapshot snapshot;
+
+        private State(SortedMap<Long, Entry> entries, LocalDateTime loadedAt) {
+            this.entries = entries;
+            this.loadedAt = loadedAt;
+            LocalDateTime until = loadedAt.plusSeconds(maxAgeSeconds);
+            ByteArrayOutputStream json = new ByteArrayOutputStream();
+            json.write('[');
+            boolean first = true;
+            for (Entry entry : entries.values()) {
+                if (!first) {
+                    json.write(',');
+                }
+                json.writeBytes(entry.json());
+                first = false;
+                if (entry.validUntil() != null && entry.validUntil().isBefore(until)) {
+                    until = entry.validUntil();
+                }
+            }
+            json.write(']');
+            this.validUntil = until;
+            byte[] bytes = json.toByteArray();
+            this.snapshot = new Snapshot(bytes, etagOf(bytes));
+        }
+
+        private State(State other, LocalDateTime validUntil) {
+            this.entries = other.entries;
+            this.loadedAt = other.loadedAt;
+            this.validUntil = validUntil;
+            this.snapshot = other.snapshot;
+        }
+
+        private State expired() {
+            return new State(this, loadedAt);
+        }
+
+        private boolean isStale(LocalDateTime now) {
+            return !now.isBefore(validUntil);
+        }
+    }
+
+    private static String etagOf(byte[] json) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
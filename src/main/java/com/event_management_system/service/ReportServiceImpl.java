@@ -1,18 +1,13 @@
 package com.event_management_system.service;
 
-import java.io.ByteArrayInputStream;
-import java.io.InputStream;
-import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
-import com.event_management_system.util.JrxmlTemplateGenerator;
-
 import net.sf.jasperreports.engine.JRException;
-import net.sf.jasperreports.engine.JasperCompileManager;
 import net.sf.jasperreports.engine.JasperExportManager;
 import net.sf.jasperreports.engine.JasperFillManager;
 import net.sf.jasperreports.engine.JasperPrint;
@@ -21,21 +16,16 @@ import net.sf.jasperreports.engine.data.JRBeanCollectionDataSource;
 
 @Service
 public class ReportServiceImpl implements ReportService {
+
+    @Autowired
+    private ReportTemplateRegistry templateRegistry;
+
     @Override
     public byte[] generateEventsPdf(List<?> events, Map<String, Object> parameters) throws JRException {
         if (events == null || events.isEmpty()) {
             throw new IllegalArgumentException("Events list is empty");
         }
-        Class<?> dtoClass = events.get(0).getClass();
-        String[] selectedFields = {"title", "startTime", "endTime", "location", "attendees", "visibility", "eventStatus"};
-        String[] fieldLabels = {"Event Name", "Start Date", "End Date", "Location", "Attendees", "Visibility", "Status"};
-        String jrxml = JrxmlTemplateGenerator.generateJrxmlForFields(dtoClass, selectedFields, fieldLabels, "Events Report");
-        InputStream jrxmlStream = new ByteArrayInputStream(jrxml.getBytes(StandardCharsets.UTF_8));
-        JasperReport jasperReport = JasperCompileManager.compileReport(jrxmlStream);
-        JRBeanCollectionDataSource dataSource = new JRBeanCollectionDataSource(events);
-        if (parameters == null) parameters = new HashMap<>();
-        JasperPrint jasperPrint = JasperFillManager.fillReport(jasperReport, parameters, dataSource);
-        return JasperExportManager.exportReportToPdf(jasperPrint);
+        return fillPdf(events, ReportTemplateRegistry.EVENTS, parameters);
     }
 
     @Override
@@ -43,16 +33,7 @@ public class ReportServiceImpl implements ReportService {
         if (users == null || users.isEmpty()) {
             throw new IllegalArgumentException("Users list is empty");
         }
-        Class<?> dtoClass = users.get(0).getClass();
-        String[] selectedFields = {"fullName", "email", "role"};
-        String[] fieldLabels = {"Name", "Email", "User Role"};
-        String jrxml = JrxmlTemplateGenerator.generateJrxmlForFields(dtoClass, selectedFields, fieldLabels, "Users List");
-        InputStream jrxmlStream = new ByteArrayInputStream(jrxml.getBytes(StandardCharsets.UTF_8));
-        JasperReport jasperReport = JasperCompileManager.compileReport(jrxmlStream);
-        JRBeanCollectionDataSource dataSource = new JRBeanCollectionDataSource(users);
-        if (parameters == null) parameters = new HashMap<>();
-        JasperPrint jasperPrint = JasperFillManager.fillReport(jasperReport, parameters, dataSource);
-        return JasperExportManager.exportReportToPdf(jasperPrint);
+        return fillPdf(users, ReportTemplateRegistry.USERS, parameters);
     }
 
     @Override
@@ -60,15 +41,15 @@ public class ReportServiceImpl implements ReportService {
         if (activities == null || activities.isEmpty()) {
             throw new IllegalArgumentException("Activity list is empty");
         }
-        Class<?> dtoClass = activities.get(0).getClass();
-        String[] selectedFields = {"activityTypeName", "username", "userGroup", "description", "activityDate", "ip"};
-        String[] fieldLabels = {"Activity Type", "Username", "Role", "Description", "Activity Date", "IP"};
-        String jrxml = JrxmlTemplateGenerator.generateJrxmlForFields(dtoClass, selectedFields, fieldLabels, "Activity History");
-        InputStream jrxmlStream = new ByteArrayInputStream(jrxml.getBytes(StandardCharsets.UTF_8));
-        JasperReport jasperReport = JasperCompileManager.compileReport(jrxmlStream);
-        JRBeanCollectionDataSource dataSource = new JRBeanCollectionDataSource(activities);
-        if (parameters == null) parameters = new HashMap<>();
-        JasperPrint jasperPrint = JasperFillManager.fillReport(jasperReport, parameters, dataSource);
+        return fillPdf(activities, ReportTemplateRegistry.ACTIVITY, parameters);
+    }
+
+    private byte[] fillPdf(List<?> rows, ReportTemplateRegistry.Layout layout, Map<String, Object> parameters) throws JRException {
+        JasperReport jasperReport = templateRegistry.get(rows.get(0).getClass(), layout);
+        JRBeanCollectionDataSource dataSource = new JRBeanCollectionDataSource(rows);
+        // Jasper adds its own entries to the parameter map during a fill, so never hand it a shared one.
+        Map<String, Object> fillParameters = parameters == null ? new HashMap<>() : new HashMap<>(parameters);
+        JasperPrint jasperPrint = JasperFillManager.fillReport(jasperReport, fillParameters, dataSource);
         return JasperExportManager.exportReportToPdf(jasperPrint);
     }
 }
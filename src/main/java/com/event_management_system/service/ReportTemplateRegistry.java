@@ -0,0 +1,192 @@
+package com.event_management_system.service;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.event_management_system.dto.EventResponseDTO;
+import com.event_management_system.dto.UserActivityHistoryResponseDTO;
+import com.event_management_system.dto.UserLoginLogoutHistoryResponseDTO;
+import com.event_management_system.dto.UserPasswordHistoryResponseDTO;
+import com.event_management_system.dto.UserResponseDTO;
+import com.event_management_system.util.JrxmlTemplateGenerator;
+
+import net.sf.jasperreports.engine.JRException;
+import net.sf.jasperreports.engine.JasperCompileManager;
+import net.sf.jasperreports.engine.JasperReport;
+
+/**
+ * Compiled Jasper templates keyed by (DTO class, fields, labels, title). A
+ * layout is generated and compiled once; every later export reuses the same
+ * {@link JasperReport}, which is safe to fill concurrently.
+ */
+@Service
+public class ReportTemplateRegistry {
+
+    public static final Layout EVENTS = new Layout("Events Report",
+            new String[]{"title", "startTime", "endTime", "location", "attendees", "visibility", "eventStatus"},
+            new String[]{"Event Name", "Start Date", "End Date", "Location", "Attendees", "Visibility", "Status"});
+
+    public static final Layout USERS = new Layout("Users List",
+            new String[]{"fullName", "email", "role"},
+            new String[]{"Name", "Email", "User Role"});
+
+    public static final Layout ACTIVITY = new Layout("Activity History",
+            new String[]{"activityTypeName", "username", "userGroup", "description", "activityDate", "ip"},
+            new String[]{"Activity Type", "Username", "Role", "Description", "Activity Date", "IP"});
+
+    public static final Layout LOGIN_HISTORY = new Layout("Login/Logout History",
+            new String[]{"userFullName", "userEmail", "loginTime", "logoutTime", "requestIp", "loginStatus"},
+            new String[]{"Name", "Email", "Login Time", "Logout Time", "IP", "Status"});
+
+    public static final Layout PASSWORD_HISTORY = new Layout("Password History",
+            new String[]{"userFullName", "userEmail", "passwordChangedByName", "changeDate"},
+            new String[]{"Name", "Email", "Changed By", "Change Date"});
+
+    @Autowired
+    private ApplicationLoggerService log;
+
+    private final Map<TemplateKey, JasperReport> compiled = new ConcurrentHashMap<>();
+
+    public JasperReport get(Class<?> dtoClass, Layout layout) throws JRException {
+        TemplateKey key = new TemplateKey(dtoClass, layout);
+        JasperReport report = compiled.get(key);
+        if (report != null) {
+            return report;
+        }
+        try {
+            return compiled.computeIfAbsent(key, this::compile);
+        } catch (TemplateCompilationException e) {
+            throw e.getCause();
+        }
+    }
+
+    public int size() {
+        return compiled.size();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        warm(EventResponseDTO.class, EVENTS);
+        warm(UserResponseDTO.class, USERS);
+        warm(UserActivityHistoryResponseDTO.class, ACTIVITY);
+        warm(UserLoginLogoutHistoryResponseDTO.class, LOGIN_HISTORY);
+        warm(UserPasswordHistoryResponseDTO.class, PASSWORD_HISTORY);
+        log.info("[ReportTemplateRegistry] INFO - warmUp() - {} report templates compiled", compiled.size());
+    }
+
+    private void warm(Class<?> dtoClass, Layout layout) {
+        try {
+            get(dtoClass, layout);
+        } catch (JRException e) {
+            // Left for the first export to retry and report.
+            log.warn("[ReportTemplateRegistry] WARN - warmUp() - Could not compile '{}' for {}: {}",
+                    layout.getTitle(), dtoClass.getSimpleName(), e.getMessage());
+        }
+    }
+
+    private JasperReport compile(TemplateKey key) {
+        long start = System.currentTimeMillis();
+        String jrxml = JrxmlTemplateGenerator.generateJrxmlForFields(
+                key.dtoClass, key.layout.fields, key.layout.labels, key.layout.title);
+        try {
+            JasperReport report = JasperCompileManager.compileReport(
+                    new ByteArrayInputStream(jrxml.getBytes(StandardCharsets.UTF_8)));
+            log.debug("[ReportTemplateRegistry] DEBUG - compile() - Compiled '{}' for {} in {}ms",
+                    key.layout.title, key.dtoClass.getSimpleName(), System.currentTimeMillis() - start);
+            return report;
+        } catch (JRException e) {
+            throw new TemplateCompilationException(e);
+        }
+    }
+
+    /**
+     * Column selection and title of a generated report.
+     */
+    public static final class Layout {
+
+        private final String title;
+
+        private final String[] fields;
+
+        private final String[] labels;
+
+        public Layout(String title, String[] fields, String[] labels) {
+            if (fields.length != labels.length) {
+                throw new IllegalArgumentException("Each report field needs a label");
+            }
+            this.title = title;
+            this.fields = fields.clone();
+            this.labels = labels.clone();
+        }
+
+        public String getTitle() {
+            return title;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Layout)) {
+                return false;
+            }
+            Layout other = (Layout) o;
+            return title.equals(other.title)
+                    && Arrays.equals(fields, other.fields)
+                    && Arrays.equals(labels, other.labels);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * title.hashCode() + Arrays.hashCode(fields)) + Arrays.hashCode(labels);
+        }
+    }
+
+    private static final class TemplateKey {
+
+        private final Class<?> dtoClass;
+
+        private final Layout layout;
+
+        private TemplateKey(Class<?> dtoClass, Layout layout) {
+            this.dtoClass = dtoClass;
+            this.layout = layout;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof TemplateKey)) {
+                return false;
+            }
+            TemplateKey other = (TemplateKey) o;
+            return dtoClass.equals(other.dtoClass) && layout.equals(other.layout);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(dtoClass, layout);
+        }
+    }
+
+    private static final class TemplateCompilationException extends RuntimeException {
+
+        private TemplateCompilationException(JRException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized JRException getCause() {
+            return (JRException) super.getCause();
+        }
+    }
+}
@@ -41,6 +41,9 @@ public class RoleService {
     @Autowired
     private RoleMapper roleMapper;
 
+    @Autowired
+    private PermissionMatrixService permissionMatrixService;
+
     @Transactional
     public RoleResponseDTO createRole(RoleRequestDTO roleRequestDTO) {
         log.trace("[RoleService] TRACE - createRole() called with name=" + roleRequestDTO.getName());
@@ -63,6 +66,7 @@ public class RoleService {
             }
         }
         
+        permissionMatrixService.invalidateMatrixAfterCommit();
         log.info("[RoleService] INFO - Role created successfully: roleId=" + savedRole.getId() + ", name=" + savedRole.getName());
         
         return roleMapper.toDto(savedRole);
@@ -131,6 +135,7 @@ public class RoleService {
             }
             
             Role updatedRole = roleRepository.save(existingRole);
+            permissionMatrixService.invalidateMatrixAfterCommit();
             
             log.info("[RoleService] INFO - Role updated successfully: roleId=" + updatedRole.getId() + ", name=" + updatedRole.getName());
             
@@ -147,6 +152,7 @@ public class RoleService {
             String roleName = role.getName();
             role.markDeleted();
             roleRepository.save(role);
+            permissionMatrixService.invalidateMatrixAfterCommit();
             
             log.info("[RoleService] INFO - Role deleted successfully: roleId=" + id + ", name=" + roleName);
             
@@ -166,6 +172,7 @@ public class RoleService {
             if (!rolePermissionRepository.existsByRoleAndPermission(role, permission)) {
                 RolePermission rolePermission = new RolePermission(role, permission);
                 rolePermissionRepository.save(rolePermission);
+                permissionMatrixService.invalidateMatrixAfterCommit();
                 return true;
             }
         }
@@ -191,6 +198,7 @@ public class RoleService {
             if (toRemove != null) {
                 role.getRolePermissions().remove(toRemove);
                 rolePermissionRepository.deleteById(id);
+                permissionMatrixService.invalidateMatrixAfterCommit();
                 log.info("[RoleService] INFO - RolePermission deleted for roleId={}, permissionId={}", roleId, permissionId);
                 return true;
             } else {
@@ -0,0 +1,78 @@
+package com.event_management_system.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import com.event_management_system.audit.AuditSink;
+import com.event_management_system.util.BulkheadTaskExecutor;
+
+/**
+ * Point-in-time snapshot of the in-process pools and caches: every executor,
+ * the token cache, the SMTP connection pool, the invitation outbox and the
+ * audit sink.
+ */
+@Service
+public class SystemMetricsService {
+
+    @Autowired
+    private Map<String, TaskExecutor> executors;
+
+    @Autowired
+    private TokenCacheService tokenCacheService;
+
+    @Autowired
+    private EmailService emailService;
+
+    @Autowired
+    private InvitationOutboxService invitationOutboxService;
+
+    @Autowired
+    private AuditSink auditSink;
+
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("executors", getExecutorMetrics());
+        metrics.put("tokenCache", tokenCacheService.getMetrics());
+        metrics.put("mail", emailService.getTransportMetrics());
+        metrics.put("invitationOutbox", invitationOutboxService.getMetrics());
+        metrics.put("audit", auditSink.getMetrics());
+        return metrics;
+    }
+
+    public Map<String, Object> getExecutorMetrics() {
+        Map<String, Object> metrics = new TreeMap<>();
+        executors.forEach((name, executor) -> {
+            if (executor instanceof BulkheadTaskExecutor bulkhead) {
+                metrics.put(name, bulkhead.getMetrics());
+                return;
+            }
+            if (executor instanceof SimpleAsyncTaskExecutor perTask) {
+                Map<String, Object> unpooled = new LinkedHashMap<>();
+                unpooled.put("concurrencyLimit", perTask.getConcurrencyLimit());
+                unpooled.put("throttled", perTask.isThrottleActive());
+                metrics.put(name, unpooled);
+                return;
+            }
+            if (!(executor instanceof ThreadPoolTaskExecutor threadPool)) {
+                return;
+            }
+            ThreadPoolExecutor pool = threadPool.getThreadPoolExecutor();
+            Map<String, Object> pooled = new LinkedHashMap<>();
+            pooled.put("poolSize", pool.getPoolSize());
+            pooled.put("active", pool.getActiveCount());
+            pooled.put("queueDepth", pool.getQueue().size());
+            pooled.put("queueRemaining", pool.getQueue().remainingCapacity());
+            pooled.put("completed", pool.getCompletedTaskCount());
+            metrics.put(name, pooled);
+        });
+        return metrics;
+    }
+}
@@ -1,103 +1,169 @@
 package com.event_management_system.service;
 
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import com.event_management_system.security.tokenstore.InMemoryTokenStore;
+import com.event_management_system.security.tokenstore.TokenStore;
 
+import jakarta.annotation.PostConstruct;
+
+
+/**
+ * Token UUID -> userId lookups on top of the configured {@link TokenStore}.
+ * Shared stores get a short-lived in-memory near-cache so the filter's lookup
+ * stays in memory; a token logged out on another instance is therefore still
+ * accepted here for at most the near-cache TTL.
+ */
 @Service
 public class TokenCacheService {
 
     @Autowired
     private ApplicationLoggerService log;
 
-    
-    private final ConcurrentHashMap<String, CacheEntry> tokenCache = new ConcurrentHashMap<>();
+    @Autowired
+    private TokenStore tokenStore;
+
+    private InMemoryTokenStore nearCache;
+
+    private final AtomicLong hits = new AtomicLong();
+
+    private final AtomicLong nearCacheHits = new AtomicLong();
+
+    private final AtomicLong misses = new AtomicLong();
+
 
-   
     @Value("${app.jwt.access-token-expiration}")
     private long accessTokenExpiration;
 
- 
-     
+
+
     @Value("${app.jwt.refresh-token-expiration}")
     private long refreshTokenExpiration;
 
-    
+    @Value("${app.token-store.near-cache.ttl-millis:5000}")
+    private long nearCacheTtl;
+
+    @Value("${app.token-store.near-cache.max-size:10000}")
+    private int nearCacheMaxSize;
+
+    @PostConstruct
+    void init() {
+        if (tokenStore.isShared()) {
+            nearCache = new InMemoryTokenStore(nearCacheMaxSize, Math.max(1000L, nearCacheTtl));
+        }
+        log.info("Token store: {}{}", tokenStore.getClass().getSimpleName(), nearCache != null ? " with near-cache" : "");
+    }
+
+
     public void cacheAccessToken(String tokenUuid, Long userId) {
-        long expirationTime = System.currentTimeMillis() + accessTokenExpiration;
-        CacheEntry entry = new CacheEntry(userId, expirationTime);
-        tokenCache.put(tokenUuid, entry);
-        log.debug("Cached access token UUID: {} for user: {} (expires in {}ms)", 
+        put(tokenUuid, userId, System.currentTimeMillis() + accessTokenExpiration);
+        log.debug("Cached access token UUID: {} for user: {} (expires in {}ms)",
                   tokenUuid, userId, accessTokenExpiration);
     }
 
-    
+
     public void cacheRefreshToken(String tokenUuid, Long userId) {
-        long expirationTime = System.currentTimeMillis() + refreshTokenExpiration;
-        CacheEntry entry = new CacheEntry(userId, expirationTime);
-        tokenCache.put(tokenUuid, entry);
-        log.debug("Cached refresh token UUID: {} for user: {} (expires in {}ms)", 
+        put(tokenUuid, userId, System.currentTimeMillis() + refreshTokenExpiration);
+        log.debug("Cached refresh token UUID: {} for user: {} (expires in {}ms)",
                   tokenUuid, userId, refreshTokenExpiration);
     }
 
-    
-    public Long getUserIdFromCache(String tokenUuid) {
-        CacheEntry entry = tokenCache.get(tokenUuid);
 
-        if (entry == null) {
-            log.warn("Token UUID not found in cache: {} (user logged out or cache cleared)", tokenUuid);
-            return null;
+    public Long getUserIdFromCache(String tokenUuid) {
+        if (nearCache != null) {
+            Long userId = nearCache.get(tokenUuid);
+            if (userId != null) {
+                nearCacheHits.incrementAndGet();
+                return userId;
+            }
         }
 
-        long currentTime = System.currentTimeMillis();
-        if (currentTime > entry.getExpirationTime()) {
-            tokenCache.remove(tokenUuid);
-            log.warn("Token UUID expired and removed from cache: {}", tokenUuid);
+        Long userId = tokenStore.get(tokenUuid);
+        if (userId == null) {
+            misses.incrementAndGet();
+            log.debug("Token UUID not found in cache: {} (user logged out, expired or cache cleared)", tokenUuid);
             return null;
         }
 
-        log.debug("Token UUID validated from cache: {} with user ID: {}", tokenUuid, entry.getUserId());
-        return entry.getUserId();
+        hits.incrementAndGet();
+        if (nearCache != null) {
+            nearCache.put(tokenUuid, userId, System.currentTimeMillis() + nearCacheTtl);
+        }
+        log.debug("Token UUID validated from cache: {} with user ID: {}", tokenUuid, userId);
+        return userId;
     }
 
-   
+
     public void removeTokenFromCache(String tokenUuid) {
-        tokenCache.remove(tokenUuid);
+        tokenStore.remove(tokenUuid);
+        if (nearCache != null) {
+            nearCache.remove(tokenUuid);
+        }
         log.info("Token UUID removed from cache (user logged out): {}", tokenUuid);
     }
 
-    
+
+    /**
+     * Logs the user out everywhere. Other instances' near-caches may still
+     * accept the tokens for up to the near-cache TTL.
+     */
+    public int removeUserTokens(Long userId) {
+        int removed = tokenStore.removeByUserId(userId);
+        if (nearCache != null) {
+            nearCache.removeByUserId(userId);
+        }
+        log.info("Removed {} tokens of user: {}", removed, userId);
+        return removed;
+    }
+
+
     public void clearAllTokens() {
-        tokenCache.clear();
+        tokenStore.clear();
+        if (nearCache != null) {
+            nearCache.clear();
+        }
         log.warn("All tokens cleared from cache - all users logged out");
     }
 
-    
+
     public int getTokenCacheSize() {
-        return tokenCache.size();
+        return (int) tokenStore.size();
     }
 
-    
-    private static class CacheEntry {
-        private final Long userId;
-        private final long expirationTime;
-
-        
-        CacheEntry(Long userId, long expirationTime) {
-            this.userId = userId;
-            this.expirationTime = expirationTime;
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>(tokenStore.getMetrics());
+        metrics.put("store", tokenStore.getClass().getSimpleName());
+        metrics.put("hits", hits.get());
+        metrics.put("nearCacheHits", nearCacheHits.get());
+        metrics.put("misses", misses.get());
+        if (nearCache != null) {
+            metrics.put("nearCacheSize", nearCache.size());
         }
+        return metrics;
+    }
 
-        
-        Long getUserId() {
-            return userId;
+    @Scheduled(fixedDelayString = "${app.token-cache.sweep-interval-millis:60000}")
+    public void sweepExpired() {
+        int removed = tokenStore.purgeExpired();
+        if (nearCache != null) {
+            nearCache.purgeExpired();
         }
+        if (removed > 0) {
+            log.debug("Token cache sweep removed {} expired tokens", removed);
+        }
+    }
 
-        long getExpirationTime() {
-            return expirationTime;
+    private void put(String tokenUuid, Long userId, long expiresAt) {
+        tokenStore.put(tokenUuid, userId, expiresAt);
+        if (nearCache != null) {
+            nearCache.put(tokenUuid, userId, Math.min(expiresAt, System.currentTimeMillis() + nearCacheTtl));
         }
     }
 }
@@ -2,40 +2,59 @@
 package com.event_management_system.service;
 
 import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.event_management_system.audit.AuditArchive;
+import com.event_management_system.audit.AuditRecord;
+import com.event_management_system.audit.AuditSink;
+import com.event_management_system.dto.HistoryPageDTO;
 import com.event_management_system.dto.UserActivityHistoryResponseDTO;
 import com.event_management_system.entity.User;
-import com.event_management_system.entity.UserActivityHistory;
 import com.event_management_system.entity.UserActivityHistory.ActivityType;
 import com.event_management_system.mapper.UserActivityHistoryMapper;
 import com.event_management_system.repository.UserActivityHistoryRepository;
+import com.event_management_system.repository.UserActivityHistoryRepository.ActivityView;
+import com.event_management_system.repository.UserRepository;
+import com.event_management_system.util.HistoryCursor;
+import com.event_management_system.util.TransactionCallbacks;
 
 
 @Service
 public class UserActivityHistoryService {
 
-        @Transactional
-        public void deleteAllByUserId(Long userId) {
-                activityHistoryRepository.deleteAll(activityHistoryRepository.findByUserId(userId));
-        }
     
     @Autowired
     private UserActivityHistoryRepository activityHistoryRepository;
     
     @Autowired
     private UserActivityHistoryMapper activityHistoryMapper;
+
+    @Autowired
+    private AuditSink auditSink;
+
+    @Autowired
+    private AuditArchive auditArchive;
+
+    @Autowired
+    private UserRepository userRepository;
     
-   
-    @Transactional
-    public UserActivityHistory recordActivity(
+    /**
+     * Queues the activity for the audit sink once the caller's transaction
+     * commits; the row is written in the sink's next batch.
+     */
+    public void recordActivity(
             @NonNull User user,
             @NonNull ActivityType activityType,
             String description,
@@ -43,78 +62,80 @@ public class UserActivityHistoryService {
             String deviceId,   // Nullable
             String sessionId) { // Nullable
         
-        UserActivityHistory activity = UserActivityHistory.builder()
-                .user(user)
-                .username(user.getFullName())
-                .userGroup(user.getRole() != null ? user.getRole().getName() : "Unknown")
-                .activityTypeCode(activityType.getCode())
-                .activityTypeName(activityType.getDisplayName())
-                .description(description)
-                .deviceId(deviceId != null ? deviceId : "unknown")
-                .ip(ipAddress != null ? ipAddress : "0.0.0.0")
-                .sessionId(sessionId != null ? sessionId : "")
-                .activityDate(LocalDateTime.now())
-                .createdDate(LocalDateTime.now())
-                .createdBy(user)  
-                .build();
+        AuditRecord.Activity activity = new AuditRecord.Activity(
+                user.getId(),
+                user.getRole() != null ? user.getRole().getName() : "Unknown",
+                activityType.getCode(),
+                activityType.getDisplayName(),
+                description,
+                deviceId != null ? deviceId : "unknown",
+                user.getFullName(),
+                user.getId(),
+                LocalDateTime.now(),
+                ipAddress != null ? ipAddress : "0.0.0.0",
+                sessionId != null ? sessionId : "");
         
-        UserActivityHistory saved = activityHistoryRepository.save(activity);
-        return Objects.requireNonNull(saved, "Saved activity should not be null");
+        TransactionCallbacks.runAfterCommit(() -> auditSink.submit(activity));
     }
 
 
-        public List<UserActivityHistoryResponseDTO> getAllActivityHistory() {
-                return getAllActivities();
+        @Transactional(readOnly = true)
+        public HistoryPageDTO<UserActivityHistoryResponseDTO> getAllActivityHistory(HistoryCursor after, int size) {
+                return toPage(activityHistoryRepository.findPage(after.at(), after.id(), Limit.of(size + 1)), size);
         }
     
     
     @Transactional(readOnly = true)
-    public List<UserActivityHistoryResponseDTO> getActivityHistory(@NonNull Long userId) {
-        List<UserActivityHistory> activities = activityHistoryRepository.findByUserId(userId);
-        return activities.stream()
-                .map(activityHistoryMapper::toDto)
-                .collect(Collectors.toList());
+    public HistoryPageDTO<UserActivityHistoryResponseDTO> getActivityHistory(@NonNull Long userId, HistoryCursor after, int size) {
+        return toPage(activityHistoryRepository.findPageByUserId(userId, after.at(), after.id(), Limit.of(size + 1)), size);
     }
     
     
+    /**
+     * Ranges reaching past the retention window also read the archived days
+     * they cover and merge them into the page.
+     */
     @Transactional(readOnly = true)
-    public List<UserActivityHistoryResponseDTO> getActivitiesByDateRange(
+    public HistoryPageDTO<UserActivityHistoryResponseDTO> getActivitiesByDateRange(
             @NonNull Long userId,
             @NonNull LocalDateTime startDate,
-            @NonNull LocalDateTime endDate) {
+            @NonNull LocalDateTime endDate,
+            HistoryCursor after,
+            int size) {
         
-        List<UserActivityHistory> activities = activityHistoryRepository
-                .findByUserIdAndActivityDateBetweenOrderByActivityDateDesc(userId, startDate, endDate);
+        List<ActivityView> activities = activityHistoryRepository
+                .findPageByUserIdAndActivityDateBetween(userId, startDate, endDate, after.at(), after.id(), Limit.of(size + 1));
+        List<UserActivityHistoryResponseDTO> archived = fromArchive(auditArchive.readNewestFirst(AuditArchive.Table.ACTIVITY,
+                startDate, endDate, after, row -> userId.equals(row.getLong("user_id")), size + 1));
         
-        return activities.stream()
-                .map(activityHistoryMapper::toDto)
-                .collect(Collectors.toList());
+        return HistoryPageDTO.merged(activities.stream().map(activityHistoryMapper::toDto).toList(), archived, size,
+                UserActivityHistoryService::cursorOf);
     }
     
    
     @Transactional(readOnly = true)
-    public List<UserActivityHistoryResponseDTO> getActivitiesByType(
-            @NonNull String activityTypeCode) {
+    public HistoryPageDTO<UserActivityHistoryResponseDTO> getActivitiesByType(
+            @NonNull String activityTypeCode,
+            HistoryCursor after,
+            int size) {
         
-        List<UserActivityHistory> activities = activityHistoryRepository
-                .findByActivityTypeCodeOrderByActivityDateDesc(activityTypeCode);
+        List<ActivityView> activities = activityHistoryRepository
+                .findPageByActivityTypeCode(activityTypeCode, after.at(), after.id(), Limit.of(size + 1));
         
-        return activities.stream()
-                .map(activityHistoryMapper::toDto)
-                .collect(Collectors.toList());
+        return toPage(activities, size);
     }
     
     
     @Transactional(readOnly = true)
-    public List<UserActivityHistoryResponseDTO> getActivitiesBySession(
-            @NonNull String sessionId) {
+    public HistoryPageDTO<UserActivityHistoryResponseDTO> getActivitiesBySession(
+            @NonNull String sessionId,
+            HistoryCursor after,
+            int size) {
         
-        List<UserActivityHistory> activities = activityHistoryRepository
-                .findBySessionIdOrderByActivityDateAsc(sessionId);
+        List<ActivityView> activities = activityHistoryRepository
+                .findPageBySessionId(sessionId, after.at(), after.id(), Limit.of(size + 1));
         
-        return activities.stream()
-                .map(activityHistoryMapper::toDto)
-                .collect(Collectors.toList());
+        return toPage(activities, size);
     }
     
     
@@ -122,8 +143,8 @@ public class UserActivityHistoryService {
     public List<UserActivityHistoryResponseDTO> getActivitiesByUserGroup(
             @NonNull String userGroup) {
         
-        List<UserActivityHistory> activities = activityHistoryRepository
-                .findByUserGroupOrderByActivityDateDesc(userGroup);
+        List<ActivityView> activities = activityHistoryRepository
+                .findByUserGroup(userGroup);
         
         return activities.stream()
                 .map(activityHistoryMapper::toDto)
@@ -138,9 +159,11 @@ public class UserActivityHistoryService {
     
     
     @Transactional(readOnly = true)
-    public List<UserActivityHistoryResponseDTO> getRecentActivities(
+    public HistoryPageDTO<UserActivityHistoryResponseDTO> getRecentActivities(
             @NonNull Long userId, 
-            int days) {
+            int days,
+            HistoryCursor after,
+            int size) {
         
         LocalDateTime now = LocalDateTime.now();
         LocalDateTime startDate = now.minusDays(days);
@@ -149,19 +172,29 @@ public class UserActivityHistoryService {
         return getActivitiesByDateRange(
             userId,
             Objects.requireNonNull(startDate, "startDate should not be null"),
-            Objects.requireNonNull(endDate, "endDate should not be null"));
+            Objects.requireNonNull(endDate, "endDate should not be null"),
+            after,
+            size);
     }
-    
-    
-    @Transactional(readOnly = true)
-        public List<UserActivityHistoryResponseDTO> getAllActivities() {
-                List<UserActivityHistory> activities = activityHistoryRepository
-                                .findAllWithCreatedByAndUpdatedBy(
-                                        LocalDateTime.of(2000, 1, 1, 0, 0),
-                                        LocalDateTime.now()
-                                );
-                return activities.stream()
-                                .map(activityHistoryMapper::toDto)
-                                .collect(Collectors.toList());
+
+    private HistoryPageDTO<UserActivityHistoryResponseDTO> toPage(List<ActivityView> activities, int size) {
+        return HistoryPageDTO.of(activities, size, activityHistoryMapper::toDto,
+                activity -> new HistoryCursor(activity.getActivityDate(), activity.getId()));
+    }
+
+    private List<UserActivityHistoryResponseDTO> fromArchive(List<AuditArchive.Row> rows) {
+        Set<Long> userIds = new HashSet<>();
+        for (AuditArchive.Row row : rows) {
+            userIds.add(row.getLong("created_by"));
+            userIds.add(row.getLong("updated_by"));
         }
+        userIds.remove(null);
+        Map<Long, User> users = userRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        return rows.stream().map(row -> activityHistoryMapper.toDto(row, users)).toList();
+    }
+
+    private static HistoryCursor cursorOf(UserActivityHistoryResponseDTO activity) {
+        return new HistoryCursor(activity.getActivityDate(), activity.getId());
+    }
 }
@@ -0,0 +1,410 @@
+package com.event_management_system.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.event_management_system.audit.AuditArchive;
+import com.event_management_system.audit.AuditSink;
+import com.event_management_system.dto.UserDeletionJobDTO;
+import com.event_management_system.entity.User;
+import com.event_management_system.entity.UserActivityHistory;
+import com.event_management_system.exception.GlobalExceptionHandler.ForbiddenException;
+import com.event_management_system.exception.GlobalExceptionHandler.ResourceNotFoundException;
+import com.event_management_system.repository.EventAttendeesRepository;
+import com.event_management_system.repository.EventReminderSentRepository;
+import com.event_management_system.repository.UserActivityHistoryRepository;
+import com.event_management_system.repository.UserLoginLogoutHistoryRepository;
+import com.event_management_system.repository.UserPasswordHistoryRepository;
+import com.event_management_system.repository.UserRepository;
+
+/**
+ * Background user deletion. The rows that reference the user are removed with
+ * {@code DELETE ... WHERE user_id = ? LIMIT n} in a loop, each chunk in its own
+ * short transaction with a pause of {@code app.users.delete-chunk-pause-millis}
+ * between chunks, so login audit inserts are never blocked for long. The user
+ * row itself is deleted last, together with a final sweep for rows written
+ * while the job ran.
+ * <p>
+ * When the job starts the account is flagged deleted and its tokens revoked,
+ * so the user cannot log in or add rows while the job runs. Rows the job does
+ * not clear (events the user organizes or approved, history rows of other
+ * users changed or written by the user) would make the final delete fail
+ * after the history is gone, so the job checks for them first and, if any
+ * exist, fails without deleting anything and re-enables the account.
+ * <p>
+ * The final step is retried up to {@code app.users.delete-final-attempts}
+ * times. If it still fails, the job ends INCOMPLETE. The account stays
+ * disabled with its history gone, and deleting the user again resumes the job.
+ * Once the user row is gone, the user's rows are also removed from the audit
+ * archive (AuditLogArchivalJob).
+ */
+@Service
+public class UserDeletionService {
+
+    @Autowired
+    private ApplicationLoggerService log;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserPasswordHistoryRepository passwordHistoryRepository;
+
+    @Autowired
+    private UserLoginLogoutHistoryRepository loginHistoryRepository;
+
+    @Autowired
+    private UserActivityHistoryRepository activityHistoryRepository;
+
+    @Autowired
+    private EventAttendeesRepository eventAttendeesRepository;
+
+    @Autowired
+    private EventReminderSentRepository eventReminderSentRepository;
+
+    @Autowired
+    private UserActivityHistoryService activityHistoryService;
+
+    @Autowired
+    private PermissionMatrixService permissionMatrixService;
+
+    @Autowired
+    private TokenCacheService tokenCacheService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private AuditSink auditSink;
+
+    @Autowired
+    private AuditArchive auditArchive;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    @Qualifier("deletionExecutor")
+    private TaskExecutor deletionExecutor;
+
+    @Value("${app.users.delete-chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${app.users.delete-chunk-pause-millis:50}")
+    private long chunkPauseMillis;
+
+    @Value("${app.users.delete-final-attempts:3}")
+    private int finalAttempts;
+
+    @Value("${app.users.delete-final-retry-millis:5000}")
+    private long finalRetryMillis;
+
+    @Value("${app.users.delete-job-retention-minutes:60}")
+    private long jobRetentionMinutes;
+
+    private final Map<String, DeletionJob> jobs = new ConcurrentHashMap<>();
+
+    /**
+     * References to the user that the job does not clear. Rows of the user
+     * being deleted are cleared, so only other users' rows count there.
+     */
+    private static final List<BlockingReference> BLOCKING_REFERENCES = List.of(
+            new BlockingReference("events", "organizer_id", false),
+            new BlockingReference("events", "approved_by", false),
+            new BlockingReference("user_password_history", "password_change_by", true),
+            new BlockingReference("user_password_history", "created_by", true),
+            new BlockingReference("user_login_logout_history", "created_by", true),
+            new BlockingReference("user_activity_history", "created_by", true),
+            new BlockingReference("user_activity_history", "updated_by", true));
+
+    private record BlockingReference(String table, String column, boolean ownRowsCleared) {
+
+        private String existsSql() {
+            return "SELECT 1 FROM " + table + " WHERE " + column + " = ?"
+                    + (ownRowsCleared ? " AND user_id <> ?" : "") + " LIMIT 1";
+        }
+
+        private Object[] args(Long userId) {
+            return ownRowsCleared ? new Object[] { userId, userId } : new Object[] { userId };
+        }
+    }
+
+    /**
+     * Who asked for the deletion, captured on the request thread for the
+     * USER_DELETED activity record.
+     */
+    public record Requester(Long userId, String ipAddress, String deviceId, String sessionId) {
+    }
+
+    /**
+     * Starts deleting the user and returns the job's initial status. A user
+     * that already has a deletion in progress gets the existing job back.
+     */
+    public synchronized UserDeletionJobDTO start(@NonNull User user, @NonNull Requester requester) {
+        pruneFinishedJobs();
+        for (DeletionJob running : jobs.values()) {
+            if (running.userId.equals(user.getId()) && running.finishedAt == null) {
+                return running.toDto();
+            }
+        }
+        DeletionJob job = new DeletionJob(UUID.randomUUID().toString(), user.getId(), user.getFullName(),
+                user.getEmail(), requester, user.isDeleted());
+        jobs.put(job.id, job);
+        try {
+            deletionExecutor.execute(() -> run(job));
+        } catch (RuntimeException e) {
+            jobs.remove(job.id);
+            throw e;
+        }
+        log.info("[UserDeletionService] INFO - start() - Deletion job {} queued for userId={}", job.id, job.userId);
+        return job.toDto();
+    }
+
+    public UserDeletionJobDTO getJob(@NonNull String jobId, @NonNull Long currentUserId) {
+        DeletionJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new ResourceNotFoundException("User deletion job not found: " + jobId);
+        }
+        if (!Objects.equals(job.requester.userId(), currentUserId) && !permissionMatrixService.hasPermission(currentUserId, "user.manage.all")) {
+            throw new ForbiddenException("You can only view deletion jobs you started");
+        }
+        return job.toDto();
+    }
+
+    private void run(DeletionJob job) {
+        job.status = "RUNNING";
+        job.startedAt = LocalDateTime.now();
+        long start = System.currentTimeMillis();
+        boolean disabled = false;
+        boolean swept = false;
+        try {
+            disable(job);
+            disabled = true;
+            List<String> blocking = findBlockingReferences(job.userId);
+            if (!blocking.isEmpty()) {
+                throw new IllegalStateException("User is still referenced by " + String.join(", ", blocking));
+            }
+
+            // Queued audit rows for the user must be in their tables before the sweep.
+            auditSink.flush();
+            swept = true;
+            sweep(job);
+
+            deleteUserRow(job);
+            recordDeletion(job);
+            purgeArchive(job);
+
+            job.currentTable = null;
+            job.status = "COMPLETED";
+            log.info("[UserDeletionService] INFO - run() - Job {} deleted userId={} in {}ms: {}",
+                    job.id, job.userId, System.currentTimeMillis() - start, job.rowsDeleted);
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            job.error = e.getMessage();
+            job.status = swept ? "INCOMPLETE" : "FAILED";
+            log.error("[UserDeletionService] ERROR - run() - Job {} for userId={} failed while clearing {}: {}",
+                    job.id, job.userId, job.currentTable, e.getMessage());
+            if (swept) {
+                log.error("[UserDeletionService] ERROR - run() - userId={} is disabled with its history cleared; delete the user again to resume",
+                        job.userId);
+            } else if (disabled && !job.resumed) {
+                enableQuietly(job);
+            }
+        } finally {
+            job.finishedAt = LocalDateTime.now();
+        }
+    }
+
+    /**
+     * Final sweep and user row delete in one transaction. The history is gone
+     * by now, so a failure is retried before the job gives up.
+     */
+    private void deleteUserRow(DeletionJob job) throws InterruptedException {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                auditSink.flush();
+                new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                    sweep(job);
+                    job.currentTable = "event_users";
+                    userRepository.deleteById(job.userId);
+                    permissionMatrixService.evictUserAfterCommit(job.userId);
+                });
+                return;
+            } catch (RuntimeException e) {
+                if (attempt >= finalAttempts) {
+                    throw e;
+                }
+                log.warn("[UserDeletionService] WARN - deleteUserRow() - Job {} attempt {}/{} failed for userId={}, retrying: {}",
+                        job.id, attempt, finalAttempts, job.userId, e.getMessage());
+                Thread.sleep(finalRetryMillis);
+            }
+        }
+    }
+
+    /**
+     * Removes the user's rows from the audit archive. The user row is gone, so
+     * a failure is reported on the job but does not fail it.
+     */
+    private void purgeArchive(DeletionJob job) {
+        job.currentTable = "audit_archive";
+        try {
+            for (AuditArchive.Table table : AuditArchive.Table.values()) {
+                int removed = auditArchive.removeRows(table, row -> job.userId.equals(row.getLong("user_id")));
+                job.rowsDeleted.merge("archive." + table.getTableName(), (long) removed, Long::sum);
+            }
+        } catch (RuntimeException e) {
+            job.error = "Archived rows not removed: " + e.getMessage();
+            log.error("[UserDeletionService] ERROR - purgeArchive() - Job {} could not remove archived rows of userId={}: {}",
+                    job.id, job.userId, e.getMessage());
+        }
+    }
+
+    /**
+     * Stops the user from logging in or using an issued token while the job runs.
+     */
+    private void disable(DeletionJob job) {
+        job.currentTable = "event_users";
+        userRepository.updateDeleted(job.userId, true);
+        permissionMatrixService.evictUser(job.userId);
+        tokenCacheService.removeUserTokens(job.userId);
+        job.currentTable = null;
+    }
+
+    private void enableQuietly(DeletionJob job) {
+        try {
+            userRepository.updateDeleted(job.userId, false);
+            permissionMatrixService.evictUser(job.userId);
+        } catch (Exception e) {
+            log.error("[UserDeletionService] ERROR - enableQuietly() - Could not re-enable userId={}: {}", job.userId, e.getMessage());
+        }
+    }
+
+    private List<String> findBlockingReferences(Long userId) {
+        List<String> blocking = new ArrayList<>();
+        for (BlockingReference reference : BLOCKING_REFERENCES) {
+            if (!jdbcTemplate.queryForList(reference.existsSql(), Integer.class, reference.args(userId)).isEmpty()) {
+                blocking.add(reference.table() + "." + reference.column());
+            }
+        }
+        return blocking;
+    }
+
+    /**
+     * Clears every table that references the user. Inside the final
+     * transaction the loops usually find nothing and run once each.
+     */
+    private void sweep(DeletionJob job) {
+        try {
+            clear(job, "user_password_history", passwordHistoryRepository::deleteChunkByUserId);
+            clear(job, "user_login_logout_history", loginHistoryRepository::deleteChunkByUserId);
+            clear(job, "user_activity_history", activityHistoryRepository::deleteChunkByUserId);
+            clear(job, "event_attendees", eventAttendeesRepository::deleteChunkByUserId);
+            clear(job, "event_reminder_sent", eventReminderSentRepository::deleteChunkByUserId);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while deleting userId=" + job.userId, e);
+        }
+    }
+
+    private void clear(DeletionJob job, String table, BiFunction<Long, Integer, Integer> deleteChunk)
+            throws InterruptedException {
+        job.currentTable = table;
+        while (true) {
+            int deleted = deleteChunk.apply(job.userId, chunkSize);
+            job.rowsDeleted.merge(table, (long) deleted, Long::sum);
+            if (deleted < chunkSize) {
+                return;
+            }
+            Thread.sleep(chunkPauseMillis);
+        }
+    }
+
+    private void recordDeletion(DeletionJob job) {
+        try {
+            User requester = userRepository.findById(job.requester.userId()).orElse(null);
+            if (requester == null) {
+                return;
+            }
+            activityHistoryService.recordActivity(
+                    requester,
+                    UserActivityHistory.ActivityType.USER_DELETED,
+                    "Deleted user: " + job.fullName + " (" + job.email + ") | ID: " + job.userId,
+                    job.requester.ipAddress(),
+                    job.requester.deviceId(),
+                    job.requester.sessionId());
+        } catch (Exception e) {
+            log.error("[UserDeletionService] ERROR - recordDeletion() - Failed to record user deletion activity: {}", e.getMessage());
+        }
+    }
+
+    private void pruneFinishedJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(jobRetentionMinutes);
+        jobs.values().removeIf(job -> job.finishedAt != null && job.finishedAt.isBefore(cutoff));
+    }
+
+    /**
+     * Mutable job state; written only by the job's worker thread and read by
+     * status requests.
+     */
+    private static final class DeletionJob {
+
+        private final String id;
+
+        private final Long userId;
+
+        private final String fullName;
+
+        private final String email;
+
+        private final Requester requester;
+
+        /** The account was already disabled by an earlier, incomplete job. */
+        private final boolean resumed;
+
+        private final Map<String, Long> rowsDeleted = new ConcurrentHashMap<>();
+
+        private volatile String status = "QUEUED";
+
+        private volatile String currentTable;
+
+        private volatile LocalDateTime startedAt;
+
+        private volatile LocalDateTime finishedAt;
+
+        private volatile String error;
+
+        private DeletionJob(String id, Long userId, String fullName, String email, Requester requester,
+                boolean resumed) {
+            this.id = id;
+            this.userId = userId;
+            this.fullName = fullName;
+            this.email = email;
+            this.requester = requester;
+            this.resumed = resumed;
+        }
+
+        private UserDeletionJobDTO toDto() {
+            return new UserDeletionJobDTO(id, userId, status, currentTable, new LinkedHashMap<>(rowsDeleted),
+                    startedAt, finishedAt, error);
+        }
+    }
+}
@@ -3,19 +3,27 @@ package com.event_management_system.service;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.event_management_system.audit.AuditArchive;
+import com.event_management_system.audit.AuditRecord;
+import com.event_management_system.audit.AuditSink;
+import com.event_management_system.dto.HistoryPageDTO;
 import com.event_management_system.dto.UserLoginLogoutHistoryResponseDTO;
 import com.event_management_system.entity.User;
-import com.event_management_system.entity.UserLoginLogoutHistory;
 import com.event_management_system.mapper.UserLoginLogoutHistoryMapper;
 import com.event_management_system.repository.UserLoginLogoutHistoryRepository;
+import com.event_management_system.repository.UserLoginLogoutHistoryRepository.LoginView;
+import com.event_management_system.repository.UserRepository;
+import com.event_management_system.util.HistoryCursor;
+import com.event_management_system.util.TransactionCallbacks;
 
 
 @Service
@@ -23,76 +31,73 @@ public class UserLoginLogoutHistoryService {
 
       
 
-        @Transactional
-        public void deleteAllByUserId(Long userId) {
-                loginHistoryRepository.deleteAll(loginHistoryRepository.findByUserId(userId));
-        }
     
     @Autowired
     private UserLoginLogoutHistoryRepository loginHistoryRepository;
     
     @Autowired
     private UserLoginLogoutHistoryMapper loginHistoryMapper;
-    
-    
-    @Transactional
-    public UserLoginLogoutHistory recordLogin(
+
+    @Autowired
+    private AuditSink auditSink;
+
+    @Autowired
+    private AuditArchive auditArchive;
+
+    @Autowired
+    private UserRepository userRepository;
+    
+    /**
+     * Queues the login for the audit sink once the caller's transaction
+     * commits. Logouts go through the sink after it, so the row is always
+     * there to close.
+     */
+    public void recordLogin(
             @NonNull User user,
             @NonNull String userToken,
             @NonNull String requestIp,
             @NonNull String deviceInfo,
             @NonNull String loginStatus) {
         
-        UserLoginLogoutHistory history = UserLoginLogoutHistory.builder()
-                .user(user)
-                .userToken(userToken)
-                .userType(user.getRole() != null ? user.getRole().getName() : "UNKNOWN")
-                .loginTime(LocalDateTime.now())
-                .logoutTime(null)  // Not logged out yet
-                .requestIp(requestIp)
-                .deviceInfo(deviceInfo)
-                .loginStatus(loginStatus)
-                .build();
+        AuditRecord.Login login = new AuditRecord.Login(
+                user.getId(),
+                userToken,
+                user.getRole() != null ? user.getRole().getName() : "UNKNOWN",
+                requestIp,
+                deviceInfo,
+                loginStatus,
+                LocalDateTime.now());
         
-        UserLoginLogoutHistory saved = loginHistoryRepository.save(history);
-        return Objects.requireNonNull(saved, "Saved login history should not be null");
+        TransactionCallbacks.runAfterCommit(() -> auditSink.submit(login));
     }
 
 
       @Transactional(readOnly = true)
-        public List<UserLoginLogoutHistoryResponseDTO> getAllLoginHistory() {
-                List<UserLoginLogoutHistory> history = loginHistoryRepository.findAll();
-                return history.stream()
-                                .map(loginHistoryMapper::toDto)
-                                .collect(Collectors.toList());
+        public HistoryPageDTO<UserLoginLogoutHistoryResponseDTO> getAllLoginHistory(HistoryCursor after, int size) {
+                return toPage(loginHistoryRepository.findPage(after.at(), after.id(), Limit.of(size + 1)), size);
         }
     
     
-    @Transactional
-    public boolean recordLogout(@NonNull String userToken) {
-        return loginHistoryRepository.findByUserToken(userToken)
-                .map(history -> {
-                    history.setLogoutTime(LocalDateTime.now());
-                    loginHistoryRepository.save(history);
-                    return true;
-                })
-                .orElse(false);
+    /**
+     * Queues the logout for the audit sink, which closes the login row on its
+     * next flush.
+     */
+    public void recordLogout(@NonNull String userToken) {
+        AuditRecord.Logout logout = new AuditRecord.Logout(userToken, null, LocalDateTime.now());
+        TransactionCallbacks.runAfterCommit(() -> auditSink.submit(logout));
     }
     
     
     @Transactional(readOnly = true)
-    public List<UserLoginLogoutHistoryResponseDTO> getLoginHistory(@NonNull Long userId) {
-        List<UserLoginLogoutHistory> history = loginHistoryRepository.findByUserId(userId);
-        return history.stream()
-                .map(loginHistoryMapper::toDto)
-                .collect(Collectors.toList());
+    public HistoryPageDTO<UserLoginLogoutHistoryResponseDTO> getLoginHistory(@NonNull Long userId, HistoryCursor after, int size) {
+        return toPage(loginHistoryRepository.findPageByUserId(userId, after.at(), after.id(), Limit.of(size + 1)), size);
     }
     
     
     @Transactional(readOnly = true)
     public List<UserLoginLogoutHistoryResponseDTO> getActiveSessions(@NonNull Long userId) {
-        List<UserLoginLogoutHistory> activeSessions = 
-                loginHistoryRepository.findByUserIdAndLogoutTimeIsNullOrderByLoginTimeDesc(userId);
+        List<LoginView> activeSessions = 
+                loginHistoryRepository.findActiveByUserId(userId);
         
         return activeSessions.stream()
                 .map(loginHistoryMapper::toDto)
@@ -106,51 +111,68 @@ public class UserLoginLogoutHistoryService {
     }
     
     
+    /**
+     * Ranges reaching past the retention window also read the archived days
+     * they cover and merge them into the page.
+     */
     @Transactional(readOnly = true)
-    public List<UserLoginLogoutHistoryResponseDTO> getLoginHistoryByDateRange(
+    public HistoryPageDTO<UserLoginLogoutHistoryResponseDTO> getLoginHistoryByDateRange(
             @NonNull Long userId,
             @NonNull LocalDateTime startDate,
-            @NonNull LocalDateTime endDate) {
+            @NonNull LocalDateTime endDate,
+            HistoryCursor after,
+            int size) {
         
-        List<UserLoginLogoutHistory> history = loginHistoryRepository
-                .findByUserIdAndLoginTimeBetweenOrderByLoginTimeDesc(userId, startDate, endDate);
+        List<LoginView> history = loginHistoryRepository
+                .findPageByUserIdAndLoginTimeBetween(userId, startDate, endDate, after.at(), after.id(), Limit.of(size + 1));
+        List<AuditArchive.Row> archivedRows = auditArchive.readNewestFirst(AuditArchive.Table.LOGIN,
+                startDate, endDate, after, row -> userId.equals(row.getLong("user_id")), size + 1);
+        Map<Long, User> users = archivedRows.isEmpty() ? Map.of()
+                : userRepository.findById(userId).map(user -> Map.of(userId, user)).orElse(Map.of());
+        List<UserLoginLogoutHistoryResponseDTO> archived = archivedRows.stream()
+                .map(row -> loginHistoryMapper.toDto(row, users))
+                .toList();
         
-        return history.stream()
-                .map(loginHistoryMapper::toDto)
-                .collect(Collectors.toList());
+        return HistoryPageDTO.merged(history.stream().map(loginHistoryMapper::toDto).toList(), archived, size,
+                UserLoginLogoutHistoryService::cursorOf);
     }
     
     @Transactional(readOnly = true)
-    public List<UserLoginLogoutHistoryResponseDTO> getLoginHistoryByStatus(
+    public HistoryPageDTO<UserLoginLogoutHistoryResponseDTO> getLoginHistoryByStatus(
             @NonNull Long userId,
-            @NonNull String loginStatus) {
+            @NonNull String loginStatus,
+            HistoryCursor after,
+            int size) {
         
-        List<UserLoginLogoutHistory> history = loginHistoryRepository
-                .findByUserIdAndLoginStatusOrderByLoginTimeDesc(userId, loginStatus);
+        List<LoginView> history = loginHistoryRepository
+                .findPageByUserIdAndLoginStatus(userId, loginStatus, after.at(), after.id(), Limit.of(size + 1));
         
-        return history.stream()
-                .map(loginHistoryMapper::toDto)
-                .collect(Collectors.toList());
+        return toPage(history, size);
     }
     
    
     @Transactional(readOnly = true)
     public UserLoginLogoutHistoryResponseDTO getLastLogin(@NonNull Long userId) {
-        return loginHistoryRepository.findFirstByUserIdOrderByLoginTimeDesc(userId)
+        return loginHistoryRepository
+                .findPageByUserId(userId, HistoryCursor.NEWEST.at(), HistoryCursor.NEWEST.id(), Limit.of(1))
+                .stream()
+                .findFirst()
                 .map(loginHistoryMapper::toDto)
                 .orElse(null);
     }
     
     
-    @Transactional
-    public boolean forceLogout(@NonNull String userToken) {
-        return loginHistoryRepository.findByUserToken(userToken)
-                .map(history -> {
-                    history.setLogoutTime(LocalDateTime.now());
-                    history.setLoginStatus("FORCE_LOGOUT");
-                    loginHistoryRepository.save(history);
-                    return true;
-                })
-                .orElse(false);
+    public void forceLogout(@NonNull String userToken) {
+        AuditRecord.Logout logout = new AuditRecord.Logout(userToken, "FORCE_LOGOUT", LocalDateTime.now());
+        TransactionCallbacks.runAfterCommit(() -> auditSink.submit(logout));
+    }
+
+    private HistoryPageDTO<UserLoginLogoutHistoryResponseDTO> toPage(List<LoginView> history, int size) {
+        return HistoryPageDTO.of(history, size, loginHistoryMapper::toDto,
+                login -> new HistoryCursor(login.getLoginTime(), login.getId()));
+    }
+
+    private static HistoryCursor cursorOf(UserLoginLogoutHistoryResponseDTO login) {
+        return new HistoryCursor(login.getLoginTime(), login.getId());
     }
 }
@@ -3,19 +3,24 @@ package com.event_management_system.service;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Objects;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.event_management_system.audit.AuditRecord;
+import com.event_management_system.audit.AuditSink;
+import com.event_management_system.dto.HistoryPageDTO;
 import com.event_management_system.dto.UserPasswordHistoryResponseDTO;
 import com.event_management_system.entity.User;
-import com.event_management_system.entity.UserPasswordHistory;
 import com.event_management_system.mapper.UserPasswordHistoryMapper;
 import com.event_management_system.repository.UserPasswordHistoryRepository;
+import com.event_management_system.repository.UserPasswordHistoryRepository.PasswordChangeView;
+import com.event_management_system.util.HistoryCursor;
+import com.event_management_system.util.TransactionCallbacks;
 
 
 @Service
@@ -28,50 +33,42 @@ public class UserPasswordHistoryService {
     
     @Autowired
     private UserPasswordHistoryMapper passwordHistoryMapper;
+
+    @Autowired
+    private AuditSink auditSink;
     
-    
-    @Transactional
-    public UserPasswordHistory recordPasswordChange(
+    /**
+     * Queues the change for the audit sink once the caller's transaction
+     * commits.
+     */
+    public void recordPasswordChange(
             @NonNull User user,
             @NonNull User changedBy,
             String oldPassword,  // Nullable for new user creation
             @NonNull String newPassword) {
         
-        UserPasswordHistory history = UserPasswordHistory.builder()
-                .user(user)
-                .passwordChangedBy(changedBy)
-                .changeDate(LocalDateTime.now())
-                .oldPassword(oldPassword)  // Can be null for new users
-                .newPassword(newPassword)
-                .createdBy(changedBy)  // User object, not String
-                .build();
+        AuditRecord.PasswordChange change = new AuditRecord.PasswordChange(
+                user.getId(),
+                changedBy.getId(),
+                oldPassword,  // Can be null for new users
+                newPassword,
+                LocalDateTime.now());
         
-        UserPasswordHistory saved = passwordHistoryRepository.save(history);
-        return Objects.requireNonNull(saved, "Saved password history should not be null");
+        TransactionCallbacks.runAfterCommit(() -> auditSink.submit(change));
     }
     
     
     @Transactional(readOnly = true)
-    public List<UserPasswordHistoryResponseDTO> getPasswordHistory(@NonNull Long userId) {
-        List<UserPasswordHistory> history = passwordHistoryRepository.findByUserId(userId);
-        return history.stream()
-                .map(passwordHistoryMapper::toDto)
-                .collect(Collectors.toList());
+    public HistoryPageDTO<UserPasswordHistoryResponseDTO> getPasswordHistory(@NonNull Long userId, HistoryCursor after, int size) {
+        return toPage(passwordHistoryRepository.findPageByUserId(userId, after.at(), after.id(), Limit.of(size + 1)), size);
     }
     
 
     @Transactional(readOnly = true)
-    public List<UserPasswordHistoryResponseDTO> getAllPasswordHistory() {
-        List<UserPasswordHistory> history = passwordHistoryRepository.findAll();
-        return history.stream()
-                .map(passwordHistoryMapper::toDto)
-                .collect(Collectors.toList());
+    public HistoryPageDTO<UserPasswordHistoryResponseDTO> getAllPasswordHistory(HistoryCursor after, int size) {
+        return toPage(passwordHistoryRepository.findPage(after.at(), after.id(), Limit.of(size + 1)), size);
     }
 
-        @Transactional
-        public void deleteAllByUserId(Long userId) {
-            passwordHistoryRepository.deleteAll(passwordHistoryRepository.findByUserId(userId));
-        }
   
     @Transactional(readOnly = true)
     public List<UserPasswordHistoryResponseDTO> getRecentPasswordChanges(
@@ -81,8 +78,8 @@ public class UserPasswordHistoryService {
         LocalDateTime startDate = LocalDateTime.now().minusDays(days);
         LocalDateTime endDate = LocalDateTime.now();
         
-        List<UserPasswordHistory> history = passwordHistoryRepository
-                .findByUserIdAndChangeDateBetweenOrderByChangeDateDesc(userId, startDate, endDate);
+        List<PasswordChangeView> history = passwordHistoryRepository
+                .findByUserIdAndChangeDateBetween(userId, startDate, endDate);
         
         return history.stream()
                 .map(passwordHistoryMapper::toDto)
@@ -92,7 +89,10 @@ public class UserPasswordHistoryService {
     
     @Transactional(readOnly = true)
     public UserPasswordHistoryResponseDTO getLastPasswordChange(@NonNull Long userId) {
-        return passwordHistoryRepository.findFirstByUserIdOrderByChangeDateDesc(userId)
+        return passwordHistoryRepository
+                .findPageByUserId(userId, HistoryCursor.NEWEST.at(), HistoryCursor.NEWEST.id(), Limit.of(1))
+                .stream()
+                .findFirst()
                 .map(passwordHistoryMapper::toDto)
                 .orElse(null);
     }
@@ -102,4 +102,9 @@ public class UserPasswordHistoryService {
     public long countPasswordChanges(@NonNull Long userId) {
         return passwordHistoryRepository.countByUserId(userId);
     }
+
+    private HistoryPageDTO<UserPasswordHistoryResponseDTO> toPage(List<PasswordChangeView> history, int size) {
+        return HistoryPageDTO.of(history, size, passwordHistoryMapper::toDto,
+                change -> new HistoryCursor(change.getChangeDate(), change.getId()));
+    }
 }
@@ -3,7 +3,6 @@ package com.event_management_system.service;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -15,10 +14,10 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import com.event_management_system.dto.UserDeletionJobDTO;
 import com.event_management_system.dto.UserRequestDTO;
 import com.event_management_system.dto.UserResponseDTO;
 import com.event_management_system.dto.UserUpdateRequestDTO;
-import com.event_management_system.entity.Permission;
 import com.event_management_system.entity.Role;
 import com.event_management_system.entity.User;
 import com.event_management_system.entity.UserActivityHistory;
@@ -69,11 +68,17 @@ public class UserService {
     @Autowired
     private com.event_management_system.repository.EventAttendeesRepository eventAttendeesRepository;
 
+    @Autowired
+    private UserDeletionService userDeletionService;
+
     @Autowired
     private JwtService jwtService;
 
     @Autowired
-    private RoleService roleService;
+    private PermissionMatrixService permissionMatrixService;
+
+    @Autowired
+    private PrincipalCacheService principalCacheService;
 
     @Autowired(required = false)
     private HttpServletRequest request;
@@ -236,6 +241,7 @@ public class UserService {
             userMapper.updateEntity(userUpdateRequestDTO, existingUser);
             existingUser.recordUpdate("system");
             User updatedUser = userRepository.save(existingUser);
+            principalCacheService.evictAfterCommit(targetUserId);
 
             log.info("[UserService] INFO - User updated successfully: userId=" + updatedUser.getId() + ", email="
                     + updatedUser.getEmail());
@@ -269,8 +275,12 @@ public class UserService {
         });
     }
 
-    @Transactional
-    public boolean deleteUser(@NonNull Long currentUserId, @NonNull Long targetUserId) {
+    /**
+     * Queues the user for background deletion (see UserDeletionService) and
+     * returns the job, or empty when the user does not exist.
+     */
+    @Transactional(readOnly = true)
+    public Optional<UserDeletionJobDTO> deleteUser(@NonNull Long currentUserId, @NonNull Long targetUserId) {
         log.trace("[UserService] TRACE - deleteUser() called with currentUserId=" + currentUserId + ", targetUserId=" + targetUserId);
         log.debug("[UserService] DEBUG - deleteUser() - Checking manage permission");
         if (!canManageUser(currentUserId, targetUserId)) {
@@ -279,50 +289,16 @@ public class UserService {
         }
 
         return userRepository.findById(targetUserId).map(user -> {
-            String deletedUserName = user.getFullName();
-            String deletedUserEmail = user.getEmail();
-
-            // Delete all related records first
-            try {
-                // Delete password history
-                passwordHistoryService.deleteAllByUserId(targetUserId);
-                // Delete login/logout history
-                if (loginLogoutHistoryService != null) {
-                    loginLogoutHistoryService.deleteAllByUserId(targetUserId);
-                }
-                // Delete activity history
-                activityHistoryService.deleteAllByUserId(targetUserId);
-                // Delete event attendees
-                eventAttendeesRepository.deleteAll(eventAttendeesRepository.findByUser(user));
-            } catch (Exception e) {
-                log.error("[UserService] ERROR - Failed to delete related records for userId=" + targetUserId + ": " + e.getMessage());
-                throw new RuntimeException("Failed to delete related records for userId=" + targetUserId, e);
-            }
-
-            log.debug("[UserService] DEBUG - deleteUser() - Permanently deleting user from database");
-            userRepository.delete(user);
-
-            log.info("[UserService] INFO - User deleted successfully: userId=" + targetUserId + ", email=" + deletedUserEmail);
-
-            try {
-                User currentUser = getCurrentUser();
-                String ipAddress = getClientIp();
-                String deviceId = getDeviceId();
-                String sessionId = getSessionId();
-
-                activityHistoryService.recordActivity(
-                        currentUser,
-                        UserActivityHistory.ActivityType.USER_DELETED,
-                        "Deleted user: " + deletedUserName + " (" + deletedUserEmail + ") | ID: " + targetUserId,
-                        ipAddress,
-                        deviceId,
-                        sessionId);
-            } catch (Exception e) {
-                log.error("[UserService] ERROR - Failed to record user deletion activity: " + e.getMessage());
-            }
+            UserDeletionService.Requester requester = new UserDeletionService.Requester(
+                    currentUserId, getClientIp(), getDeviceId(), getSessionId());
+            UserDeletionJobDTO job = userDeletionService.start(user, requester);
+            log.info("[UserService] INFO - User deletion queued: userId=" + targetUserId + ", jobId=" + job.getJobId());
+            return job;
+        });
+    }
 
-            return true;
-        }).orElse(false);
+    public UserDeletionJobDTO getDeletionJob(@NonNull String jobId, @NonNull Long currentUserId) {
+        return userDeletionService.getJob(jobId, currentUserId);
     }
 
     @Transactional
@@ -339,6 +315,7 @@ public class UserService {
         user.setRole(newRole);
         user.recordUpdate("system");
         userRepository.save(user);
+        permissionMatrixService.evictUserAfterCommit(userId);
 
         TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
             @Override
@@ -369,6 +346,7 @@ public class UserService {
         user.setRole(null);
         user.recordUpdate("system");
         userRepository.save(user);
+        permissionMatrixService.evictUserAfterCommit(userId);
 
         TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
             @Override
@@ -395,30 +373,8 @@ public class UserService {
                 .orElse(false);
     }
 
-    @Transactional(readOnly = true)
     public boolean hasPermission(@NonNull Long userId, String permissionName) {
-        return userRepository.findById(userId)
-                .map(user -> {
-                    log.info("Checking permission '{}' for user {}", permissionName, userId);
-                    log.info("User role: {}", user.getRole() != null ? user.getRole().getName() : "null");
-
-                    if (user.getRole() != null && user.getRole().getId() != null) {
-                        Set<Permission> permissions = roleService.getPermissionsForRole(user.getRole().getId());
-                        log.info("User has {} permissions: {}",
-                                permissions.size(),
-                                permissions.stream().map(Permission::getName)
-                                        .collect(java.util.stream.Collectors.joining(", ")));
-
-                        boolean hasIt = permissions.stream()
-                                .anyMatch(permission -> Objects.equals(permission.getName(), permissionName));
-                        log.info("Has permission '{}': {}", permissionName, hasIt);
-                        return hasIt;
-                    }
-
-                    log.warn("User role or permissions is null - User ID: {}, Role: {}", userId, user.getRole() != null ? "null" : user.getRole().getName());
-                    return false;
-                })
-                .orElse(false);
+        return permissionMatrixService.hasPermission(userId, permissionName);
     }
 
     @Transactional(propagation = org.springframework.transaction.annotation.Propagation.REQUIRES_NEW)
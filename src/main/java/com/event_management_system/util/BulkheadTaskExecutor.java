@@ -0,0 +1,118 @@
+package com.event_management_system.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Fixed-size pool with a bounded queue for one kind of work, so a flood of
+ * one workload cannot starve the others. When the queue is full the
+ * {@link Backpressure} policy either runs the task on the submitting thread or
+ * blocks the submitter until a slot frees up (rejecting after a timeout).
+ * <p>
+ * Workers may hand work on to their own pool (a retry, a chained send) but
+ * must never wait for it with {@code join()} or {@code get()}: once every
+ * worker waits on queued work, nothing is left to run it. For the same reason
+ * a worker never blocks on its own full queue; under {@link Backpressure#BLOCK}
+ * its submission is rejected at once instead of after the timeout.
+ */
+public class BulkheadTaskExecutor extends ThreadPoolTaskExecutor {
+
+    public enum Backpressure {
+        CALLER_RUNS, BLOCK
+    }
+
+    private final String name;
+
+    private final int queueCapacity;
+
+    private final AtomicLong submitted = new AtomicLong();
+
+    private final AtomicLong callerRuns = new AtomicLong();
+
+    private final AtomicLong blockedSubmits = new AtomicLong();
+
+    private final AtomicLong rejected = new AtomicLong();
+
+    public BulkheadTaskExecutor(String name, int threads, int queueCapacity, Backpressure backpressure, long blockTimeoutMillis) {
+        this.name = name;
+        this.queueCapacity = queueCapacity;
+        setCorePoolSize(threads);
+        setMaxPoolSize(threads);
+        setQueueCapacity(queueCapacity);
+        setThreadNamePrefix(name + "-");
+        setWaitForTasksToCompleteOnShutdown(true);
+        setAwaitTerminationSeconds(60);
+        setRejectedExecutionHandler(backpressure == Backpressure.CALLER_RUNS
+                ? this::runOnCaller
+                : blockingHandler(blockTimeoutMillis));
+        setTaskDecorator(task -> {
+            submitted.incrementAndGet();
+            return task;
+        });
+    }
+
+    /**
+     * True when called from one of this pool's workers.
+     */
+    public boolean isWorkerThread() {
+        return Thread.currentThread().getName().startsWith(getThreadNamePrefix());
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        ThreadPoolExecutor executor = getThreadPoolExecutor();
+        metrics.put("poolSize", executor.getPoolSize());
+        metrics.put("active", executor.getActiveCount());
+        metrics.put("queueDepth", executor.getQueue().size());
+        metrics.put("queueCapacity", queueCapacity);
+        metrics.put("submitted", submitted.get());
+        metrics.put("completed", executor.getCompletedTaskCount());
+        metrics.put("callerRuns", callerRuns.get());
+        metrics.put("blockedSubmits", blockedSubmits.get());
+        metrics.put("rejected", rejected.get());
+        return metrics;
+    }
+
+    private void runOnCaller(Runnable task, ThreadPoolExecutor executor) {
+        if (executor.isShutdown()) {
+            rejected.incrementAndGet();
+            throw new RejectedExecutionException(name + " executor is shut down");
+        }
+        callerRuns.incrementAndGet();
+        task.run();
+    }
+
+    private RejectedExecutionHandler blockingHandler(long timeoutMillis) {
+        return (task, executor) -> {
+            if (isWorkerThread()) {
+                // Only workers drain the queue; one waiting on it could wait forever.
+                rejected.incrementAndGet();
+                throw new TaskRejectedException(name + " executor queue of " + queueCapacity
+                        + " is full; not blocking one of its own workers");
+            }
+            blockedSubmits.incrementAndGet();
+            try {
+                if (!executor.isShutdown() && executor.getQueue().offer(task, timeoutMillis, TimeUnit.MILLISECONDS)) {
+                    return;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            rejected.incrementAndGet();
+            throw new RejectedExecutionException(name + " executor is saturated (queue of " + queueCapacity + " full for "
+                    + timeoutMillis + "ms)");
+        };
+    }
+}
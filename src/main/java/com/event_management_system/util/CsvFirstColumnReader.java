@@ -0,0 +1,132 @@
+package com.event_management_system.util;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Pull tokenizer that returns the first column of each CSV record, lower-cased,
+ * without materialising lines or splitting whole rows. Handles RFC 4180
+ * quoting (including quoted commas, doubled quotes and line breaks inside
+ * quotes in later columns), CRLF/LF line ends, blank lines and a UTF-8 BOM.
+ * Field text beyond {@code maxFieldLength} is dropped, so one huge field
+ * cannot grow the buffer.
+ */
+public class CsvFirstColumnReader {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Reader reader;
+
+    private final int maxFieldLength;
+
+    private final char[] buffer = new char[BUFFER_SIZE];
+
+    private final StringBuilder field = new StringBuilder(64);
+
+    private int position;
+
+    private int limit;
+
+    private boolean started;
+
+    private boolean truncated;
+
+    private long records;
+
+    public CsvFirstColumnReader(Reader reader, int maxFieldLength) {
+        this.reader = reader;
+        this.maxFieldLength = maxFieldLength;
+    }
+
+    /**
+     * Returns the first column of the next non-blank record, or {@code null} at
+     * end of input.
+     */
+    public String next() throws IOException {
+        int c;
+        do {
+            c = read();
+        } while (c == '\r' || c == '\n');
+        if (c == -1) {
+            return null;
+        }
+
+        records++;
+        field.setLength(0);
+        truncated = false;
+
+        if (c == '"') {
+            while (true) {
+                c = read();
+                if (c == -1) {
+                    break;
+                }
+                if (c == '"') {
+                    c = read();
+                    if (c != '"') {
+                        break;
+                    }
+                }
+                append(c);
+            }
+        } else {
+            while (c != -1 && c != ',' && c != '\r' && c != '\n') {
+                append(c);
+                c = read();
+            }
+        }
+
+        skipRestOfRecord(c);
+        return field.toString();
+    }
+
+    /**
+     * Whether the last returned field was longer than {@code maxFieldLength}.
+     */
+    public boolean isTruncated() {
+        return truncated;
+    }
+
+    public long getRecordsRead() {
+        return records;
+    }
+
+    private void append(int c) {
+        if (field.length() < maxFieldLength) {
+            field.append(Character.toLowerCase((char) c));
+        } else {
+            truncated = true;
+        }
+    }
+
+    private void skipRestOfRecord(int c) throws IOException {
+        boolean inQuotes = false;
+        while (c != -1) {
+            if (c == '"') {
+                inQuotes = !inQuotes;
+            } else if (!inQuotes && (c == '\n' || c == '\r')) {
+                return;
+            }
+            c = read();
+        }
+    }
+
+    private int read() throws IOException {
+        if (position == limit) {
+            limit = reader.read(buffer, 0, BUFFER_SIZE);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return -1;
+            }
+            if (!started) {
+                started = true;
+                if (buffer[0] == '\uFEFF') {
+                    position = 1;
+                    return read();
+                }
+            }
+        }
+        return buffer[position++];
+    }
+}
@@ -0,0 +1,53 @@
+package com.event_management_system.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Keyset position in a history listing: the timestamp and id of the last row
+ * of the previous page. Sent to clients as an opaque URL-safe token.
+ */
+public record HistoryCursor(LocalDateTime at, long id) implements Comparable<HistoryCursor> {
+
+    /** Start position for listings ordered newest first. */
+    public static final HistoryCursor NEWEST = new HistoryCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    /** Start position for listings ordered oldest first. */
+    public static final HistoryCursor OLDEST = new HistoryCursor(LocalDateTime.of(1000, 1, 1, 0, 0), 0L);
+
+    @Override
+    public int compareTo(HistoryCursor other) {
+        int byTime = at.compareTo(other.at);
+        return byTime != 0 ? byTime : Long.compare(id, other.id);
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((at + "|" + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token produced by {@link #encode()}, or returns {@code start}
+     * when there is no token.
+     *
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static HistoryCursor decode(String token, HistoryCursor start) {
+        if (token == null || token.isBlank()) {
+            return start;
+        }
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = value.indexOf('|');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Malformed cursor: " + token);
+            }
+            return new HistoryCursor(LocalDateTime.parse(value.substring(0, separator)),
+                    Long.parseLong(value.substring(separator + 1)));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Malformed cursor: " + token, e);
+        }
+    }
+}
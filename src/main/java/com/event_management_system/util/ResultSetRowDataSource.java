@@ -0,0 +1,59 @@
+package com.event_management_system.util;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+
+import net.sf.jasperreports.engine.JRDataSource;
+import net.sf.jasperreports.engine.JRException;
+import net.sf.jasperreports.engine.JRField;
+
+/**
+ * Feeds Jasper one row at a time from an open, forward-only {@link ResultSet}.
+ * Report fields are matched to column labels, so the query aliases its columns
+ * with the DTO property names the template was generated from.
+ */
+public class ResultSetRowDataSource implements JRDataSource {
+
+    private final ResultSet resultSet;
+
+    private final Map<String, Integer> columnIndexes = new HashMap<>();
+
+    private long rowCount;
+
+    public ResultSetRowDataSource(ResultSet resultSet) {
+        this.resultSet = resultSet;
+    }
+
+    @Override
+    public boolean next() throws JRException {
+        try {
+            boolean hasNext = resultSet.next();
+            if (hasNext) {
+                rowCount++;
+            }
+            return hasNext;
+        } catch (SQLException e) {
+            throw new JRException("Failed to read next report row", e);
+        }
+    }
+
+    @Override
+    public Object getFieldValue(JRField field) throws JRException {
+        try {
+            Integer index = columnIndexes.get(field.getName());
+            if (index == null) {
+                index = resultSet.findColumn(field.getName());
+                columnIndexes.put(field.getName(), index);
+            }
+            return resultSet.getObject(index, field.getValueClass());
+        } catch (SQLException e) {
+            throw new JRException("Failed to read report field " + field.getName(), e);
+        }
+    }
+
+    public long getRowCount() {
+        return rowCount;
+    }
+}
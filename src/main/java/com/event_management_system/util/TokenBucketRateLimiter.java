@@ -0,0 +1,43 @@
+package com.event_management_system.util;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Blocking token bucket: permits refill continuously at a fixed rate up to
+ * {@code burst}. Callers reserve a permit under the lock and sleep outside it,
+ * so waiting callers queue up in arrival order without holding the monitor.
+ */
+public class TokenBucketRateLimiter {
+
+    private final double permitsPerNano;
+
+    private final double capacity;
+
+    private double available;
+
+    private long lastRefillNanos;
+
+    public TokenBucketRateLimiter(double permitsPerSecond, int burst) {
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("Rate and burst must be positive");
+        }
+        this.permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.capacity = burst;
+        this.available = burst;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    public void acquire() throws InterruptedException {
+        long waitNanos;
+        synchronized (this) {
+            long now = System.nanoTime();
+            available = Math.min(capacity, available + (now - lastRefillNanos) * permitsPerNano);
+            lastRefillNanos = now;
+            available -= 1;
+            waitNanos = available >= 0 ? 0 : (long) Math.ceil(-available / permitsPerNano);
+        }
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.event_management_system.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.event_management_system.mail.PooledMailTransport;
+import com.event_management_system.mail.SmtpCircuitBreaker;
+import com.event_management_system.util.BulkheadTaskExecutor;
+import com.event_management_system.util.BulkheadTaskExecutor.Backpressure;
+
+class EmailServiceTest {
+
+    private BulkheadTaskExecutor emailExecutor;
+
+    private ScheduledExecutorService retryScheduler;
+
+    private ExecutorService followUpExecutor;
+
+    private EmailService emailService;
+
+    @BeforeEach
+    void setUp() {
+        emailExecutor = new BulkheadTaskExecutor("email", 2, 10, Backpressure.BLOCK, 1000);
+        emailExecutor.initialize();
+        retryScheduler = Executors.newSingleThreadScheduledExecutor();
+        followUpExecutor = Executors.newSingleThreadExecutor();
+
+        PooledMailTransport transport = mock(PooledMailTransport.class);
+        when(transport.getCircuitBreaker()).thenReturn(new SmtpCircuitBreaker(5, 1000));
+        emailService = new EmailService(transport, mock(ApplicationLoggerService.class));
+        ReflectionTestUtils.setField(emailService, "mailExecutor", emailExecutor);
+        ReflectionTestUtils.setField(emailService, "mailRetryScheduler", retryScheduler);
+        ReflectionTestUtils.setField(emailService, "retryInitialDelayMillis", 10L);
+        ReflectionTestUtils.setField(emailService, "retryMaxDelayMillis", 50L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        emailExecutor.shutdown();
+        retryScheduler.shutdownNow();
+        followUpExecutor.shutdownNow();
+    }
+
+    @Test
+    void secondSendChainedOffTheEmailPoolIsSent() throws Exception {
+        AtomicInteger sends = new AtomicInteger();
+
+        CompletableFuture<Boolean> second = emailService.sendWithRetry(() -> sends.incrementAndGet() > 0, "first@example.com", 3)
+                .thenComposeAsync(sent -> emailService.sendWithRetry(() -> sends.incrementAndGet() > 0, "second@example.com", 3),
+                        followUpExecutor);
+
+        assertTrue(second.get(5, TimeUnit.SECONDS));
+        assertEquals(2, sends.get());
+    }
+
+    @Test
+    void secondSendChainedOnAnEmailWorkerIsSent() throws Exception {
+        CountDownLatch chained = new CountDownLatch(1);
+        AtomicInteger sends = new AtomicInteger();
+
+        CompletableFuture<Boolean> first = emailService.sendWithRetry(() -> {
+            try {
+                chained.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return sends.incrementAndGet() > 0;
+        }, "first@example.com", 1);
+        // Attached before the first send completes, so it runs on the email worker.
+        CompletableFuture<Boolean> second = first.thenCompose(
+                sent -> emailService.sendWithRetry(() -> sends.incrementAndGet() > 0, "second@example.com", 1));
+        chained.countDown();
+
+        assertTrue(first.get(5, TimeUnit.SECONDS));
+        assertTrue(second.get(5, TimeUnit.SECONDS));
+        assertEquals(2, sends.get());
+    }
+}
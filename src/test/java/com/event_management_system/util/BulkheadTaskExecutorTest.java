@@ -0,0 +1,40 @@
+package com.event_management_system.util;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.event_management_system.util.BulkheadTaskExecutor.Backpressure;
+
+class BulkheadTaskExecutorTest {
+
+    @Test
+    void workerSubmittingToItsOwnFullQueueIsRejectedWithoutBlocking() throws Exception {
+        BulkheadTaskExecutor pool = new BulkheadTaskExecutor("nested", 1, 1, Backpressure.BLOCK, 60_000);
+        pool.initialize();
+        try {
+            CountDownLatch release = new CountDownLatch(1);
+            CompletableFuture<Boolean> rejected = new CompletableFuture<>();
+            pool.execute(() -> {
+                try {
+                    pool.execute(() -> { });
+                    pool.execute(() -> { });
+                    rejected.complete(false);
+                } catch (RejectedExecutionException e) {
+                    rejected.complete(true);
+                }
+                release.countDown();
+            });
+
+            assertTrue(rejected.get(5, TimeUnit.SECONDS));
+            assertTrue(release.await(5, TimeUnit.SECONDS));
+        } finally {
+            pool.shutdown();
+        }
+    }
+}